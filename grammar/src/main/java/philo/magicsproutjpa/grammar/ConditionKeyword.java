@@ -0,0 +1,112 @@
+package philo.magicsproutjpa.grammar;
+
+import static java.util.Arrays.stream;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Query Method 이름에서 필드 이름 뒤에 붙는 조건 키워드입니다.
+ * <br>
+ * 예를들어 "BirthYearGreaterThan"은 "e.birthYear > ?1"이 됩니다.
+ * <br>
+ * 키워드가 없다면 EQUALS(=)로 해석합니다.
+ * <br>
+ * StartingWith, EndingWith, Containing은 값을 그대로 찾아야 하므로 값의 %, _, \를 이스케이프해서 바인딩하고 escape 절을 붙입니다.
+ * <br>
+ * Like, NotLike는 값을 패턴으로 사용하므로 이스케이프하지 않습니다.
+ */
+public enum ConditionKeyword {
+
+  EQUALS("", 1, "%s = %s"),
+  IS("Is", 1, "%s = %s"),
+  NOT("Not", 1, "%s <> %s"),
+  IS_NOT("IsNot", 1, "%s <> %s"),
+  BETWEEN("Between", 2, "%s between %s and %s"),
+  GREATER_THAN("GreaterThan", 1, "%s > %s"),
+  GREATER_THAN_EQUAL("GreaterThanEqual", 1, "%s >= %s"),
+  LESS_THAN("LessThan", 1, "%s < %s"),
+  LESS_THAN_EQUAL("LessThanEqual", 1, "%s <= %s"),
+  IN("In", 1, "%s in %s"),
+  NOT_IN("NotIn", 1, "%s not in %s"),
+  LIKE("Like", 1, "%s like %s"),
+  NOT_LIKE("NotLike", 1, "%s not like %s"),
+  STARTING_WITH("StartingWith", 1, "%s like concat(%s, '%%') escape '\\'", true),
+  ENDING_WITH("EndingWith", 1, "%s like concat('%%', %s) escape '\\'", true),
+  CONTAINING("Containing", 1, "%s like concat('%%', %s, '%%') escape '\\'", true),
+  IS_NULL("IsNull", 0, "%s is null"),
+  NULL("Null", 0, "%s is null"),
+  IS_NOT_NULL("IsNotNull", 0, "%s is not null"),
+  NOT_NULL("NotNull", 0, "%s is not null"),
+  TRUE("True", 0, "%s = true"),
+  IS_TRUE("IsTrue", 0, "%s = true"),
+  FALSE("False", 0, "%s = false"),
+  IS_FALSE("IsFalse", 0, "%s = false");
+
+  /**
+   * 짧은 키워드가 긴 키워드의 앞부분과 겹치지 않도록 긴 키워드부터 비교합니다. (예: NotIn과 Not)
+   */
+  public static final List<ConditionKeyword> LONGEST_FIRST = stream(values())
+      .sorted(Comparator.comparingInt((ConditionKeyword keyword) -> keyword.keyword.length()).reversed())
+      .toList();
+
+  private static final String LIKE_ESCAPE = "\\";
+
+  private final String keyword;
+  private final int parameterCount;
+  private final String jpqlTemplate;
+  private final boolean escapesValue;
+
+  ConditionKeyword(String keyword, int parameterCount, String jpqlTemplate) {
+    this(keyword, parameterCount, jpqlTemplate, false);
+  }
+
+  ConditionKeyword(String keyword, int parameterCount, String jpqlTemplate, boolean escapesValue) {
+    this.keyword = keyword;
+    this.parameterCount = parameterCount;
+    this.jpqlTemplate = jpqlTemplate;
+    this.escapesValue = escapesValue;
+  }
+
+  public String keyword() {
+    return keyword;
+  }
+
+  public int parameterCount() {
+    return parameterCount;
+  }
+
+  /**
+   * 바인딩할 값을 {@link #escapeLikeValue(Object)}로 이스케이프해야 하는지 여부입니다.
+   */
+  public boolean escapesValue() {
+    return escapesValue;
+  }
+
+  /**
+   * @param path 조건 필드 경로 (예: e.name)
+   * @param firstParameterIndex 이 조건의 첫 번째 위치 기반 파라미터 번호
+   */
+  public String toJpql(String path, int firstParameterIndex) {
+    Object[] arguments = new Object[parameterCount + 1];
+    arguments[0] = path;
+    for (int i = 0; i < parameterCount; i++) {
+      arguments[i + 1] = "?" + (firstParameterIndex + i);
+    }
+    return String.format(jpqlTemplate, arguments);
+  }
+
+  /**
+   * like 패턴에서 특별한 의미를 갖는 %, _와 이스케이프 문자 \ 앞에 \를 붙입니다. (예: "50%" → "50\%")
+   * <br>
+   * 문자열이 아닌 값은 그대로 반환합니다.
+   */
+  public static Object escapeLikeValue(Object value) {
+    if (!(value instanceof String text)) {
+      return value;
+    }
+    return text.replace(LIKE_ESCAPE, LIKE_ESCAPE + LIKE_ESCAPE)
+        .replace("%", LIKE_ESCAPE + "%")
+        .replace("_", LIKE_ESCAPE + "_");
+  }
+}
@@ -0,0 +1,68 @@
+package philo.magicsproutjpa.grammar;
+
+import java.util.List;
+
+/**
+ * 메서드 이름을 대상, 조건, 정렬, 최대 결과 수로 나눈 결과입니다.
+ * <br>
+ * 엔티티 이름과 조회할 필드(select 절)는 반환 타입에 따라 정해지므로 JPQL을 만들 때 전달합니다.
+ *
+ * @param methodName Query Method 이름
+ * @param prefix 메서드 이름의 접두어
+ * @param subject By 앞의 대상 (Top, First를 제외한 부분, update라면 바꿀 필드들)
+ * @param setClause update의 set 절 (update가 아니라면 빈 문자열)
+ * @param whereClause where 절 (조건이 없다면 빈 문자열)
+ * @param parameterCount 바꿀 값과 조건 값에 필요한 파라미터 수
+ * @param escapedParameters like 패턴으로 이스케이프해서 바인딩할 파라미터 위치들 (StartingWith, EndingWith, Containing)
+ * @param orderByClause order by 절 (정렬이 없다면 빈 문자열)
+ * @param maxResults 최대 결과 수 (0이면 제한 없음)
+ */
+public record ParsedQueryMethod(
+    String methodName,
+    QueryMethodPrefix prefix,
+    String subject,
+    String setClause,
+    String whereClause,
+    int parameterCount,
+    List<Integer> escapedParameters,
+    String orderByClause,
+    int maxResults
+) {
+
+  /**
+   * 대상이 필드 이름이라고 할 때의 필드 이름입니다. (예: findNameByBirthYear → name)
+   */
+  public String subjectAttribute() {
+    return QueryMethodGrammar.decapitalize(subject);
+  }
+
+  /**
+   * @param selectClause 조회할 대상 (예: e, count(e), e.name)
+   * @param entityName 엔티티 이름 (JPQL의 from 절)
+   */
+  public String selectJpql(String selectClause, String entityName) {
+    return "select " + selectClause + " from " + entityName + " e"
+        + (whereClause.isEmpty() ? "" : " where " + whereClause)
+        + (orderByClause.isEmpty() ? "" : " order by " + orderByClause);
+  }
+
+  /**
+   * @param selectedAttributes 조회할 필드 이름들 (record 컴포넌트, interface getter 순서)
+   * @param entityName 엔티티 이름 (JPQL의 from 절)
+   */
+  public String selectJpql(List<String> selectedAttributes, String entityName) {
+    return selectJpql(String.join(", ", selectedAttributes.stream()
+        .map(attribute -> "e." + attribute)
+        .toList()), entityName);
+  }
+
+  /**
+   * @param entityName 엔티티 이름
+   * @param versioned @Version 필드가 있다면 "update versioned"로 버전도 함께 올립니다
+   */
+  public String updateJpql(String entityName, boolean versioned) {
+    return "update " + (versioned ? "versioned " : "") + entityName + " e"
+        + " set " + setClause
+        + " where " + whereClause;
+  }
+}
@@ -0,0 +1,337 @@
+package philo.magicsproutjpa.grammar;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Query Method 이름의 문법입니다. 런타임의 QueryMethodParser와 어노테이션 프로세서가 함께 사용합니다.
+ * <br>
+ * 메서드 이름은 {접두어}{Top|First N}{대상}By{조건}OrderBy{정렬} 형태이며, 대상과 정렬은 생략할 수 있습니다.
+ * <br>
+ * - 조건: 필드 이름 뒤에 {@link ConditionKeyword}(GreaterThan, In, StartingWith 등)를 붙이고 And, Or로 연결합니다.
+ * <br>
+ * - 정렬: 필드 이름 뒤에 Asc, Desc를 붙입니다. (예: OrderByBirthYearDescNameAsc)
+ * <br>
+ * - update{필드}And{필드}By{조건}: 바꿀 값이 먼저 오고 조건 값이 뒤따르며, 조건은 반드시 있어야 합니다.
+ * <br>
+ * 엔티티 타입, 반환 타입은 다루지 않으므로 JPA나 리플렉션 없이 메서드 이름과 필드 이름만으로 해석합니다.
+ */
+public final class QueryMethodGrammar {
+
+  private static final Pattern QUERY_METHOD_NAME =
+      Pattern.compile("^(find|stream|count|exists|update)([A-Z]\\w*)?By[A-Z]\\w*$");
+  private static final Pattern FIND_WITHOUT_BY = Pattern.compile("^find[A-Z]\\w*$");
+  private static final Pattern SUBJECT_SEPARATOR = Pattern.compile("(?<!Order)By(?=[A-Z])");
+  private static final Pattern ORDER_BY_SEPARATOR = Pattern.compile("OrderBy(?=[A-Z])");
+  private static final Pattern CONNECTOR_PATTERN = Pattern.compile("(And|Or)(?=[A-Z])");
+  private static final Pattern LIMIT_PATTERN = Pattern.compile("^(Top|First)(\\d*)(?=[A-Z]|$)");
+  private static final String AND_KEYWORD = "And";
+  private static final String OR_KEYWORD = "Or";
+  private static final String ASC_KEYWORD = "Asc";
+  private static final String DESC_KEYWORD = "Desc";
+  private static final String GETTER_PREFIX = "get";
+  private static final String BOOLEAN_GETTER_PREFIX = "is";
+
+  private QueryMethodGrammar() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * {접두어}{Top|First N}{대상}By{조건} 형태인지 확인합니다. (예: findByName, findFirstByOrderByName, updateNameById)
+   * <br>
+   * 접두어로만 판단하면 findOrCreate, updateCache 같은 도우미 메서드도 Query Method로 해석되므로 By 뒤에 대문자가 와야 합니다.
+   */
+  public static boolean isQueryMethodName(String methodName) {
+    return QUERY_METHOD_NAME.matcher(methodName).matches();
+  }
+
+  /**
+   * By를 생략한 find{조건} 형태인지 확인합니다. (예: findBirthYear)
+   * <br>
+   * 도우미 메서드와 이름으로 구분할 수 없으므로, 조건이 엔티티의 필드로 해석될 때만 Query Method로 사용합니다.
+   */
+  public static boolean isFindWithoutBy(String methodName) {
+    return FIND_WITHOUT_BY.matcher(methodName).matches() && !isQueryMethodName(methodName);
+  }
+
+  /**
+   * 메서드 이름을 해석합니다.
+   *
+   * @param methodName Query Method 이름
+   * @param attributes 엔티티의 필드 이름들 (조건, 정렬, 바꿀 필드 검증에 사용)
+   * @return 해석한 결과
+   * @throws QueryMethodSyntaxException 접두어가 없거나, 조건이 없거나, 엔티티에 없는 필드를 사용한 경우
+   */
+  public static ParsedQueryMethod parse(String methodName, Set<String> attributes) {
+    QueryMethodPrefix prefix = QueryMethodPrefix.of(methodName)
+        .orElseThrow(() -> new QueryMethodSyntaxException("Unsupported query method '" + methodName + "'"));
+    String body = methodName.substring(prefix.prefix().length());
+    List<String> capitalizedAttributes = capitalizeLongestFirst(attributes);
+
+    if (prefix == QueryMethodPrefix.UPDATE) {
+      return parseUpdate(methodName, body, capitalizedAttributes);
+    }
+
+    String subject = "";
+    String predicate = body;
+    Matcher subjectMatcher = SUBJECT_SEPARATOR.matcher(body);
+    if (subjectMatcher.find()) {
+      subject = body.substring(0, subjectMatcher.start());
+      predicate = body.substring(subjectMatcher.end());
+    }
+
+    // 대상이 필드 이름 그대로라면(findFirstNameBy, findTopicBy) Top, First로 읽지 않는다
+    int maxResults = 0;
+    Matcher limitMatcher = LIMIT_PATTERN.matcher(subject);
+    if (!capitalizedAttributes.contains(subject) && limitMatcher.find()) {
+      maxResults = limitMatcher.group(2).isEmpty() ? 1 : Integer.parseInt(limitMatcher.group(2));
+      subject = subject.substring(limitMatcher.end());
+    }
+
+    String criteria = predicate;
+    String orderBy = "";
+    Matcher orderByMatcher = ORDER_BY_SEPARATOR.matcher(predicate);
+    if (orderByMatcher.find()) {
+      criteria = predicate.substring(0, orderByMatcher.start());
+      orderBy = predicate.substring(orderByMatcher.end());
+    }
+
+    if (criteria.isEmpty() && orderBy.isEmpty() && maxResults == 0) {
+      throw new QueryMethodSyntaxException("No condition in query method '" + methodName + "'");
+    }
+
+    List<List<String>> conditionGroups = new ArrayList<>();
+    List<Integer> escapedParameters = new ArrayList<>();
+    int parameterCount = parseConditions(methodName, criteria, capitalizedAttributes, conditionGroups,
+        escapedParameters, 1);
+    return new ParsedQueryMethod(
+        methodName,
+        prefix,
+        subject,
+        "",
+        buildWhereClause(conditionGroups),
+        parameterCount,
+        List.copyOf(escapedParameters),
+        parseOrderBy(methodName, orderBy, capitalizedAttributes),
+        prefix == QueryMethodPrefix.EXISTS ? 1 : maxResults); // 한 건만 찾으면 멈춘다
+  }
+
+  /**
+   * update{필드}And{필드}By{조건}을 해석합니다. 조건 없이 모든 레코드를 바꾸는 실수를 막기 위해 조건은 반드시 있어야 합니다.
+   */
+  private static ParsedQueryMethod parseUpdate(String methodName, String body, List<String> capitalizedAttributes) {
+    Matcher subjectMatcher = SUBJECT_SEPARATOR.matcher(body);
+    if (!subjectMatcher.find() || subjectMatcher.end() == body.length()) {
+      throw new QueryMethodSyntaxException("No condition in query method '" + methodName + "'");
+    }
+
+    String subject = body.substring(0, subjectMatcher.start());
+    List<String> assignments = parseAssignments(methodName, subject, capitalizedAttributes);
+    List<List<String>> conditionGroups = new ArrayList<>();
+    List<Integer> escapedParameters = new ArrayList<>();
+    int conditionParameterCount = parseConditions(methodName, body.substring(subjectMatcher.end()),
+        capitalizedAttributes, conditionGroups, escapedParameters, assignments.size() + 1);
+
+    return new ParsedQueryMethod(
+        methodName,
+        QueryMethodPrefix.UPDATE,
+        subject,
+        String.join(", ", assignments),
+        buildWhereClause(conditionGroups),
+        assignments.size() + conditionParameterCount,
+        List.copyOf(escapedParameters),
+        "",
+        0);
+  }
+
+  /**
+   * 조건 부분을 필드 이름과 키워드 단위로 읽어서 Or로 나뉜 그룹들을 만듭니다.
+   * <br>
+   * 필드 이름은 엔티티의 필드 중 가장 긴 것부터 비교하므로 필드 이름에 And, Or, In 등이 포함되어도 올바르게 해석됩니다.
+   *
+   * @param escapedParameters 값을 이스케이프해서 바인딩할 파라미터 위치를 모은다
+   * @param firstParameterIndex 첫 조건 값의 위치 (update의 set 값 뒤에 조건 값이 온다)
+   * @return 조건에 필요한 파라미터 수
+   */
+  private static int parseConditions(
+      String methodName,
+      String criteria,
+      List<String> capitalizedAttributes,
+      List<List<String>> conditionGroups,
+      List<Integer> escapedParameters,
+      int firstParameterIndex
+  ) {
+    if (criteria.isEmpty()) {
+      return 0;
+    }
+
+    List<String> currentGroup = new ArrayList<>();
+    conditionGroups.add(currentGroup);
+    int parameterIndex = firstParameterIndex;
+    int position = 0;
+
+    while (true) {
+      Condition condition = matchCondition(criteria, position, capitalizedAttributes);
+      if (condition == null) {
+        throw unknownProperty(methodName, criteria, position);
+      }
+
+      currentGroup.add(condition.keyword().toJpql("e." + decapitalize(condition.attribute()), parameterIndex));
+      if (condition.keyword().escapesValue()) {
+        escapedParameters.add(parameterIndex);
+      }
+      parameterIndex += condition.keyword().parameterCount();
+      position = condition.end();
+
+      if (position == criteria.length()) {
+        return parameterIndex - firstParameterIndex;
+      }
+      if (criteria.startsWith(OR_KEYWORD, position)) {
+        currentGroup = new ArrayList<>();
+        conditionGroups.add(currentGroup);
+        position += OR_KEYWORD.length();
+      } else {
+        position += AND_KEYWORD.length();
+      }
+    }
+  }
+
+  private record Condition(String attribute, ConditionKeyword keyword, int end) {
+
+  }
+
+  /**
+   * position에서 시작하는 "필드 이름 + 키워드"를 찾습니다.
+   * <br>
+   * 키워드 뒤에는 조건의 끝이거나 And, Or가 와야 합니다.
+   */
+  private static Condition matchCondition(String criteria, int position, List<String> capitalizedAttributes) {
+    for (String attribute : capitalizedAttributes) {
+      if (!criteria.startsWith(attribute, position)) {
+        continue;
+      }
+      int keywordStart = position + attribute.length();
+      for (ConditionKeyword keyword : ConditionKeyword.LONGEST_FIRST) {
+        int keywordEnd = keywordStart + keyword.keyword().length();
+        if (criteria.startsWith(keyword.keyword(), keywordStart) && isConditionEnd(criteria, keywordEnd)) {
+          return new Condition(attribute, keyword, keywordEnd);
+        }
+      }
+    }
+    return null;
+  }
+
+  private static boolean isConditionEnd(String criteria, int position) {
+    return position == criteria.length()
+        || CONNECTOR_PATTERN.matcher(criteria).region(position, criteria.length()).lookingAt();
+  }
+
+  /**
+   * update 대상 부분(NameAndBirthYear)을 "e.name = ?1, e.birthYear = ?2" 형태의 set 절 항목들로 바꿉니다.
+   */
+  private static List<String> parseAssignments(String methodName, String subject, List<String> capitalizedAttributes) {
+    if (subject.isEmpty()) {
+      throw new QueryMethodSyntaxException("No attribute to update in query method '" + methodName + "'");
+    }
+
+    List<String> assignments = new ArrayList<>();
+    int position = 0;
+    while (true) {
+      String attribute = matchAttribute(subject, position, capitalizedAttributes);
+      if (attribute == null) {
+        throw unknownProperty(methodName, subject, position);
+      }
+      position += attribute.length();
+      assignments.add("e." + decapitalize(attribute) + " = ?" + (assignments.size() + 1));
+
+      if (position == subject.length()) {
+        return assignments;
+      }
+      if (!subject.startsWith(AND_KEYWORD, position)) {
+        throw unknownProperty(methodName, subject, position);
+      }
+      position += AND_KEYWORD.length();
+    }
+  }
+
+  private static String parseOrderBy(String methodName, String orderBy, List<String> capitalizedAttributes) {
+    List<String> orders = new ArrayList<>();
+    int position = 0;
+
+    while (position < orderBy.length()) {
+      String attribute = matchAttribute(orderBy, position, capitalizedAttributes);
+      if (attribute == null) {
+        throw unknownProperty(methodName, orderBy, position);
+      }
+      position += attribute.length();
+
+      String direction = "asc";
+      if (orderBy.startsWith(DESC_KEYWORD, position)) {
+        direction = "desc";
+        position += DESC_KEYWORD.length();
+      } else if (orderBy.startsWith(ASC_KEYWORD, position)) {
+        position += ASC_KEYWORD.length();
+      }
+      orders.add("e." + decapitalize(attribute) + " " + direction);
+    }
+    return String.join(", ", orders);
+  }
+
+  private static String matchAttribute(String text, int position, List<String> capitalizedAttributes) {
+    return capitalizedAttributes.stream()
+        .filter(attribute -> text.startsWith(attribute, position))
+        .findFirst()
+        .orElse(null);
+  }
+
+  private static String buildWhereClause(List<List<String>> conditionGroups) {
+    if (conditionGroups.isEmpty()) {
+      return "";
+    }
+    if (conditionGroups.size() == 1) {
+      return String.join(" and ", conditionGroups.get(0));
+    }
+    return String.join(" or ", conditionGroups.stream()
+        .map(group -> group.size() == 1 ? group.get(0) : "(" + String.join(" and ", group) + ")")
+        .toList());
+  }
+
+  /**
+   * 프로젝션 interface의 getter 이름을 필드 이름으로 바꿉니다. (getName → name, isActive → active)
+   */
+  public static String toAttributeName(String getterName) {
+    if (getterName.startsWith(GETTER_PREFIX) && getterName.length() > GETTER_PREFIX.length()) {
+      return decapitalize(getterName.substring(GETTER_PREFIX.length()));
+    }
+    if (getterName.startsWith(BOOLEAN_GETTER_PREFIX) && getterName.length() > BOOLEAN_GETTER_PREFIX.length()) {
+      return decapitalize(getterName.substring(BOOLEAN_GETTER_PREFIX.length()));
+    }
+    return getterName;
+  }
+
+  public static String capitalize(String word) {
+    return word.isEmpty() ? word : word.substring(0, 1).toUpperCase() + word.substring(1);
+  }
+
+  public static String decapitalize(String word) {
+    return word.isEmpty() ? word : word.substring(0, 1).toLowerCase() + word.substring(1);
+  }
+
+  private static List<String> capitalizeLongestFirst(Set<String> attributes) {
+    return attributes.stream()
+        .map(QueryMethodGrammar::capitalize)
+        .sorted(Comparator.comparingInt(String::length).reversed())
+        .toList();
+  }
+
+  private static QueryMethodSyntaxException unknownProperty(String methodName, String text, int position) {
+    Matcher connectorMatcher = CONNECTOR_PATTERN.matcher(text);
+    int end = connectorMatcher.find(position + 1) ? connectorMatcher.start() : text.length();
+    return new QueryMethodSyntaxException(
+        "Unknown property '" + decapitalize(text.substring(position, end)) + "' in query method '" + methodName + "'");
+  }
+}
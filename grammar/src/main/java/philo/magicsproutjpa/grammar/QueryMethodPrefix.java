@@ -0,0 +1,36 @@
+package philo.magicsproutjpa.grammar;
+
+import static java.util.Arrays.stream;
+
+import java.util.Optional;
+
+/**
+ * Query Method 이름의 접두어입니다. 접두어에 따라 실행할 쿼리의 종류가 정해집니다.
+ */
+public enum QueryMethodPrefix {
+
+  FIND("find"),
+  STREAM("stream"),
+  COUNT("count"),
+  EXISTS("exists"),
+  UPDATE("update");
+
+  private final String prefix;
+
+  QueryMethodPrefix(String prefix) {
+    this.prefix = prefix;
+  }
+
+  public String prefix() {
+    return prefix;
+  }
+
+  /**
+   * 메서드 이름이 시작하는 접두어를 찾습니다.
+   */
+  public static Optional<QueryMethodPrefix> of(String methodName) {
+    return stream(values())
+        .filter(value -> methodName.startsWith(value.prefix))
+        .findFirst();
+  }
+}
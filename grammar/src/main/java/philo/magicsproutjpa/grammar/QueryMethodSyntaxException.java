@@ -0,0 +1,13 @@
+package philo.magicsproutjpa.grammar;
+
+/**
+ * Query Method 이름을 해석할 수 없을 때 발생합니다.
+ * <br>
+ * 런타임은 리포지토리 초기화 예외로, 어노테이션 프로세서는 컴파일 에러로 바꿉니다.
+ */
+public class QueryMethodSyntaxException extends RuntimeException {
+
+  public QueryMethodSyntaxException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,102 @@
+package philo.magicsproutjpa.grammar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryMethodGrammarTest {
+
+  private static final Set<String> ATTRIBUTES = Set.of("id", "name", "birthYear");
+
+  @DisplayName("[Grammar] 접두어, 대상, 조건, 정렬, 최대 결과 수로 나눈다")
+  @Test
+  void parse() {
+    // when
+    ParsedQueryMethod parsed = QueryMethodGrammar.parse("findTop3NameByBirthYearGreaterThanOrderByNameDesc", ATTRIBUTES);
+
+    // then
+    assertAll(
+        () -> assertThat(parsed.prefix()).isEqualTo(QueryMethodPrefix.FIND),
+        () -> assertThat(parsed.subjectAttribute()).isEqualTo("name"),
+        () -> assertThat(parsed.whereClause()).isEqualTo("e.birthYear > ?1"),
+        () -> assertThat(parsed.orderByClause()).isEqualTo("e.name desc"),
+        () -> assertThat(parsed.maxResults()).isEqualTo(3),
+        () -> assertThat(parsed.selectJpql("e." + parsed.subjectAttribute(), "Person"))
+            .isEqualTo("select e.name from Person e where e.birthYear > ?1 order by e.name desc")
+    );
+  }
+
+  @DisplayName("[Grammar] First, Top으로 시작하는 필드 이름은 최대 결과 수로 읽지 않는다")
+  @Test
+  void parse_limit_like_attribute() {
+    // given
+    Set<String> attributes = Set.of("id", "firstName", "topic", "name", "birthYear");
+
+    // when
+    ParsedQueryMethod firstName = QueryMethodGrammar.parse("findFirstNameByBirthYear", attributes);
+    ParsedQueryMethod topic = QueryMethodGrammar.parse("findTopicByBirthYear", attributes);
+    ParsedQueryMethod firstOfFirstName = QueryMethodGrammar.parse("findFirstFirstNameByBirthYear", attributes);
+    ParsedQueryMethod firstOfName = QueryMethodGrammar.parse("findFirstNameByBirthYear", ATTRIBUTES);
+
+    // then
+    assertAll(
+        () -> assertThat(firstName.subjectAttribute()).isEqualTo("firstName"),
+        () -> assertThat(firstName.maxResults()).isZero(),
+        () -> assertThat(topic.subjectAttribute()).isEqualTo("topic"),
+        () -> assertThat(topic.maxResults()).isZero(),
+        () -> assertThat(firstOfFirstName.subjectAttribute()).isEqualTo("firstName"),
+        () -> assertThat(firstOfFirstName.maxResults()).isEqualTo(1),
+        () -> assertThat(firstOfName.subjectAttribute()).isEqualTo("name"),
+        () -> assertThat(firstOfName.maxResults()).isEqualTo(1)
+    );
+  }
+
+  @DisplayName("[Grammar] update는 바꿀 값 뒤에 조건 값의 파라미터 번호를 붙인다")
+  @Test
+  void parse_update() {
+    // when
+    ParsedQueryMethod parsed = QueryMethodGrammar.parse("updateNameAndBirthYearById", ATTRIBUTES);
+
+    // then
+    assertAll(
+        () -> assertThat(parsed.parameterCount()).isEqualTo(3),
+        () -> assertThat(parsed.updateJpql("Person", true))
+            .isEqualTo("update versioned Person e set e.name = ?1, e.birthYear = ?2 where e.id = ?3")
+    );
+  }
+
+  @DisplayName("[Grammar] StartingWith, EndingWith, Containing 값의 파라미터 번호를 이스케이프 대상으로 모은다")
+  @Test
+  void parse_escapedParameters() {
+    // when
+    ParsedQueryMethod parsed = QueryMethodGrammar.parse("updateNameByNameStartingWithOrNameEndingWith", ATTRIBUTES);
+
+    // then
+    assertAll(
+        () -> assertThat(parsed.escapedParameters()).containsExactly(2, 3),
+        () -> assertThat(parsed.whereClause())
+            .isEqualTo("e.name like concat(?2, '%') escape '\\' or e.name like concat('%', ?3) escape '\\'"),
+        () -> assertThat(ConditionKeyword.escapeLikeValue("a_b%c\\")).isEqualTo("a\\_b\\%c\\\\"),
+        () -> assertThat(ConditionKeyword.escapeLikeValue(null)).isNull()
+    );
+  }
+
+  @DisplayName("[Grammar] 해석할 수 없는 이름은 QueryMethodSyntaxException이 발생한다")
+  @Test
+  void syntax_error() {
+    assertAll(
+        () -> assertThatThrownBy(() -> QueryMethodGrammar.parse("findByAge", ATTRIBUTES))
+            .isInstanceOf(QueryMethodSyntaxException.class)
+            .hasMessage("Unknown property 'age' in query method 'findByAge'"),
+        () -> assertThatThrownBy(() -> QueryMethodGrammar.parse("count", ATTRIBUTES))
+            .isInstanceOf(QueryMethodSyntaxException.class)
+            .hasMessage("No condition in query method 'count'"),
+        () -> assertThatThrownBy(() -> QueryMethodGrammar.parse("getByName", ATTRIBUTES))
+            .isInstanceOf(QueryMethodSyntaxException.class)
+    );
+  }
+}
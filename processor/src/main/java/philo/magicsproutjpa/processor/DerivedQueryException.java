@@ -0,0 +1,11 @@
+package philo.magicsproutjpa.processor;
+
+/**
+ * Query Method를 구현할 수 없을 때 발생하며, 메시지는 컴파일 에러로 출력됩니다.
+ */
+class DerivedQueryException extends RuntimeException {
+
+  DerivedQueryException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,101 @@
+package philo.magicsproutjpa.processor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import philo.magicsproutjpa.grammar.QueryMethodGrammar;
+
+/**
+ * 생성된 구현체가 런타임의 리플렉션 대신 사용하는 엔티티 정보입니다.
+ * <br>
+ * 런타임의 RepositoryMetadata와 같이 엔티티 클래스에 선언된 static이 아닌 필드만 사용합니다.
+ *
+ * @param type 엔티티 타입
+ * @param attributes 필드 이름과 타입 (선언 순서)
+ * @param idAttribute @Id 필드 이름
+ * @param generatedId @GeneratedValue 여부
+ * @param versionAttribute @Version 필드 이름 (없다면 null)
+ * @param nullableVersion 래퍼 타입 @Version 필드 여부
+ * @param persistable Persistable 구현 여부
+ */
+record EntityModel(
+    TypeElement type,
+    Map<String, TypeMirror> attributes,
+    String idAttribute,
+    boolean generatedId,
+    String versionAttribute,
+    boolean nullableVersion,
+    boolean persistable
+) {
+
+  private static final String ID_ANNOTATION = "jakarta.persistence.Id";
+  private static final String GENERATED_VALUE_ANNOTATION = "jakarta.persistence.GeneratedValue";
+  private static final String VERSION_ANNOTATION = "jakarta.persistence.Version";
+  private static final String PERSISTABLE = "philo.magicsproutjpa.core.Persistable";
+
+  static EntityModel of(TypeElement entity, ProcessingEnvironment processingEnv) {
+    Map<String, TypeMirror> attributes = new LinkedHashMap<>();
+    String idAttribute = null;
+    boolean generatedId = false;
+    String versionAttribute = null;
+    boolean nullableVersion = false;
+
+    for (VariableElement field : ElementFilter.fieldsIn(entity.getEnclosedElements())) {
+      if (field.getModifiers().contains(Modifier.STATIC) || field.getKind() != ElementKind.FIELD) {
+        continue;
+      }
+      String fieldName = field.getSimpleName().toString();
+      attributes.put(fieldName, field.asType());
+
+      if (hasAnnotation(field, ID_ANNOTATION)) {
+        if (idAttribute != null) {
+          throw new DerivedQueryException("Multiple Id fields found in entity " + entity.getSimpleName());
+        }
+        idAttribute = fieldName;
+        generatedId = hasAnnotation(field, GENERATED_VALUE_ANNOTATION);
+      }
+      if (hasAnnotation(field, VERSION_ANNOTATION)) {
+        versionAttribute = fieldName;
+        nullableVersion = !field.asType().getKind().isPrimitive();
+      }
+    }
+
+    if (idAttribute == null) {
+      throw new DerivedQueryException("Id field not found in entity " + entity.getSimpleName());
+    }
+    TypeElement persistableType = processingEnv.getElementUtils().getTypeElement(PERSISTABLE);
+    boolean persistable = persistableType != null
+        && processingEnv.getTypeUtils().isAssignable(entity.asType(), persistableType.asType());
+    return new EntityModel(entity, attributes, idAttribute, generatedId, versionAttribute, nullableVersion,
+        persistable);
+  }
+
+  String qualifiedName() {
+    return type.getQualifiedName().toString();
+  }
+
+  String name() {
+    return type.getSimpleName().toString();
+  }
+
+  boolean versioned() {
+    return versionAttribute != null;
+  }
+
+  static String getterName(String attribute) {
+    return "get" + QueryMethodGrammar.capitalize(attribute);
+  }
+
+  static boolean hasAnnotation(Element element, String qualifiedName) {
+    return element.getAnnotationMirrors().stream()
+        .anyMatch(annotation -> ((TypeElement) annotation.getAnnotationType().asElement())
+            .getQualifiedName().contentEquals(qualifiedName));
+  }
+}
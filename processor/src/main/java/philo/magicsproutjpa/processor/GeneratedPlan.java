@@ -0,0 +1,31 @@
+package philo.magicsproutjpa.processor;
+
+import java.util.List;
+
+/**
+ * 생성할 QueryMethodPlan 상수와 이를 실행하는 MimicJpaRepository 메서드입니다.
+ *
+ * @param methodName Query Method 이름
+ * @param jpql 위치 기반 파라미터(?1, ?2 ...)를 사용하는 JPQL
+ * @param parameterCount 바꿀 값과 조건 값에 필요한 파라미터 수
+ * @param resultType 조회 결과의 타입 (패키지 이름을 포함한 이름)
+ * @param resultKind 런타임의 QueryResultKind 이름
+ * @param resultMapper 조회 결과를 반환 타입으로 바꾸는 함수의 소스 코드
+ * @param maxResults 최대 결과 수 (0이면 제한 없음)
+ * @param escapedParameters like 패턴으로 이스케이프해서 바인딩할 파라미터 위치들
+ * @param invoker 생성된 메서드가 호출할 invoke*QueryMethodPlan 메서드 이름
+ */
+record GeneratedPlan(
+    String methodName,
+    String jpql,
+    int parameterCount,
+    String resultType,
+    String resultKind,
+    String resultMapper,
+    int maxResults,
+    List<Integer> escapedParameters,
+    String invoker
+) {
+
+  static final String IDENTITY_MAPPER = "java.util.function.Function.identity()";
+}
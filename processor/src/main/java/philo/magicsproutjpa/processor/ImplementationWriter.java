@@ -0,0 +1,170 @@
+package philo.magicsproutjpa.processor;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.VariableElement;
+import philo.magicsproutjpa.processor.QueryMethodProcessor.ImplementedMethod;
+
+/**
+ * 생성할 _Impl 클래스의 소스 코드를 만듭니다.
+ * <br>
+ * import 충돌이 없도록 모든 타입을 패키지 이름까지 적습니다.
+ * <br>
+ * 실행 계획 상수와 id, version getter 메서드 참조는 static 초기화 블록에서 GeneratedRepositoryMetadata로 등록합니다.
+ */
+final class ImplementationWriter {
+
+  private static final String PLAN_TYPE = "philo.magicsproutjpa.core.query.QueryMethodPlan";
+  private static final String KIND_TYPE = "philo.magicsproutjpa.core.query.QueryResultKind";
+  private static final String METADATA_TYPE = "philo.magicsproutjpa.core.GeneratedRepositoryMetadata";
+
+  private final String packageName;
+  private final String implName;
+  private final String repositoryName;
+  private final EntityModel entity;
+  private final String idTypeName;
+  private final List<ExecutableElement> constructors;
+  private final List<ImplementedMethod> methods;
+  private final List<GeneratedPlan> plans;
+  private final StringBuilder source = new StringBuilder();
+
+  ImplementationWriter(
+      String packageName,
+      String implName,
+      String repositoryName,
+      EntityModel entity,
+      String idTypeName,
+      List<ExecutableElement> constructors,
+      List<ImplementedMethod> methods,
+      List<GeneratedPlan> plans
+  ) {
+    this.packageName = packageName;
+    this.implName = implName;
+    this.repositoryName = repositoryName;
+    this.entity = entity;
+    this.idTypeName = idTypeName;
+    this.constructors = constructors;
+    this.methods = methods;
+    this.plans = plans;
+  }
+
+  String write() {
+    if (!packageName.isEmpty()) {
+      line("package " + packageName + ";");
+      line("");
+    }
+    line("@javax.annotation.processing.Generated(\"" + QueryMethodProcessor.class.getName() + "\")");
+    line("public class " + implName + " extends " + repositoryName + " {");
+    plans.forEach(this::writePlan);
+    writeMetadata();
+    constructors.forEach(this::writeConstructor);
+    methods.forEach(this::writeMethod);
+    line("}");
+    return source.toString();
+  }
+
+  private void writePlan(GeneratedPlan plan) {
+    line("");
+    line("  private static final " + PLAN_TYPE + " " + constantName(plan.methodName()) + " = new " + PLAN_TYPE + "(");
+    line("      \"" + plan.methodName() + "\",");
+    line("      \"" + escape(plan.jpql()) + "\",");
+    line("      " + plan.parameterCount() + ",");
+    line("      " + plan.resultType() + ".class,");
+    line("      " + KIND_TYPE + "." + plan.resultKind() + ",");
+    List<String> mapperLines = plan.resultMapper().lines().toList();
+    for (int i = 0; i < mapperLines.size(); i++) {
+      String mapperLine = mapperLines.get(i);
+      line((mapperLine.isEmpty() ? "" : "      " + mapperLine) + (i == mapperLines.size() - 1 ? "," : ""));
+    }
+    line("      " + plan.maxResults() + ",");
+    line("      java.util.List.of(" + plan.escapedParameters().stream()
+        .map(String::valueOf)
+        .collect(Collectors.joining(", ")) + "));");
+  }
+
+  /**
+   * 런타임에 리플렉션으로 구하던 엔티티 메타데이터를 등록합니다.
+   */
+  private void writeMetadata() {
+    String entityName = entity.qualifiedName();
+    line("");
+    line("  static {");
+    line("    " + METADATA_TYPE + ".<" + entityName + ", " + idTypeName + ">of(" + entityName + ".class)");
+    line("        .id(\"" + entity.idAttribute() + "\", " + entityName + "::"
+        + EntityModel.getterName(entity.idAttribute()) + ", " + entity.generatedId() + ")");
+    if (entity.versioned()) {
+      line("        .version(" + entityName + "::" + EntityModel.getterName(entity.versionAttribute()) + ", "
+          + entity.nullableVersion() + ")");
+    }
+    line("        .persistable(" + entity.persistable() + ")");
+    line("        .attributes(" + entity.attributes().keySet().stream()
+        .map(attribute -> "\"" + attribute + "\"")
+        .collect(Collectors.joining(", ")) + ")");
+    line("        .plans(" + plans.stream()
+        .map(plan -> constantName(plan.methodName()))
+        .collect(Collectors.joining(", ")) + ")");
+    line("        .register(" + implName + ".class);");
+    line("  }");
+  }
+
+  private void writeConstructor(ExecutableElement constructor) {
+    line("");
+    line("  public " + implName + "(" + parameterDeclarations(constructor) + ") {");
+    line("    super(" + parameterNames(constructor) + ");");
+    line("  }");
+  }
+
+  private void writeMethod(ImplementedMethod implementedMethod) {
+    ExecutableElement method = implementedMethod.method();
+    GeneratedPlan plan = implementedMethod.plan();
+    String arguments = constantName(plan.methodName())
+        + (method.getParameters().isEmpty() ? "" : ", " + parameterNames(method));
+
+    line("");
+    line("  @java.lang.Override");
+    line("  @" + QueryMethodProcessor.QUERY_METHOD);
+    line("  " + visibility(method) + method.getReturnType() + " " + plan.methodName()
+        + "(" + parameterDeclarations(method) + ") {");
+    line("    return " + plan.invoker() + "(" + arguments + ");");
+    line("  }");
+  }
+
+  private static String visibility(ExecutableElement method) {
+    return method.getModifiers().stream()
+        .filter(modifier -> switch (modifier) {
+          case PUBLIC, PROTECTED -> true;
+          default -> false;
+        })
+        .map(modifier -> modifier + " ")
+        .collect(Collectors.joining());
+  }
+
+  private static String parameterDeclarations(ExecutableElement executable) {
+    return executable.getParameters().stream()
+        .map(parameter -> parameter.asType() + " " + parameter.getSimpleName())
+        .collect(Collectors.joining(", "));
+  }
+
+  private static String parameterNames(ExecutableElement executable) {
+    return executable.getParameters().stream()
+        .map(VariableElement::getSimpleName)
+        .collect(Collectors.joining(", "));
+  }
+
+  /**
+   * findByNameAndBirthYear → FIND_BY_NAME_AND_BIRTH_YEAR
+   */
+  static String constantName(String methodName) {
+    return methodName.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+  }
+
+  private static String escape(String text) {
+    return text.replace("\\", "\\\\").replace("\"", "\\\"");
+  }
+
+  private void line(String text) {
+    source.append(text).append('\n');
+  }
+}
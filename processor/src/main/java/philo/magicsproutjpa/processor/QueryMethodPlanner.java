@@ -0,0 +1,276 @@
+package philo.magicsproutjpa.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import philo.magicsproutjpa.grammar.ParsedQueryMethod;
+import philo.magicsproutjpa.grammar.QueryMethodGrammar;
+import philo.magicsproutjpa.grammar.QueryMethodPrefix;
+import philo.magicsproutjpa.grammar.QueryMethodSyntaxException;
+
+/**
+ * 메서드의 이름과 반환 타입으로 생성할 실행 계획을 만듭니다.
+ * <br>
+ * 런타임의 QueryMethodParser와 같은 문법({@link QueryMethodGrammar})과 같은 반환 타입 규칙을 따르며,
+ * 프로젝션은 리플렉션 대신 record 생성자, interface 구현을 직접 호출하는 코드로 만듭니다.
+ */
+final class QueryMethodPlanner {
+
+  private static final String TUPLE_TYPE = "jakarta.persistence.Tuple";
+  private static final String LIST_TYPE = "java.util.List";
+  private static final String STREAM_TYPE = "java.util.stream.Stream";
+
+  private final ProcessingEnvironment processingEnv;
+  private final EntityModel entity;
+
+  QueryMethodPlanner(ProcessingEnvironment processingEnv, EntityModel entity) {
+    this.processingEnv = processingEnv;
+    this.entity = entity;
+  }
+
+  /**
+   * @param method Query Method
+   * @param implemented 구현할 추상 메서드라면 파라미터 수와 반환 타입도 검사합니다
+   */
+  GeneratedPlan plan(ExecutableElement method, boolean implemented) {
+    String methodName = method.getSimpleName().toString();
+    ParsedQueryMethod parsed;
+    try {
+      parsed = QueryMethodGrammar.parse(methodName, entity.attributes().keySet());
+    } catch (QueryMethodSyntaxException e) { // 예외 전환
+      throw new DerivedQueryException(e.getMessage());
+    }
+
+    if (implemented && method.getParameters().size() != parsed.parameterCount()) {
+      throw new DerivedQueryException("Query method '" + methodName + "' requires " + parsed.parameterCount()
+          + " arguments but declares " + method.getParameters().size());
+    }
+
+    TypeMirror returnType = method.getReturnType();
+    return switch (parsed.prefix()) {
+      case UPDATE -> {
+        assertReturnType(implemented, methodName, returnType, TypeKind.INT, "java.lang.Integer", "int");
+        yield new GeneratedPlan(methodName, parsed.updateJpql(entity.name(), entity.versioned()),
+            parsed.parameterCount(), "java.lang.Integer", "UPDATE", GeneratedPlan.IDENTITY_MAPPER, 0,
+            parsed.escapedParameters(), "invokeUpdateQueryMethodPlan");
+      }
+      case COUNT -> {
+        assertReturnType(implemented, methodName, returnType, TypeKind.LONG, "java.lang.Long", "long");
+        yield selectPlan(parsed, "count(e)", "java.lang.Long", "COUNT", GeneratedPlan.IDENTITY_MAPPER,
+            "invokeCountQueryMethodPlan");
+      }
+      case EXISTS -> {
+        assertReturnType(implemented, methodName, returnType, TypeKind.BOOLEAN, "java.lang.Boolean", "boolean");
+        yield selectPlan(parsed, "1", "java.lang.Integer", "EXISTS", GeneratedPlan.IDENTITY_MAPPER,
+            "invokeExistsQueryMethodPlan");
+      }
+      case FIND, STREAM -> findPlan(parsed, returnType, implemented);
+    };
+  }
+
+  /**
+   * find, stream의 반환 타입 List&lt;T&gt;, Stream&lt;T&gt;에서 T에 따라 엔티티 또는 프로젝션 실행 계획을 만듭니다.
+   */
+  private GeneratedPlan findPlan(ParsedQueryMethod parsed, TypeMirror returnType, boolean implemented) {
+    String methodName = parsed.methodName();
+    boolean stream = parsed.prefix() == QueryMethodPrefix.STREAM;
+    String containerType = stream ? STREAM_TYPE : LIST_TYPE;
+    TypeMirror elementType = resolveElementType(returnType);
+    if (implemented && (elementType == null || !isType(types().erasure(returnType), containerType))) {
+      throw mustReturn(methodName, containerType, entity.name());
+    }
+
+    String selectedAttribute = parsed.subjectAttribute();
+    if (entity.attributes().containsKey(selectedAttribute) && !stream) {
+      TypeMirror attributeType = boxed(entity.attributes().get(selectedAttribute));
+      if (implemented && !types().isSameType(elementType, attributeType)) {
+        throw mustReturn(methodName, containerType, simpleName(attributeType));
+      }
+      return selectPlan(parsed, "e." + selectedAttribute, typeName(attributeType), "PROJECTION",
+          GeneratedPlan.IDENTITY_MAPPER, "invokeProjectionQueryMethodPlan");
+    }
+
+    if (elementType == null || types().isSameType(elementType, entity.type().asType())) {
+      return selectPlan(parsed, "e", entity.qualifiedName(), "ENTITY", GeneratedPlan.IDENTITY_MAPPER,
+          stream ? "streamQueryMethodPlan" : "invokeQueryMethodPlan");
+    }
+    if (stream) {
+      throw mustReturn(methodName, containerType, entity.name()); // 프로젝션은 List로만 반환한다
+    }
+
+    TypeElement projection = (TypeElement) types().asElement(elementType);
+    if (projection == null || (projection.getKind() != ElementKind.RECORD
+        && projection.getKind() != ElementKind.INTERFACE)) {
+      throw new DerivedQueryException(
+          "Unsupported return type '" + simpleName(elementType) + "' in query method '" + methodName + "'");
+    }
+    if (projection.getModifiers().contains(Modifier.PRIVATE)) {
+      throw new DerivedQueryException("Projection type '" + projection.getSimpleName()
+          + "' must not be private in query method '" + methodName + "'");
+    }
+    return projection.getKind() == ElementKind.RECORD
+        ? recordPlan(parsed, projection)
+        : interfacePlan(parsed, (DeclaredType) elementType, projection);
+  }
+
+  /**
+   * record 컴포넌트 순서대로 필드를 조회해서 canonical 생성자를 호출합니다.
+   */
+  private GeneratedPlan recordPlan(ParsedQueryMethod parsed, TypeElement record) {
+    List<String> selectedAttributes = new ArrayList<>();
+    List<String> arguments = new ArrayList<>();
+    for (RecordComponentElement component : record.getRecordComponents()) {
+      selectedAttributes.add(component.getSimpleName().toString());
+      arguments.add(tupleValue(component.asType(), arguments.size()));
+    }
+    assertAttributesExist(parsed.methodName(), selectedAttributes);
+
+    String mapper = "result -> {\n"
+        + "  " + TUPLE_TYPE + " tuple = (" + TUPLE_TYPE + ") result;\n"
+        + "  return new " + record.getQualifiedName() + "(" + String.join(", ", arguments) + ");\n"
+        + "}";
+    return projectionPlan(parsed, selectedAttributes, mapper);
+  }
+
+  /**
+   * interface getter 순서대로 필드를 조회해서 getter가 조회한 값을 돌려주는 익명 클래스를 만듭니다.
+   */
+  private GeneratedPlan interfacePlan(ParsedQueryMethod parsed, DeclaredType interfaceType, TypeElement view) {
+    List<String> selectedAttributes = new ArrayList<>();
+    StringBuilder getters = new StringBuilder();
+    for (ExecutableElement getter : ElementFilter.methodsIn(elements().getAllMembers(view))) {
+      if (!getter.getModifiers().contains(Modifier.ABSTRACT)) {
+        continue;
+      }
+      if (!getter.getParameters().isEmpty() || !getter.getTypeParameters().isEmpty()) {
+        throw new DerivedQueryException("Projection method '" + getter.getSimpleName() + "' in '"
+            + view.getSimpleName() + "' must be a getter in query method '" + parsed.methodName() + "'");
+      }
+      TypeMirror getterType = ((ExecutableType) types().asMemberOf(interfaceType, getter)).getReturnType();
+      getters.append("    @java.lang.Override\n")
+          .append("    public ").append(getterType).append(' ').append(getter.getSimpleName()).append("() {\n")
+          .append("      return ").append(tupleValue(getterType, selectedAttributes.size())).append(";\n")
+          .append("    }\n\n");
+      selectedAttributes.add(QueryMethodGrammar.toAttributeName(getter.getSimpleName().toString()));
+    }
+    assertAttributesExist(parsed.methodName(), selectedAttributes);
+
+    List<String> values = new ArrayList<>();
+    for (int i = 0; i < selectedAttributes.size(); i++) {
+      values.add(selectedAttributes.get(i) + "=\" + tuple.get(" + i + ") + \"");
+    }
+    String mapper = "result -> {\n"
+        + "  " + TUPLE_TYPE + " tuple = (" + TUPLE_TYPE + ") result;\n"
+        + "  return new " + types().erasure(interfaceType) + "() {\n"
+        + getters
+        + "    @java.lang.Override\n"
+        + "    public java.lang.String toString() {\n"
+        + "      return \"" + view.getSimpleName() + "{" + String.join(", ", values) + "}\";\n"
+        + "    }\n"
+        + "  };\n"
+        + "}";
+    return projectionPlan(parsed, selectedAttributes, mapper);
+  }
+
+  private GeneratedPlan projectionPlan(ParsedQueryMethod parsed, List<String> selectedAttributes, String mapper) {
+    return new GeneratedPlan(parsed.methodName(), parsed.selectJpql(selectedAttributes, entity.name()),
+        parsed.parameterCount(), TUPLE_TYPE, "PROJECTION", mapper, parsed.maxResults(),
+        parsed.escapedParameters(), "invokeProjectionQueryMethodPlan");
+  }
+
+  private GeneratedPlan selectPlan(
+      ParsedQueryMethod parsed,
+      String selectClause,
+      String resultType,
+      String resultKind,
+      String resultMapper,
+      String invoker
+  ) {
+    return new GeneratedPlan(parsed.methodName(), parsed.selectJpql(selectClause, entity.name()),
+        parsed.parameterCount(), resultType, resultKind, resultMapper, parsed.maxResults(),
+        parsed.escapedParameters(), invoker);
+  }
+
+  /**
+   * Tuple의 값을 받을 타입으로 변환하는 코드입니다. 기본 타입은 래퍼 타입으로 변환한 뒤 언박싱됩니다.
+   */
+  private String tupleValue(TypeMirror type, int index) {
+    return "(" + typeName(boxed(type)) + ") tuple.get(" + index + ")";
+  }
+
+  private void assertReturnType(
+      boolean implemented,
+      String methodName,
+      TypeMirror returnType,
+      TypeKind primitiveKind,
+      String wrapperType,
+      String expected
+  ) {
+    if (implemented && returnType.getKind() != primitiveKind && !isType(returnType, wrapperType)) {
+      throw new DerivedQueryException("Query method '" + methodName + "' must return " + expected);
+    }
+  }
+
+  private void assertAttributesExist(String methodName, List<String> selectedAttributes) {
+    for (String attribute : selectedAttributes) {
+      if (!entity.attributes().containsKey(attribute)) {
+        throw new DerivedQueryException("Unknown property '" + attribute + "' in query method '" + methodName + "'");
+      }
+    }
+  }
+
+  /**
+   * List&lt;T&gt;, Stream&lt;T&gt; 반환 타입에서 T를 구합니다. 알 수 없다면 null을 반환합니다.
+   */
+  private static TypeMirror resolveElementType(TypeMirror returnType) {
+    if (returnType instanceof DeclaredType declaredType && declaredType.getTypeArguments().size() == 1
+        && declaredType.getTypeArguments().get(0).getKind() == TypeKind.DECLARED) {
+      return declaredType.getTypeArguments().get(0);
+    }
+    return null;
+  }
+
+  private static DerivedQueryException mustReturn(String methodName, String containerType, String elementName) {
+    String container = containerType.substring(containerType.lastIndexOf('.') + 1);
+    return new DerivedQueryException(
+        "Query method '" + methodName + "' must return " + container + "<" + elementName + ">");
+  }
+
+  private TypeMirror boxed(TypeMirror type) {
+    return type.getKind().isPrimitive() ? types().boxedClass((PrimitiveType) type).asType() : type;
+  }
+
+  private String typeName(TypeMirror type) {
+    return types().erasure(type).toString();
+  }
+
+  private String simpleName(TypeMirror type) {
+    return types().asElement(type) == null ? type.toString() : types().asElement(type).getSimpleName().toString();
+  }
+
+  static boolean isType(TypeMirror type, String qualifiedName) {
+    return type instanceof DeclaredType declaredType
+        && ((TypeElement) declaredType.asElement()).getQualifiedName().contentEquals(qualifiedName);
+  }
+
+  private Types types() {
+    return processingEnv.getTypeUtils();
+  }
+
+  private Elements elements() {
+    return processingEnv.getElementUtils();
+  }
+}
@@ -0,0 +1,200 @@
+package philo.magicsproutjpa.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import philo.magicsproutjpa.grammar.QueryMethodGrammar;
+
+/**
+ * {@code @QueryMethod}를 붙인 추상 메서드를 구현하는 {리포지토리 이름}_Impl 클래스를 만듭니다.
+ * <br>
+ * 컴파일 시점에 메서드 이름을 해석해서 JPQL을 상수로 넣고, 엔티티에 없는 필드 이름은 컴파일 에러로 알립니다.
+ * <br>
+ * 생성된 메서드는 MimicJpaRepository의 invoke*QueryMethodPlan을 호출하므로 런타임에 메서드 이름을 해석하지 않습니다.
+ * <br>
+ * 생성된 클래스는 id, version getter와 실행 계획을 GeneratedRepositoryMetadata로 등록하므로 런타임에 엔티티를 리플렉션으로 해석하지 않습니다.
+ */
+@SupportedAnnotationTypes(QueryMethodProcessor.QUERY_METHOD)
+public class QueryMethodProcessor extends AbstractProcessor {
+
+  static final String QUERY_METHOD = "philo.magicsproutjpa.core.QueryMethod";
+  static final String REPOSITORY = "philo.magicsproutjpa.core.MimicJpaRepository";
+  static final String IMPL_SUFFIX = "_Impl";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    TypeElement queryMethodAnnotation = processingEnv.getElementUtils().getTypeElement(QUERY_METHOD);
+    if (queryMethodAnnotation == null) {
+      return false;
+    }
+
+    Map<TypeElement, List<ExecutableElement>> methodsByRepository = new LinkedHashMap<>();
+    for (Element element : roundEnv.getElementsAnnotatedWith(queryMethodAnnotation)) {
+      ExecutableElement method = (ExecutableElement) element;
+      if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+        continue; // 생성된 구현 메서드
+      }
+      methodsByRepository.computeIfAbsent((TypeElement) method.getEnclosingElement(), type -> new ArrayList<>())
+          .add(method);
+    }
+
+    methodsByRepository.forEach((repository, methods) -> {
+      try {
+        generate(repository, methods);
+      } catch (DerivedQueryException e) {
+        error(repository, e.getMessage());
+      }
+    });
+    return false;
+  }
+
+  private void generate(TypeElement repository, List<ExecutableElement> methods) {
+    if (!repository.getModifiers().contains(Modifier.ABSTRACT)) {
+      throw new DerivedQueryException("Repository with @QueryMethod must be abstract: " + repository.getSimpleName());
+    }
+
+    List<? extends TypeMirror> typeArguments = findRepositoryTypeArguments(repository.asType());
+    if (typeArguments == null || typeArguments.get(0).getKind() != TypeKind.DECLARED) {
+      throw new DerivedQueryException(
+          repository.getSimpleName() + " must extend MimicJpaRepository<Entity, Id> with concrete types");
+    }
+    TypeElement entity = (TypeElement) ((DeclaredType) typeArguments.get(0)).asElement();
+    TypeMirror idType = typeArguments.get(1);
+    EntityModel entityModel = EntityModel.of(entity, processingEnv);
+    QueryMethodPlanner planner = new QueryMethodPlanner(processingEnv, entityModel);
+
+    List<ImplementedMethod> implementedMethods = new ArrayList<>();
+    Set<String> methodNames = new HashSet<>();
+    boolean valid = true;
+    for (ExecutableElement method : methods) {
+      String methodName = method.getSimpleName().toString();
+      try {
+        if (!methodNames.add(methodName)) {
+          throw new DerivedQueryException("Overloaded query method is not supported: '" + methodName + "'");
+        }
+        implementedMethods.add(new ImplementedMethod(method, planner.plan(method, true)));
+      } catch (DerivedQueryException e) {
+        error(method, e.getMessage());
+        valid = false;
+      }
+    }
+
+    List<GeneratedPlan> plans = new ArrayList<>(implementedMethods.stream().map(ImplementedMethod::plan).toList());
+    for (ExecutableElement method : findDelegatingQueryMethods(repository, methodNames)) {
+      boolean withoutBy = QueryMethodGrammar.isFindWithoutBy(method.getSimpleName().toString());
+      try {
+        plans.add(planner.plan(method, false));
+      } catch (DerivedQueryException e) {
+        if (!withoutBy) { // By를 생략한 find{조건}이 해석되지 않으면 도우미 메서드로 본다
+          error(method, e.getMessage());
+          valid = false;
+        }
+      }
+    }
+    if (valid) {
+      write(repository, entityModel, idType, implementedMethods, plans);
+    }
+  }
+
+  /**
+   * invokeQueryMethod 등에 위임하는 Query Method들을 찾습니다. 런타임의 RepositoryMetadata가 리플렉션으로 찾던 메서드와 같습니다.
+   * <br>
+   * MimicJpaRepository가 제공하는 메서드를 재정의한 경우는 제외하고, 같은 이름이라면 하위 클래스에 선언된 메서드를 우선합니다.
+   * <br>
+   * By를 생략한 find{조건}도 포함하며, 엔티티의 필드로 해석되지 않는다면 런타임과 같이 건너뜁니다.
+   */
+  private List<ExecutableElement> findDelegatingQueryMethods(TypeElement repository, Set<String> implementedNames) {
+    TypeElement baseRepository = processingEnv.getElementUtils().getTypeElement(REPOSITORY);
+    Set<String> baseMethodNames = ElementFilter.methodsIn(baseRepository.getEnclosedElements()).stream()
+        .map(method -> method.getSimpleName().toString())
+        .collect(Collectors.toSet());
+
+    Map<String, ExecutableElement> methods = new LinkedHashMap<>();
+    TypeElement type = repository;
+    while (type != null && !type.getQualifiedName().contentEquals(REPOSITORY)) {
+      for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+        String methodName = method.getSimpleName().toString();
+        if ((QueryMethodGrammar.isQueryMethodName(methodName) || QueryMethodGrammar.isFindWithoutBy(methodName))
+            && !baseMethodNames.contains(methodName)
+            && !implementedNames.contains(methodName)
+            && !EntityModel.hasAnnotation(method, QUERY_METHOD)) {
+          methods.putIfAbsent(methodName, method);
+        }
+      }
+      type = type.getSuperclass() instanceof DeclaredType superclass ? (TypeElement) superclass.asElement() : null;
+    }
+    return new ArrayList<>(methods.values());
+  }
+
+  /**
+   * 상위 타입을 따라 올라가며 MimicJpaRepository&lt;E, K&gt;의 타입 인자를 찾습니다.
+   */
+  private List<? extends TypeMirror> findRepositoryTypeArguments(TypeMirror type) {
+    for (TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type)) {
+      if (supertype instanceof DeclaredType declaredType
+          && ((TypeElement) declaredType.asElement()).getQualifiedName().contentEquals(REPOSITORY)) {
+        return declaredType.getTypeArguments();
+      }
+      List<? extends TypeMirror> found = findRepositoryTypeArguments(supertype);
+      if (found != null) {
+        return found;
+      }
+    }
+    return null;
+  }
+
+  private void write(
+      TypeElement repository,
+      EntityModel entityModel,
+      TypeMirror idType,
+      List<ImplementedMethod> methods,
+      List<GeneratedPlan> plans
+  ) {
+    String packageName = processingEnv.getElementUtils().getPackageOf(repository).getQualifiedName().toString();
+    String implName = repository.getSimpleName() + IMPL_SUFFIX;
+    List<ExecutableElement> constructors = ElementFilter.constructorsIn(repository.getEnclosedElements()).stream()
+        .filter(constructor -> !constructor.getModifiers().contains(Modifier.PRIVATE))
+        .toList();
+
+    String source = new ImplementationWriter(packageName, implName, repository.getQualifiedName().toString(),
+        entityModel, idType.toString(), constructors, methods, plans).write();
+    String qualifiedImplName = packageName.isEmpty() ? implName : packageName + "." + implName;
+    try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedImplName, repository).openWriter()) {
+      writer.write(source);
+    } catch (IOException e) {
+      error(repository, "Failed to write " + qualifiedImplName + ": " + e.getMessage());
+    }
+  }
+
+  private void error(Element element, String message) {
+    processingEnv.getMessager().printMessage(Kind.ERROR, message, element);
+  }
+
+  record ImplementedMethod(ExecutableElement method, GeneratedPlan plan) {
+
+  }
+}
@@ -0,0 +1,275 @@
+package philo.magicsproutjpa.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import philo.magicsproutjpa.business.person.Person;
+import philo.magicsproutjpa.core.query.QueryMethodParser;
+import philo.magicsproutjpa.core.query.QueryMethodPlan;
+
+class QueryMethodProcessorTest {
+
+  @TempDir
+  Path outputDirectory;
+
+  @DisplayName("[Processor] @QueryMethod 메서드 이름을 JPQL 상수로 바꾼 _Impl 클래스를 만든다")
+  @Test
+  void generateImplementation() throws IOException {
+    // given
+    String source = """
+        package sample;
+
+        import java.util.List;
+        import philo.magicsproutjpa.business.person.Person;
+        import philo.magicsproutjpa.core.MimicJpaRepository;
+        import philo.magicsproutjpa.core.QueryMethod;
+
+        public abstract class SampleRepository extends MimicJpaRepository<Person, Long> {
+
+          @QueryMethod
+          public abstract List<Person> findByNameAndBirthYearGreaterThan(String name, int birthYear);
+
+          @QueryMethod
+          public abstract long countByName(String name);
+
+          @QueryMethod
+          public abstract List<Person> findByNameContaining(String name);
+        }
+        """;
+
+    // when
+    List<Diagnostic<? extends JavaFileObject>> errors = compile("sample.SampleRepository", source);
+
+    // then
+    String generated = Files.readString(outputDirectory.resolve("sample/SampleRepository_Impl.java"));
+
+    assertThat(errors).isEmpty();
+    assertThat(generated)
+        .contains("\"select e from Person e where e.name = ?1 and e.birthYear > ?2\"")
+        .contains("\"select count(e) from Person e where e.name = ?1\"")
+        .contains("\"select e from Person e where e.name like concat('%', ?1, '%') escape '\\\\'\",")
+        .contains("java.util.List.of(1));")
+        .contains(".id(\"id\", philo.magicsproutjpa.business.person.Person::getId, true)")
+        .contains(".register(SampleRepository_Impl.class);");
+  }
+
+  @DisplayName("[Processor] stream, update, 프로젝션과 위임하는 Query Method도 실행 계획을 만들고 도우미 메서드는 건너뛴다")
+  @Test
+  void generateProjectionAndUpdate() throws IOException {
+    // given
+    String source = """
+        package sample;
+
+        import java.util.List;
+        import java.util.stream.Stream;
+        import philo.magicsproutjpa.business.person.Person;
+        import philo.magicsproutjpa.business.person.PersonNameView;
+        import philo.magicsproutjpa.business.person.PersonSummary;
+        import philo.magicsproutjpa.core.MimicJpaRepository;
+        import philo.magicsproutjpa.core.QueryMethod;
+
+        public abstract class SampleRepository extends MimicJpaRepository<Person, Long> {
+
+          @QueryMethod
+          public abstract Stream<Person> streamByName(String name);
+
+          @QueryMethod
+          public abstract List<PersonSummary> findSummaryByName(String name);
+
+          @QueryMethod
+          public abstract List<PersonNameView> findViewByBirthYear(int birthYear);
+
+          @QueryMethod
+          public abstract int updateNameById(String name, Long id);
+
+          public List<Integer> findBirthYearByName(String name) {
+            return invokeProjectionQueryMethod(name);
+          }
+
+          public Person findOrCreate(String name) {
+            return null;
+          }
+
+          public void updateCache() {
+          }
+        }
+        """;
+
+    // when
+    List<Diagnostic<? extends JavaFileObject>> errors = compile("sample.SampleRepository", source);
+
+    // then
+    String generated = Files.readString(outputDirectory.resolve("sample/SampleRepository_Impl.java"));
+
+    assertThat(errors).isEmpty();
+    assertThat(generated)
+        .contains("return streamQueryMethodPlan(STREAM_BY_NAME, name);")
+        .contains("\"select e.name, e.birthYear from Person e where e.name = ?1\"")
+        .contains("return new philo.magicsproutjpa.business.person.PersonSummary("
+            + "(java.lang.String) tuple.get(0), (java.lang.Integer) tuple.get(1));")
+        .contains("return new philo.magicsproutjpa.business.person.PersonNameView() {")
+        .contains("\"update Person e set e.name = ?1 where e.id = ?2\"")
+        .contains("\"select e.birthYear from Person e where e.name = ?1\"")
+        .doesNotContain("FIND_OR_CREATE", "UPDATE_CACHE");
+  }
+
+  @DisplayName("[Processor] 생성한 실행 계획은 런타임 QueryMethodParser의 실행 계획과 같다")
+  @Test
+  void samePlanAsRuntimeParser() throws Exception {
+    // given
+    String source = """
+        package sample;
+
+        import java.util.List;
+        import java.util.stream.Stream;
+        import philo.magicsproutjpa.business.person.Person;
+        import philo.magicsproutjpa.core.MimicJpaRepository;
+        import philo.magicsproutjpa.core.QueryMethod;
+
+        public abstract class SampleRepository extends MimicJpaRepository<Person, Long> {
+
+          @QueryMethod
+          public abstract Stream<Person> streamNameByBirthYear(int birthYear);
+
+          @QueryMethod
+          public abstract List<String> findNameByBirthYear(int birthYear);
+
+          @QueryMethod
+          public abstract List<Person> findFirstByNameOrderByBirthYearDesc(String name);
+        }
+        """;
+    Set<String> attributes = Set.of("id", "name", "birthYear");
+
+    // when
+    List<Diagnostic<? extends JavaFileObject>> errors = compile("sample.SampleRepository", source);
+
+    // then
+    assertThat(errors).isEmpty();
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[]{outputDirectory.toUri().toURL()},
+        getClass().getClassLoader())) {
+      Class<?> implementation = classLoader.loadClass("sample.SampleRepository_Impl");
+      for (Method method : implementation.getSuperclass().getDeclaredMethods()) {
+        Field constant = implementation.getDeclaredField(ImplementationWriter.constantName(method.getName()));
+        constant.setAccessible(true);
+        QueryMethodPlan generated = (QueryMethodPlan) constant.get(null);
+        QueryMethodPlan parsed = QueryMethodParser.parse(method, Person.class, attributes);
+
+        assertThat(generated)
+            .as(method.getName())
+            .extracting(QueryMethodPlan::getJpql, QueryMethodPlan::getResultKind, QueryMethodPlan::getResultType,
+                QueryMethodPlan::getMaxResults)
+            .containsExactly(parsed.getJpql(), parsed.getResultKind(), parsed.getResultType(), parsed.getMaxResults());
+      }
+    }
+  }
+
+  @DisplayName("[Processor] 엔티티에 없는 필드로 조회하면 컴파일 에러가 발생한다")
+  @Test
+  void unknownProperty() {
+    // given
+    String source = """
+        package sample;
+
+        import java.util.List;
+        import philo.magicsproutjpa.business.person.Person;
+        import philo.magicsproutjpa.core.MimicJpaRepository;
+        import philo.magicsproutjpa.core.QueryMethod;
+
+        public abstract class SampleRepository extends MimicJpaRepository<Person, Long> {
+
+          @QueryMethod
+          public abstract List<Person> findByAge(int age);
+        }
+        """;
+
+    // when
+    List<Diagnostic<? extends JavaFileObject>> errors = compile("sample.SampleRepository", source);
+
+    // then
+    assertThat(errors)
+        .extracting(error -> error.getMessage(Locale.ROOT))
+        .containsExactly("Unknown property 'age' in query method 'findByAge'");
+  }
+
+  @DisplayName("[Processor] 접두어와 맞지 않는 반환 타입은 컴파일 에러가 발생한다")
+  @Test
+  void wrongReturnType() {
+    // given
+    String source = """
+        package sample;
+
+        import philo.magicsproutjpa.business.person.Person;
+        import philo.magicsproutjpa.core.MimicJpaRepository;
+        import philo.magicsproutjpa.core.QueryMethod;
+
+        public abstract class SampleRepository extends MimicJpaRepository<Person, Long> {
+
+          @QueryMethod
+          public abstract boolean countByName(String name);
+        }
+        """;
+
+    // when
+    List<Diagnostic<? extends JavaFileObject>> errors = compile("sample.SampleRepository", source);
+
+    // then
+    assertThat(errors)
+        .extracting(error -> error.getMessage(Locale.ROOT))
+        .containsExactly("Query method 'countByName' must return long");
+  }
+
+  private List<Diagnostic<? extends JavaFileObject>> compile(String className, String source) {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, null);
+
+    List<String> options = List.of(
+        "-classpath", System.getProperty("java.class.path"),
+        "-d", outputDirectory.toString(),
+        "-s", outputDirectory.toString());
+    CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+        List.of(new SourceFile(className, source)));
+    task.setProcessors(List.of(new QueryMethodProcessor()));
+    task.call();
+
+    return diagnostics.getDiagnostics().stream()
+        .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+        .toList();
+  }
+
+  private static class SourceFile extends SimpleJavaFileObject {
+
+    private final String source;
+
+    SourceFile(String className, String source) {
+      super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+      this.source = source;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return source;
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package philo.magicsproutjpa.benchmark;
+
+import philo.magicsproutjpa.core.support.EntityManagerFactoryFacade;
+import philo.magicsproutjpa.core.support.EntityManagerFactoryFacade.FactoryBuilder;
+import philo.magicsproutjpa.core.support.FactoryProfile;
+
+/**
+ * 벤치마크가 사용할 EntityManagerFactory 설정입니다.
+ * <br>
+ * SQL을 표준 출력에 쓰는 시간이 결과에 섞이지 않도록 SQL 로그를 끄고, 측정할 테이블을 만들도록 스키마 생성을 켭니다.
+ * <br>
+ * JDBC batch 등 나머지는 persistence.xml의 설정을 그대로 사용합니다.
+ */
+final class BenchmarkFactories {
+
+  static final FactoryProfile PROFILE = FactoryProfile.builder()
+      .showSql(false)
+      .formatSql(false)
+      .schemaGeneration("create")
+      .build();
+
+  private BenchmarkFactories() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * 기본 EntityManagerFactory를 SQL 로그 없이, 스키마를 만들면서 생성하는 빌더입니다. 리포지토리를 생성하기 전에 register()를 호출합니다.
+   * <br>
+   * 벤치마크는 @Fork(1)로 파라미터 조합마다 JVM을 새로 띄우므로 한 JVM에서 한 번만 등록됩니다.
+   */
+  static FactoryBuilder defaultFactory() {
+    return EntityManagerFactoryFacade.builder(EntityManagerFactoryFacade.DEFAULT_FACTORY_NAME)
+        .profile(PROFILE);
+  }
+}
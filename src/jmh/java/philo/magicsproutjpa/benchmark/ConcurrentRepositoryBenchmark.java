@@ -0,0 +1,99 @@
+package philo.magicsproutjpa.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import philo.magicsproutjpa.business.item.Item;
+import philo.magicsproutjpa.business.item.ItemRepository;
+import philo.magicsproutjpa.core.EntityManagerScope;
+import philo.magicsproutjpa.core.MimicJpaOptions;
+import philo.magicsproutjpa.core.datasource.MimicPooledDataSource;
+import philo.magicsproutjpa.core.support.EntityManagerFactoryFacade.FactoryBuilder;
+
+/**
+ * PER_OPERATION 스코프의 리포지토리 하나를 여러 쓰레드가 공유할 때의 처리량을 측정합니다.
+ * <br>
+ * 쓰레드 수에 비례해서 처리량이 늘어나는지 확인합니다.
+ * <br>
+ * connectionPool 파라미터로 Hibernate 기본 커넥션 풀과 MimicPooledDataSource를 비교합니다.
+ * (JMH는 파라미터 조합마다 JVM을 새로 띄우므로 EntityManagerFactory도 각각 만들어집니다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConcurrentRepositoryBenchmark {
+
+  private static final int ROW_COUNT = 1000;
+
+  @Param({"hibernate", "mimic"})
+  String connectionPool;
+
+  ItemRepository itemRepository;
+
+  List<Long> savedIds;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    FactoryBuilder factory = BenchmarkFactories.defaultFactory();
+    if (connectionPool.equals("mimic")) {
+      factory.dataSource(MimicPooledDataSource.builder()
+          .url("jdbc:h2:mem:test")
+          .username("sa")
+          .initialSize(4)
+          .maxSize(8)
+          .build());
+    }
+    factory.register();
+    itemRepository = new ItemRepository(MimicJpaOptions.builder()
+        .entityManagerScope(EntityManagerScope.PER_OPERATION)
+        .build());
+    itemRepository.deleteAll();
+
+    List<Item> items = new ArrayList<>(ROW_COUNT);
+    for (int i = 0; i < ROW_COUNT; i++) {
+      items.add(new Item("item-" + i));
+    }
+    itemRepository.saveAll(items);
+    savedIds = items.stream().map(Item::getId).toList();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    itemRepository.deleteAll();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Item findById_1thread() {
+    return findRandomItem();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Item findById_4threads() {
+    return findRandomItem();
+  }
+
+  private Item findRandomItem() {
+    Long id = savedIds.get(ThreadLocalRandom.current().nextInt(savedIds.size()));
+    return itemRepository.findById(id);
+  }
+}
@@ -0,0 +1,64 @@
+package philo.magicsproutjpa.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import philo.magicsproutjpa.business.item.Item;
+import philo.magicsproutjpa.core.support.GetterAccessors;
+import philo.magicsproutjpa.core.support.MimicJpaReflectionUtils;
+
+/**
+ * 엔티티의 id를 꺼내는 방식별 비용을 측정합니다. DB에 접근하지 않습니다.
+ * <br>
+ * perCallLookup은 NonCacheMimicJpaRepository처럼 호출할 때마다 getter를 찾는 방식입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdAccessorBenchmark {
+
+  Item item;
+
+  Method idGetterMethod;
+
+  Function<Item, Long> idAccessor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    item = new Item("something"); // id 값과 관계없이 getter 호출 비용만 측정한다
+    idGetterMethod = MimicJpaReflectionUtils.extractIdGetterMethod(Item.class, Item.class.getDeclaredFields());
+    idAccessor = GetterAccessors.create(idGetterMethod);
+  }
+
+  @Benchmark
+  public Long lambdaAccessor() {
+    return idAccessor.apply(item);
+  }
+
+  @Benchmark
+  public Long reflectiveInvoke() {
+    return MimicJpaReflectionUtils.delegateMethodInvoke(item, idGetterMethod);
+  }
+
+  @Benchmark
+  public Long perCallLookup() {
+    Field[] fields = Item.class.getDeclaredFields();
+    Method method = MimicJpaReflectionUtils.extractIdGetterMethod(Item.class, fields);
+    return MimicJpaReflectionUtils.delegateMethodInvoke(item, method);
+  }
+}
@@ -0,0 +1,119 @@
+package philo.magicsproutjpa.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import philo.magicsproutjpa.business.item.Item;
+import philo.magicsproutjpa.business.item.ItemRepository;
+import philo.magicsproutjpa.core.Sort;
+
+/**
+ * ItemRepository의 조회/삭제 계열 메서드를 측정합니다.
+ * <br>
+ * 테이블의 레코드 수(rowCount)에 따라 비용이 어떻게 변하는지 확인하기 위해 파라미터화 했습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemRepositoryBenchmark {
+
+  private static final int PAGE_SIZE = 20;
+
+  @Param({"100", "1000", "10000"})
+  int rowCount;
+
+  ItemRepository itemRepository;
+
+  List<Long> savedIds;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    BenchmarkFactories.defaultFactory().register();
+    itemRepository = new ItemRepository();
+    itemRepository.deleteAll();
+
+    savedIds = new ArrayList<>(rowCount);
+    for (int i = 0; i < rowCount; i++) {
+      Item item = new Item("item-" + i);
+      itemRepository.save(item);
+      savedIds.add(item.getId());
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    itemRepository.deleteAll();
+  }
+
+  @Benchmark
+  public Item findById() {
+    Long id = savedIds.get(ThreadLocalRandom.current().nextInt(savedIds.size()));
+    return itemRepository.findById(id);
+  }
+
+  @Benchmark
+  public List<Item> findAll() {
+    return itemRepository.findAll();
+  }
+
+  /**
+   * 마지막 페이지를 offset 방식으로 조회합니다. 비용이 offset(= rowCount)에 비례합니다.
+   */
+  @Benchmark
+  public List<Item> findAllDeepPage() {
+    return itemRepository.findAll(rowCount / PAGE_SIZE - 1, PAGE_SIZE, Sort.unsorted());
+  }
+
+  /**
+   * 마지막 페이지를 keyset 방식으로 조회합니다. 비용이 PAGE_SIZE에만 비례합니다.
+   */
+  @Benchmark
+  public List<Item> findAllAfterDeepKey() {
+    return itemRepository.findAllAfter(savedIds.get(savedIds.size() - PAGE_SIZE - 1), PAGE_SIZE);
+  }
+
+  @Benchmark
+  public long count() {
+    return itemRepository.count();
+  }
+
+  @Benchmark
+  public void deleteById(DeleteTarget target) {
+    itemRepository.deleteById(target.id);
+  }
+
+  /**
+   * deleteById 측정용 레코드를 매 호출 전에 준비합니다.
+   * <br>
+   * DB 왕복 비용에 비하면 Level.Invocation의 오버헤드는 무시할 수 있는 수준입니다.
+   */
+  @State(Scope.Thread)
+  public static class DeleteTarget {
+
+    Long id;
+
+    @Setup(Level.Invocation)
+    public void prepare(ItemRepositoryBenchmark benchmark) {
+      Item item = new Item("delete-target");
+      benchmark.itemRepository.save(item);
+      id = item.getId();
+    }
+  }
+}
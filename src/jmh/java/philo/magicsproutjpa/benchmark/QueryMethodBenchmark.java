@@ -0,0 +1,68 @@
+package philo.magicsproutjpa.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import philo.magicsproutjpa.business.person.Person;
+import philo.magicsproutjpa.business.person.PersonRepository;
+
+/**
+ * invokeQueryMethod를 거치는 Query Method 호출을 측정합니다.
+ * <br>
+ * 조건에 맞는 레코드는 항상 한 건이므로 레코드 수(rowCount)에 따른 변화는 Query Method 자체의 비용과 DB 조회 비용을 보여줍니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryMethodBenchmark {
+
+  private static final String TARGET_NAME = "IU";
+  private static final int TARGET_BIRTH_YEAR = 93;
+
+  @Param({"100", "1000", "10000"})
+  int rowCount;
+
+  PersonRepository personRepository;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    BenchmarkFactories.defaultFactory().register();
+    personRepository = new PersonRepository();
+    personRepository.deleteAll();
+
+    for (int i = 0; i < rowCount - 1; i++) {
+      personRepository.save(new Person("person-" + i, 1900 + (i % 100)));
+    }
+    personRepository.save(new Person(TARGET_NAME, TARGET_BIRTH_YEAR));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    personRepository.deleteAll();
+  }
+
+  @Benchmark
+  public List<Person> findByName() {
+    return personRepository.findByName(TARGET_NAME);
+  }
+
+  @Benchmark
+  public List<Person> findByNameAndBirthYear() {
+    return personRepository.findByNameAndBirthYear(TARGET_NAME, TARGET_BIRTH_YEAR);
+  }
+}
@@ -0,0 +1,59 @@
+package philo.magicsproutjpa.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import philo.magicsproutjpa.business.item.Item;
+import philo.magicsproutjpa.business.item.ItemRepository;
+import philo.magicsproutjpa.performance.sample.NonCacheItemRepository;
+
+/**
+ * save(entity)를 측정합니다.
+ * <br>
+ * 리플렉션 결과를 캐싱하지 않는 NonCacheItemRepository를 기준(baseline)으로 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaveBenchmark {
+
+  ItemRepository itemRepository;
+
+  NonCacheItemRepository nonCacheItemRepository;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    // NonCache 리포지토리는 자체 EntityManagerFactory를 만들며 스키마를 재생성하므로 먼저 생성한다
+    nonCacheItemRepository = new NonCacheItemRepository(BenchmarkFactories.PROFILE.toProperties());
+    BenchmarkFactories.defaultFactory().register();
+    itemRepository = new ItemRepository();
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() {
+    itemRepository.deleteAll();
+  }
+
+  @Benchmark
+  public boolean save() {
+    return itemRepository.save(new Item("something"));
+  }
+
+  @Benchmark
+  public Item saveBaseline() {
+    return nonCacheItemRepository.save(new Item("something"));
+  }
+}
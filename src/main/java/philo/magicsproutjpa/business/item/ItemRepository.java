@@ -1,7 +1,19 @@
 package philo.magicsproutjpa.business.item;
 
+import philo.magicsproutjpa.core.MimicJpaOptions;
 import philo.magicsproutjpa.core.MimicJpaRepository;
 
 public class ItemRepository extends MimicJpaRepository<Item, Long> {
 
+  public ItemRepository() {
+    super();
+  }
+
+  public ItemRepository(MimicJpaOptions options) {
+    super(options);
+  }
+
+  public int updateNameByName(String newName, String name) {
+    return invokeUpdateQueryMethod(newName, name);
+  }
 }
@@ -0,0 +1,9 @@
+package philo.magicsproutjpa.business.person;
+
+/**
+ * Person의 이름만 조회하는 interface 프로젝션입니다.
+ */
+public interface PersonNameView {
+
+  String getName();
+}
@@ -0,0 +1,60 @@
+package philo.magicsproutjpa.business.person;
+
+import java.util.List;
+import java.util.stream.Stream;
+import philo.magicsproutjpa.core.MimicJpaOptions;
+import philo.magicsproutjpa.core.MimicJpaRepository;
+import philo.magicsproutjpa.core.QueryMethod;
+
+/**
+ * 컴파일 시점에 구현되는 Query Method 예시입니다.
+ * <br>
+ * 구현체 PersonQueryRepository_Impl은 어노테이션 프로세서가 만듭니다.
+ */
+public abstract class PersonQueryRepository extends MimicJpaRepository<Person, Long> {
+
+  protected PersonQueryRepository() {
+    super();
+  }
+
+  protected PersonQueryRepository(MimicJpaOptions options) {
+    super(options);
+  }
+
+  @QueryMethod
+  public abstract List<Person> findByName(String name);
+
+  @QueryMethod
+  public abstract List<Person> findByNameOrBirthYear(String name, int birthYear);
+
+  @QueryMethod
+  public abstract List<Person> findByBirthYearBetweenOrderByBirthYearDesc(int from, int to);
+
+  @QueryMethod
+  public abstract List<Person> findTop2ByBirthYearGreaterThanOrderByBirthYearAsc(int birthYear);
+
+  @QueryMethod
+  public abstract long countByBirthYearGreaterThanEqual(int birthYear);
+
+  @QueryMethod
+  public abstract boolean existsByName(String name);
+
+  @QueryMethod
+  public abstract Stream<Person> streamByBirthYear(int birthYear);
+
+  @QueryMethod
+  public abstract List<PersonSummary> findSummaryByBirthYear(int birthYear);
+
+  @QueryMethod
+  public abstract List<PersonNameView> findViewByBirthYear(int birthYear);
+
+  @QueryMethod
+  public abstract List<String> findNameByBirthYear(int birthYear);
+
+  @QueryMethod
+  public abstract int updateNameById(String name, Long id);
+
+  public List<Person> findByNameStartingWith(String prefix) {
+    return invokeQueryMethod(prefix);
+  }
+}
@@ -1,10 +1,21 @@
 package philo.magicsproutjpa.business.person;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import philo.magicsproutjpa.core.MimicJpaOptions;
 import philo.magicsproutjpa.core.MimicJpaRepository;
 
 public class PersonRepository extends MimicJpaRepository<Person, Long> {
 
+  public PersonRepository() {
+    super();
+  }
+
+  public PersonRepository(MimicJpaOptions options) {
+    super(options);
+  }
+
   public List<Person> findByName(String name) {
     return invokeQueryMethod(name);
   }
@@ -17,4 +28,56 @@ public class PersonRepository extends MimicJpaRepository<Person, Long> {
   public List<Person> findByNameAndBirthYear(String name, int age) {
     return invokeQueryMethod(name, age);
   }
+
+  public List<Person> findByNameOrBirthYear(String name, int birthYear) {
+    return invokeQueryMethod(name, birthYear);
+  }
+
+  public List<Person> findByBirthYearBetweenOrderByBirthYearDesc(int fromYear, int toYear) {
+    return invokeQueryMethod(fromYear, toYear);
+  }
+
+  public List<Person> findByNameStartingWith(String prefix) {
+    return invokeQueryMethod(prefix);
+  }
+
+  public List<Person> findByNameIn(Collection<String> names) {
+    return invokeQueryMethod(names);
+  }
+
+  public List<Person> findTop2ByBirthYearGreaterThanOrderByBirthYearAsc(int birthYear) {
+    return invokeQueryMethod(birthYear);
+  }
+
+  public boolean existsByName(String name) {
+    return invokeExistsQueryMethod(name);
+  }
+
+  public long countByBirthYearGreaterThanEqual(int birthYear) {
+    return invokeCountQueryMethod(birthYear);
+  }
+
+  public int updateNameById(String name, Long id) {
+    return invokeUpdateQueryMethod(name, id);
+  }
+
+  public int updateBirthYearByBirthYearLessThan(int birthYear, int threshold) {
+    return invokeUpdateQueryMethod(birthYear, threshold);
+  }
+
+  public Stream<Person> streamByBirthYear(int birthYear) {
+    return streamQueryMethod(birthYear);
+  }
+
+  public List<PersonSummary> findSummaryByBirthYear(int birthYear) {
+    return invokeProjectionQueryMethod(birthYear);
+  }
+
+  public List<PersonNameView> findViewByBirthYear(int birthYear) {
+    return invokeProjectionQueryMethod(birthYear);
+  }
+
+  public List<String> findNameByBirthYear(int birthYear) {
+    return invokeProjectionQueryMethod(birthYear);
+  }
 }
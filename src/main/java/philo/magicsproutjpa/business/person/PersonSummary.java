@@ -0,0 +1,8 @@
+package philo.magicsproutjpa.business.person;
+
+/**
+ * Person의 이름과 출생년도만 조회하는 record 프로젝션입니다.
+ */
+public record PersonSummary(String name, int birthYear) {
+
+}
@@ -0,0 +1,25 @@
+package philo.magicsproutjpa.core;
+
+/**
+ * 리포지토리가 EntityManager를 얼마나 오래 사용하는지를 정하는 범위입니다.
+ * <br>
+ * 어떤 스코프든 현재 쓰레드에 {@link UnitOfWork}가 열려있다면 그 EntityManager를 우선 사용합니다.
+ */
+public enum EntityManagerScope {
+
+  /**
+   * 리포지토리 인스턴스 하나가 EntityManager 하나를 계속 사용합니다.
+   * <br>
+   * EntityManager는 thread-safe 하지 않으므로 리포지토리를 여러 쓰레드에서 공유하면 안 됩니다.
+   */
+  SHARED,
+
+  /**
+   * 작업(save, findById 등)마다 EntityManager를 새로 만들고 작업이 끝나면 닫습니다.
+   * <br>
+   * 리포지토리 하나를 여러 쓰레드에서 공유할 수 있습니다.
+   * <br>
+   * 반환된 엔티티는 준영속 상태입니다.
+   */
+  PER_OPERATION
+}
@@ -0,0 +1,100 @@
+package philo.magicsproutjpa.core;
+
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import philo.magicsproutjpa.core.exception.MimicJpaInitException;
+import philo.magicsproutjpa.core.query.QueryMethodPlan;
+
+/**
+ * 어노테이션 프로세서가 컴파일 시점에 계산한 리포지토리 메타데이터를 등록합니다.
+ * <br>
+ * {@link QueryMethod}로 생성된 구현체의 static 초기화 블록에서 호출하며, 등록된 리포지토리는 생성할 때 리플렉션으로 엔티티를 해석하지 않습니다.
+ * <br>
+ * id, version 값은 getter 메서드 참조로, Query Method는 미리 만든 실행 계획 상수로 전달합니다.
+ *
+ * @param <E> the type of the entity
+ * @param <K> the type of the entity's identifier
+ */
+public final class GeneratedRepositoryMetadata<E, K> {
+
+  private final Class<E> entityType;
+  private String idAttributeName;
+  private Function<E, K> idAccessor;
+  private boolean generatedId;
+  private Function<E, Object> versionAccessor;
+  private boolean nullableVersion;
+  private boolean persistable;
+  private Set<String> attributes = Set.of();
+  private Map<String, QueryMethodPlan> queryMethodPlans = Map.of();
+
+  private GeneratedRepositoryMetadata(Class<E> entityType) {
+    this.entityType = entityType;
+  }
+
+  public static <E, K> GeneratedRepositoryMetadata<E, K> of(Class<E> entityType) {
+    return new GeneratedRepositoryMetadata<>(entityType);
+  }
+
+  /**
+   * @param attributeName @Id 필드 이름
+   * @param accessor id getter (예: Person::getId)
+   * @param generated @GeneratedValue 여부
+   */
+  public GeneratedRepositoryMetadata<E, K> id(String attributeName, Function<E, K> accessor, boolean generated) {
+    this.idAttributeName = attributeName;
+    this.idAccessor = accessor;
+    this.generatedId = generated;
+    return this;
+  }
+
+  /**
+   * @param accessor @Version 필드의 getter
+   * @param nullable 래퍼 타입 @Version 필드 여부
+   */
+  public GeneratedRepositoryMetadata<E, K> version(Function<E, Object> accessor, boolean nullable) {
+    this.versionAccessor = accessor;
+    this.nullableVersion = nullable;
+    return this;
+  }
+
+  public GeneratedRepositoryMetadata<E, K> persistable(boolean persistable) {
+    this.persistable = persistable;
+    return this;
+  }
+
+  public GeneratedRepositoryMetadata<E, K> attributes(String... attributes) {
+    this.attributes = Set.of(attributes);
+    return this;
+  }
+
+  public GeneratedRepositoryMetadata<E, K> plans(QueryMethodPlan... plans) {
+    this.queryMethodPlans = Stream.of(plans)
+        .collect(toUnmodifiableMap(QueryMethodPlan::getMethodName, Function.identity()));
+    return this;
+  }
+
+  /**
+   * 리포지토리 클래스의 메타데이터로 등록합니다. 리포지토리를 처음 생성하기 전에 호출해야 합니다.
+   *
+   * @param repositoryType 생성된 구현체 클래스
+   */
+  public void register(Class<? extends MimicJpaRepository<E, K>> repositoryType) {
+    if (idAttributeName == null || idAccessor == null) {
+      throw new MimicJpaInitException("Id accessor should be registered: " + repositoryType.getName());
+    }
+    RepositoryMetadata.register(repositoryType, new RepositoryMetadata<>(
+        entityType,
+        attributes,
+        idAttributeName,
+        idAccessor,
+        versionAccessor,
+        generatedId,
+        nullableVersion,
+        persistable,
+        queryMethodPlans));
+  }
+}
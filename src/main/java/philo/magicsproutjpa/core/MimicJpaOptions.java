@@ -0,0 +1,231 @@
+package philo.magicsproutjpa.core;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import philo.magicsproutjpa.core.exception.MimicJpaInitException;
+import philo.magicsproutjpa.core.routing.ReplicaRouting;
+import philo.magicsproutjpa.core.support.EntityManagerFactoryFacade;
+
+/**
+ * MimicJpaRepository의 동작을 조정하는 설정입니다.
+ * <br>
+ * 도메인 리포지토리의 생성자에서 super(options)로 전달합니다.
+ * <br>
+ * 설정하지 않은 항목은 기본값을 사용합니다.
+ * <br>
+ * 잘못된 값(0 이하의 크기 등)은 리포지토리를 생성할 때 MimicJpaInitException으로 알립니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class MimicJpaOptions {
+
+  private static final MimicJpaOptions DEFAULT_OPTIONS = MimicJpaOptions.builder().build();
+
+  /**
+   * saveAll에서 flush, clear를 수행하는 엔티티 단위입니다.
+   * <br>
+   * deleteAllById에서 한 번의 in 조건으로 지우는 id 수이기도 합니다.
+   * <br>
+   * persistence.xml의 hibernate.jdbc.batch_size와 같은 값을 사용하는 것이 좋습니다.
+   */
+  @Builder.Default
+  private final int batchSize = 50;
+
+  /**
+   * 사용할 EntityManagerFactory의 이름입니다.
+   * <br>
+   * EntityManagerFactoryFacade.builder(name)로 등록한 EntityManagerFactory를 사용하려면 그 이름을 지정합니다.
+   */
+  @Builder.Default
+  private final String factoryName = EntityManagerFactoryFacade.DEFAULT_FACTORY_NAME;
+
+  /**
+   * 읽기 작업(findAll, findById, count, Query Method 등)을 보낼 레플리카 EntityManagerFactory의 이름들입니다.
+   * <br>
+   * 비어 있다면 모든 작업이 factoryName의 EntityManagerFactory(프라이머리)로 갑니다.
+   * <br>
+   * 레플리카에서 읽은 엔티티는 준영속 상태입니다.
+   */
+  @Builder.Default
+  private final List<String> replicaFactoryNames = List.of();
+
+  /**
+   * 레플리카를 고르는 방식입니다.
+   */
+  @Builder.Default
+  private final ReplicaRouting replicaRouting = ReplicaRouting.ROUND_ROBIN;
+
+  /**
+   * 같은 쓰레드에서 쓰기 작업 후 레플리카 대신 프라이머리에서 읽는 시간입니다. (read-your-writes)
+   * <br>
+   * 레플리카의 복제 지연보다 길게 설정합니다. UnitOfWork 안에서는 쓰기 후 작업 단위가 끝날 때까지 프라이머리에서 읽습니다.
+   */
+  @Builder.Default
+  private final Duration replicaStickyWindow = Duration.ofSeconds(1);
+
+  /**
+   * save(entity)에서 새로운 엔티티인지 판단하는 전략입니다.
+   */
+  @Builder.Default
+  private final NewEntityStrategy newEntityStrategy = NewEntityStrategy.AUTO;
+
+  /**
+   * update(id, modification)에서 @Version 충돌이 일어났을 때 최신 엔티티를 다시 읽어서 시도하는 최대 횟수입니다.
+   * <br>
+   * 1이면 다시 시도하지 않고 MimicOptimisticLockException을 던집니다.
+   */
+  @Builder.Default
+  private final int optimisticLockMaxAttempts = 1;
+
+  /**
+   * @Version 충돌 후 다시 시도하기 전에 기다리는 기본 시간입니다.
+   * <br>
+   * 시도할 때마다 두 배씩 늘어난 시간 안에서 무작위로 기다려서 경쟁하는 쓰레드들이 같은 시점에 다시 부딪히지 않게 합니다.
+   */
+  @Builder.Default
+  private final Duration optimisticLockBackoff = Duration.ofMillis(10);
+
+  /**
+   * 리포지토리가 EntityManager를 사용하는 범위입니다.
+   * <br>
+   * 리포지토리 하나를 여러 쓰레드에서 공유하려면 PER_OPERATION을 사용합니다.
+   */
+  @Builder.Default
+  private final EntityManagerScope entityManagerScope = EntityManagerScope.SHARED;
+
+  /**
+   * SHARED 스코프에서 영속성 컨텍스트를 비우는 정책입니다.
+   */
+  @Builder.Default
+  private final PersistenceContextPolicy persistenceContextPolicy = PersistenceContextPolicy.RETAIN;
+
+  /**
+   * CLEAR_AFTER_THRESHOLD 정책에서 영속성 컨텍스트를 비우는 기준이 되는 엔티티 수입니다.
+   */
+  @Builder.Default
+  private final int managedEntityThreshold = 1_000;
+
+  /**
+   * streamAll 등 Stream 조회에서 DB 커서로부터 한 번에 가져오는 레코드 수(JDBC fetch size)입니다.
+   */
+  @Builder.Default
+  private final int fetchSize = 100;
+
+  /**
+   * Stream 조회에서 이미 읽은 엔티티를 준영속 상태로 만드는 주기(엔티티 수)입니다.
+   */
+  @Builder.Default
+  private final int streamDetachInterval = 500;
+
+  /**
+   * findById 캐시의 최대 엔티티 수입니다. 0이면 캐시를 사용하지 않습니다.
+   * <br>
+   * 캐시는 같은 엔티티 타입의 모든 리포지토리 인스턴스가 공유합니다.
+   */
+  @Builder.Default
+  private final int entityCacheMaxSize = 0;
+
+  /**
+   * findById 캐시에 저장된 엔티티의 유효 시간입니다.
+   */
+  @Builder.Default
+  private final Duration entityCacheTtl = Duration.ofMinutes(10);
+
+  /**
+   * Query Method 결과 캐시의 최대 항목 수입니다. 0이면 캐시를 사용하지 않습니다.
+   * <br>
+   * 결과 엔티티 대신 id 목록을 저장하며, 같은 엔티티 타입에 쓰기가 일어나면 모두 무효화됩니다.
+   */
+  @Builder.Default
+  private final int queryCacheMaxSize = 0;
+
+  /**
+   * Query Method 결과 캐시에 저장된 id 목록의 유효 시간입니다.
+   */
+  @Builder.Default
+  private final Duration queryCacheTtl = Duration.ofMinutes(1);
+
+  /**
+   * 리포지토리 작업별 지표(응답 시간 분포, 호출 수, 에러 수, 반환 행 수, SQL 수)를 기록할지 여부입니다.
+   * <br>
+   * 켜면 리포지토리 클래스마다 JMX MBean(philo.magicsproutjpa:type=RepositoryMetrics)이 등록됩니다.
+   */
+  @Builder.Default
+  private final boolean metricsEnabled = false;
+
+  /**
+   * 작업 하나에서 같은 모양의 SELECT 문이 반복해서 실행될 때(N+1)의 처리 정책입니다.
+   */
+  @Builder.Default
+  private final RepeatedStatementPolicy repeatedStatementPolicy = RepeatedStatementPolicy.OFF;
+
+  /**
+   * 같은 모양의 SELECT 문을 반복으로 보는 실행 횟수입니다.
+   */
+  @Builder.Default
+  private final int repeatedStatementThreshold = 3;
+
+  /**
+   * 이 시간보다 오래 걸린 작업을 JPQL, 파라미터, 반환 행 수와 함께 경고 로그로 남깁니다. 0이면 남기지 않습니다.
+   */
+  @Builder.Default
+  private final Duration slowOperationThreshold = Duration.ZERO;
+
+  /**
+   * 느린 작업 로그를 초당 최대 몇 개까지 남길지입니다. 넘친 로그는 버리고 버린 수만 다음 로그에 남깁니다.
+   */
+  @Builder.Default
+  private final int slowOperationLogsPerSecond = 10;
+
+  /**
+   * 느린 작업 로그에서 문자열 등의 파라미터 값을 가릴지 여부입니다. (숫자, boolean, enum, 날짜는 그대로 남깁니다)
+   */
+  @Builder.Default
+  private final boolean slowOperationParametersMasked = true;
+
+  public static MimicJpaOptions defaults() {
+    return DEFAULT_OPTIONS;
+  }
+
+  /**
+   * 리포지토리를 생성할 때 설정 값을 검증합니다.
+   * <br>
+   * 잘못된 값은 첫 작업에서야 드러나거나(0으로 나누기) 끝나지 않는 반복을 만들기 때문에 미리 막습니다.
+   */
+  void validate() {
+    assertPositive("batchSize", batchSize);
+    assertPositive("fetchSize", fetchSize);
+    assertPositive("streamDetachInterval", streamDetachInterval);
+    assertPositive("optimisticLockMaxAttempts", optimisticLockMaxAttempts);
+    assertPositive("managedEntityThreshold", managedEntityThreshold);
+    assertPositive("repeatedStatementThreshold", repeatedStatementThreshold);
+    assertPositive("slowOperationLogsPerSecond", slowOperationLogsPerSecond);
+    assertNotNegative("entityCacheMaxSize", entityCacheMaxSize);
+    assertNotNegative("queryCacheMaxSize", queryCacheMaxSize);
+    assertNotNegative("replicaStickyWindow", replicaStickyWindow);
+    assertNotNegative("optimisticLockBackoff", optimisticLockBackoff);
+    assertNotNegative("entityCacheTtl", entityCacheTtl);
+    assertNotNegative("queryCacheTtl", queryCacheTtl);
+    assertNotNegative("slowOperationThreshold", slowOperationThreshold);
+  }
+
+  private static void assertPositive(String name, int value) {
+    if (value <= 0) {
+      throw new MimicJpaInitException(name + " should be positive: " + value);
+    }
+  }
+
+  private static void assertNotNegative(String name, int value) {
+    if (value < 0) {
+      throw new MimicJpaInitException(name + " should not be negative: " + value);
+    }
+  }
+
+  private static void assertNotNegative(String name, Duration value) {
+    if (value.isNegative()) {
+      throw new MimicJpaInitException(name + " should not be negative: " + value);
+    }
+  }
+}
@@ -1,26 +1,50 @@
 package philo.magicsproutjpa.core;
 
-import static java.lang.Thread.currentThread;
-import static java.util.Arrays.stream;
-import static philo.magicsproutjpa.core.support.MimicJpaReflectionUtils.delegateMethodInvoke;
-import static philo.magicsproutjpa.core.support.MimicJpaReflectionUtils.extractIdGetterMethod;
-import static philo.magicsproutjpa.core.support.MimicJpaReflectionUtils.getIdFieldCount;
-
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.util.LinkedHashMap;
+import java.lang.StackWalker.Option;
+import java.lang.StackWalker.StackFrame;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.jpa.HibernateHints;
+import philo.magicsproutjpa.core.cache.BoundedCache;
+import philo.magicsproutjpa.core.cache.CacheRegion;
+import philo.magicsproutjpa.core.cache.CacheStats;
+import philo.magicsproutjpa.core.cache.EntityCaches;
+import philo.magicsproutjpa.core.cache.QueryCacheKey;
+import philo.magicsproutjpa.core.cache.QueryResultCaches;
 import philo.magicsproutjpa.core.exception.MimicInnerException;
 import philo.magicsproutjpa.core.exception.MimicJpaInitException;
-import philo.magicsproutjpa.core.exception.MimicJpaInnerException;
+import philo.magicsproutjpa.core.exception.MimicOptimisticLockException;
+import philo.magicsproutjpa.core.metrics.OperationStats;
+import philo.magicsproutjpa.core.metrics.RepositoryMetrics;
+import philo.magicsproutjpa.core.metrics.SlowOperationLog;
+import philo.magicsproutjpa.core.metrics.SqlCapture;
+import philo.magicsproutjpa.core.metrics.SqlStatementType;
+import philo.magicsproutjpa.core.query.QueryMethodPlan;
+import philo.magicsproutjpa.core.query.QueryResultKind;
+import philo.magicsproutjpa.core.routing.ReplicaRouter;
 import philo.magicsproutjpa.core.support.EntityManagerFactoryFacade;
 import philo.magicsproutjpa.core.support.MimicJpaReflectionUtils;
-import philo.magicsproutjpa.core.support.VoidFunction;
 
 /**
  * SimpleJpaRepository 처럼 JPA의 기능을 모방한 클래스입니다.
@@ -29,7 +53,7 @@ import philo.magicsproutjpa.core.support.VoidFunction;
  * <br>
  * 기본적인 CRUD 기능을 지원합니다.
  * <br>
- * 구체적으로 save(entity), findAll(), findByID(id), count(), delete(entity), deleteAll() 메서드를 지원합니다.
+ * 구체적으로 save(entity), saveAll(entities), findAll(), findByID(id), count(), delete(entity), deleteAll() 메서드를 지원합니다.
  * <br>
  * 또한 Spring Data에서 지원하는 Query Method 기능을 일부 제공합니다.
  * <br>
@@ -42,30 +66,71 @@ import philo.magicsproutjpa.core.support.VoidFunction;
 @Slf4j
 public abstract class MimicJpaRepository<E, K> {
 
-  private static final String SELECT_QUERY_STRING = "select e from %s e";
-  private static final String DELETE_QUERY_STRING = "delete from %s";
-  private static final String COUNT_QUERY_STRING = "select count(e) from %s e";
+  private static final Object[] NO_PARAMETERS = {};
+  private static final int MAX_BACKOFF_SHIFT = 6; // 재시도 대기 시간은 최대 optimisticLockBackoff * 64
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance(Option.RETAIN_CLASS_REFERENCE);
+
+  private final MimicJpaOptions options;
 
-  private final EntityManager entityManager = EntityManagerFactoryFacade.createEntityManager();
+  private final EntityManager sharedEntityManager; // SHARED 스코프에서만 사용
+  private final ReplicaRouter replicaRouter; // replicaFactoryNames가 있을 때만 사용
+  private final RepositoryMetrics metrics; // metricsEnabled 일 때만 사용
+  private final SlowOperationLog slowOperationLog; // slowOperationThreshold > 0 일 때만 사용
+  private final CacheRegion cacheRegion; // 캐시를 공유하는 범위 (EntityManagerFactory, 엔티티 타입)
+  private final BoundedCache<Object, Object> entityCache; // entityCacheMaxSize > 0 일 때만 사용
+  private final BoundedCache<QueryCacheKey, List<Object>> queryCache; // queryCacheMaxSize > 0 일 때만 사용
 
-  private Class<? extends MimicJpaRepository<E, K>> domainRepositoryClassCache;
-  private Method idGetterMethodCache = null; // 도메인 리포지토리 생성시 자동 초기화
+  private final RepositoryMetadata<E, K> metadata; // 리포지토리 클래스마다 한 번만 계산해서 공유
+  private final Set<String> entityAttributes; // 정렬, 조건 필드 검증에 사용
+  private final String idAttributeName;
+  private final NewEntityStrategy newEntityStrategy; // AUTO가 아닌 실제 전략으로 초기화
+  private final Map<String, QueryMethodPlan> queryMethodPlans;
 
   protected MimicJpaRepository() {
-    Class<E> entityType = entityType();
-    Field[] fields = entityType.getDeclaredFields();
+    this(MimicJpaOptions.defaults());
+  }
+
+  protected MimicJpaRepository(MimicJpaOptions options) {
+    options.validate();
+    this.options = options;
+
+    metadata = RepositoryMetadata.of(this.getClass());
+    Class<E> entityType = metadata.getEntityType();
+
+    entityAttributes = metadata.getEntityAttributes();
+    idAttributeName = metadata.getIdAttributeName();
+    newEntityStrategy = resolveNewEntityStrategy();
+    queryMethodPlans = metadata.getQueryMethodPlans();
 
-    assertIdFieldExist(fields);
-    idGetterMethodCache = assertIdGetterExistAndGet(entityType, fields);
-    domainRepositoryClassCache = getDomainRepository();
+    replicaRouter = options.getReplicaFactoryNames().isEmpty()
+        ? null
+        : new ReplicaRouter(options.getFactoryName(), options.getReplicaFactoryNames(),
+            options.getReplicaRouting(), options.getReplicaStickyWindow());
+    metrics = options.isMetricsEnabled() ? RepositoryMetrics.of(getClass()) : null;
+    slowOperationLog = options.getSlowOperationThreshold().isZero()
+        ? null
+        : SlowOperationLog.of(getClass(), options.getSlowOperationThreshold(),
+            options.getSlowOperationLogsPerSecond(), options.isSlowOperationParametersMasked());
+    cacheRegion = new CacheRegion(options.getFactoryName(), entityType);
+    sharedEntityManager = options.getEntityManagerScope() == EntityManagerScope.SHARED
+        ? EntityManagerFactoryFacade.createEntityManager(options.getFactoryName())
+        : null;
+    entityCache = options.getEntityCacheMaxSize() > 0
+        ? EntityCaches.getOrCreate(cacheRegion, options.getEntityCacheMaxSize(), options.getEntityCacheTtl())
+        : null;
+    queryCache = options.getQueryCacheMaxSize() > 0
+        ? QueryResultCaches.getOrCreate(cacheRegion, options.getQueryCacheMaxSize(), options.getQueryCacheTtl())
+        : null;
   }
 
   /**
    * 기존에 엔티티가 존재하지 않았다면 영속화를 하고 그렇지 않다면 변경을 수행합니다.
    * <br>
-   * 여기서 영속화의 여부는 영속화가 되어있거나 DB에 있는 것을 기준으로 합니다.
+   * 이미 영속 상태인 엔티티는 merge 없이 변경 감지로 수정합니다.
    * <br>
-   * 기존 Sping Data JPA가 id가 null인지를 기준으로 하는 것과는 다르게 동작합니다.
+   * 그 외에는 {@link NewEntityStrategy}에 따라 새로운 엔티티인지 판단합니다.
+   * <br>
+   * 기본값(AUTO)은 생성되는 id라면 id가 null인지를, 직접 할당하는 id라면 DB에 있는지를 기준으로 합니다.
    * <br>
    * 또 Spring Data JPA과 다르게 반환 타입이 boolean입니다.
    * <br>
@@ -75,36 +140,307 @@ public abstract class MimicJpaRepository<E, K> {
    * @return 저장 여부 (true: persist 호출, false: merge 호출)
    */
   public boolean save(E entity) {
-    K id = getIdValue(entity);
+    return measure("save", () -> {
+      boolean persisted = supplyInTransaction(entityManager -> persistOrMerge(entityManager, entity));
+      invalidateCaches(getIdValue(entity));
+      return persisted;
+    });
+  }
 
-    if (isNewEntity(id)) {
-      executeInTransaction(() -> entityManager.persist(entity));
-      return true;
-    }
+  /**
+   * 여러 엔티티를 하나의 트랜잭션에서 저장 혹은 변경합니다.
+   * <br>
+   * batchSize(기본 50)개마다 flush 후 이번 호출로 저장한 엔티티들을 준영속 상태로 만들어서 메모리 사용량을 일정하게 유지합니다.
+   * <br>
+   * 영속성 컨텍스트 전체를 비우지 않으므로 SHARED 스코프나 UnitOfWork에서 관리 중이던 다른 엔티티는 그대로 남습니다.
+   * <br>
+   * INSERT, UPDATE는 hibernate.jdbc.batch_size 설정에 따라 JDBC batch로 묶여서 실행됩니다.
+   * <br>
+   * 중간에 실패하면 전체가 롤백됩니다.
+   *
+   * @param entities 영속 후 DB에 저장할 엔티티들
+   * @return 엔티티 순서대로의 저장 여부 (true: persist 호출, false: merge 호출)
+   */
+  public List<Boolean> saveAll(Iterable<E> entities) {
+    return measure("saveAll", () -> {
+      int batchSize = options.getBatchSize();
+      List<K> savedIds = new ArrayList<>();
 
-    executeInTransaction(() -> entityManager.merge(entity));
-    return false;
+      List<Boolean> results = supplyInTransaction(entityManager -> {
+        List<Boolean> persistedResults = new ArrayList<>();
+        List<E> savedBatch = new ArrayList<>(batchSize);
+        for (E entity : entities) {
+          boolean managedBefore = entityManager.contains(entity); // 호출자가 관리하던 엔티티는 준영속 상태로 만들지 않는다
+          persistedResults.add(persistOrMerge(entityManager, entity));
+          K id = getIdValue(entity);
+          savedIds.add(id);
+          if (!managedBefore) {
+            savedBatch.add(entityManager.contains(entity) ? entity : entityManager.getReference(entityType(), id));
+          }
+          if (persistedResults.size() % batchSize == 0) {
+            entityManager.flush();
+            savedBatch.forEach(entityManager::detach);
+            savedBatch.clear();
+          }
+        }
+        return persistedResults;
+      });
+
+      invalidateCaches(savedIds);
+      return results;
+    });
+  }
+
+  /**
+   * {@link #saveAll(Iterable)}과 같지만 Stream을 받습니다.
+   * <br>
+   * 엔티티를 모두 메모리에 올리지 않고 흘려보내면서 저장할 수 있습니다.
+   */
+  public List<Boolean> saveAll(Stream<E> entities) {
+    Iterable<E> iterable = entities::iterator;
+    return saveAll(iterable);
+  }
+
+  /**
+   * 엔티티를 다시 읽어서 변경을 적용하고 하나의 트랜잭션으로 반영합니다.
+   * <br>
+   * 엔티티에 @Version 필드가 있다면 다른 트랜잭션이 먼저 변경했을 때 {@link MimicOptimisticLockException}이 발생합니다.
+   * <br>
+   * optimisticLockMaxAttempts가 2 이상이면 최신 엔티티를 다시 읽어서 변경을 다시 적용합니다.
+   * <br>
+   * 따라서 modification은 여러 번 호출될 수 있으며, 엔티티의 현재 값만으로 변경을 계산해야 합니다.
+   * <br>
+   * {@link UnitOfWork#begin()}으로 시작한 트랜잭션 안이라면 충돌은 {@link UnitOfWork#commit()}에서 드러나므로 다시 시도하지 않습니다.
+   *
+   * <pre>{@code
+   * itemRepository.update(itemId, item -> item.changeName(item.getName() + "!"));
+   * }</pre>
+   *
+   * @param id 변경할 엔티티의 id
+   * @param modification 영속 상태의 엔티티에 적용할 변경
+   * @return 변경이 반영된 엔티티
+   */
+  public E update(K id, Consumer<E> modification) {
+    return measure("update", null, new Object[]{id}, () -> {
+      int maxAttempts = options.getOptimisticLockMaxAttempts();
+      for (int attempt = 1; ; attempt++) {
+        try {
+          E updatedEntity = supplyInTransaction(entityManager -> {
+            E entity = entityManager.find(entityType(), id);
+            if (entity == null) {
+              throw new MimicInnerException("Entity not found: " + id);
+            }
+            modification.accept(entity);
+            return entity;
+          });
+          invalidateCaches(id);
+          return updatedEntity;
+
+        } catch (MimicOptimisticLockException e) {
+          invalidateCaches(id);
+          if (attempt >= maxAttempts || isTransactionActive()) {
+            throw e;
+          }
+          withEntityManager(entityManager -> { // 오래된 엔티티를 다시 읽지 않도록 영속성 컨텍스트에서 뺀다
+            detachIfManaged(entityManager, id);
+            return null;
+          });
+          log.debug("optimistic lock conflict on {}#{}, retry {}/{}", entityType().getSimpleName(), id,
+              attempt + 1, maxAttempts);
+          backoff(attempt);
+        }
+      }
+    });
   }
 
   /**
    * 모든 엔티티를 찾아옵니다.
    */
   public List<E> findAll() {
-    String selectQuery = String.format(SELECT_QUERY_STRING, entityName());
+    return measure("findAll", metadata.getSelectQuery(), NO_PARAMETERS, () -> {
+      String selectQuery = metadata.getSelectQuery();
 
-    return entityManager
-        .createQuery(selectQuery, entityType())
-        .getResultList();
+      return withReadEntityManager(entityManager -> entityManager
+          .createQuery(selectQuery, entityType())
+          .getResultList());
+    });
+  }
+
+  /**
+   * 엔티티를 페이지 단위로 조회합니다. (offset 방식)
+   * <br>
+   * 정렬 조건 뒤에는 항상 id 오름차순이 붙어서 같은 값이 있어도 페이지의 순서가 바뀌지 않습니다.
+   * <br>
+   * DB는 앞 페이지의 레코드를 모두 읽고 버려야 하므로 뒤쪽 페이지일수록 느려집니다.
+   * <br>
+   * 큰 테이블을 처음부터 끝까지 훑는다면 {@link #findAllAfter(Object, int)}를 사용합니다.
+   *
+   * @param page 0부터 시작하는 페이지 번호
+   * @param size 페이지 크기
+   * @param sort 정렬 조건
+   */
+  public List<E> findAll(int page, int size, Sort sort) {
+    return measure("findAll(page)", metadata.getSelectQuery(), new Object[]{page, size}, () -> {
+      assertPageRequest(page, size);
+      String selectQuery = metadata.getSelectQuery() + buildOrderByClause(sort);
+
+      return withReadEntityManager(entityManager -> entityManager
+          .createQuery(selectQuery, entityType())
+          .setFirstResult(page * size)
+          .setMaxResults(size)
+          .getResultList());
+    });
+  }
+
+  /**
+   * 엔티티를 id 순서로 lastId 다음부터 limit 개 조회합니다. (keyset 방식)
+   * <br>
+   * "where id > lastId order by id" 로 조회하므로 얼마나 뒤쪽 페이지이든 비용이 limit에만 비례합니다.
+   * <br>
+   * 이전 페이지의 마지막 엔티티의 id를 다음 호출의 lastId로 넘깁니다.
+   *
+   * @param lastId 이전 페이지의 마지막 id, 첫 페이지라면 null
+   * @param limit 조회할 최대 엔티티 수
+   */
+  public List<E> findAllAfter(K lastId, int limit) {
+    return measure("findAllAfter", metadata.getSelectQuery(), new Object[]{lastId, limit}, () -> {
+      assertPageRequest(0, limit);
+      String orderBy = " order by e." + idAttributeName + " asc";
+
+      return withReadEntityManager(entityManager -> {
+        if (lastId == null) {
+          return entityManager
+              .createQuery(metadata.getSelectQuery() + orderBy, entityType())
+              .setMaxResults(limit)
+              .getResultList();
+        }
+
+        String keysetQuery = metadata.getSelectQuery()
+            + " where e." + idAttributeName + " > ?1" + orderBy;
+        return entityManager
+            .createQuery(keysetQuery, entityType())
+            .setParameter(1, lastId)
+            .setMaxResults(limit)
+            .getResultList();
+      });
+    });
+  }
+
+  /**
+   * 모든 엔티티를 Stream으로 조회합니다.
+   * <br>
+   * 결과를 한 번에 메모리에 올리지 않고 fetchSize 단위로 DB 커서에서 읽어옵니다.
+   * <br>
+   * streamDetachInterval 개를 읽을 때마다 이미 읽은 엔티티를 준영속 상태로 만들어서 메모리 사용량을 일정하게 유지합니다.
+   * <br>
+   * 스코프와 관계없이 Stream 전용 EntityManager를 사용하며, Stream을 닫을 때 함께 닫힙니다.
+   * <br>
+   * 따라서 반드시 try-with-resources로 사용해야 합니다.
+   *
+   * <pre>{@code
+   * try (Stream<Item> items = itemRepository.streamAll()) {
+   *   items.forEach(...);
+   * }
+   * }</pre>
+   */
+  public Stream<E> streamAll() {
+    return measure("streamAll", metadata.getSelectQuery(), NO_PARAMETERS, () -> {
+      String selectQuery = metadata.getSelectQuery();
+      return openStream(entityManager -> entityManager.createQuery(selectQuery, entityType()));
+    });
   }
 
   /**
    * 키로 엔티티를 조회합니다.
    * <br>
    * 이때 엔티티는 영속화됩니다.
+   * <br>
+   * 단, {@link EntityManagerScope}와 {@link PersistenceContextPolicy}에 따라 준영속 상태로 반환될 수 있습니다.
+   * <br>
+   * entityCacheMaxSize를 설정하면 같은 엔티티 타입의 리포지토리들이 공유하는 캐시를 먼저 조회합니다.
+   * <br>
+   * 레플리카는 쓰기가 늦게 반영될 수 있으므로, 캐시는 프라이머리에서 읽은 엔티티로만 채웁니다.
+   * <br>
+   * 캐시는 엔티티의 복사본을 저장하고 조회할 때마다 새 복사본(준영속)을 반환하므로, 반환된 엔티티를 바꿔도 다른 호출자에게 보이지 않습니다.
+   * <br>
+   * 단, 필드 단위의 얕은 복사이므로 컬렉션, 연관 엔티티는 복사본끼리 공유합니다.
+   * <br>
+   * UnitOfWork 안이거나 SHARED 스코프의 EntityManager가 이미 엔티티를 관리하고 있다면 캐시를 거치지 않고 그 엔티티를 반환합니다.
    */
+  @SuppressWarnings("unchecked")
   public E findById(K id) {
-    Class<E> entityType = entityType();
-    return entityManager.find(entityType, id);
+    return measure("findById", null, new Object[]{id}, () -> {
+      Class<E> entityType = entityType();
+      if (entityCache == null) {
+        return withReadEntityManager(entityManager -> entityManager.find(entityType, id));
+      }
+      if (isManagedByCaller(id)) { // 아직 commit 되지 않은 변경을 읽어야 하며, 그 값은 캐시에 넣지 않는다
+        return withEntityManager(entityManager -> entityManager.find(entityType, id));
+      }
+
+      E cachedEntity = (E) entityCache.get(id);
+      if (cachedEntity != null) {
+        return MimicJpaReflectionUtils.shallowCopy(cachedEntity);
+      }
+
+      long generation = entityCache.generation();
+      boolean fromReplica = readsFromReplica();
+      E foundEntity = withPrivateReadEntityManager(fromReplica, // 닫히면서 준영속 상태가 되므로 호출자의 영속성 컨텍스트와 섞이지 않는다
+          entityManager -> entityManager.find(entityType, id));
+
+      if (foundEntity != null && !fromReplica) { // 레플리카는 방금 무효화한 쓰기를 아직 반영하지 않았을 수 있다
+        entityCache.putIfUnchanged(id, MimicJpaReflectionUtils.shallowCopy(foundEntity), generation);
+      }
+      return foundEntity;
+    });
+  }
+
+  /**
+   * findById 캐시의 통계를 구합니다.
+   * <br>
+   * 캐시를 사용하지 않는다면 {@link CacheStats#EMPTY}를 반환합니다.
+   */
+  public CacheStats entityCacheStats() {
+    return entityCache == null ? CacheStats.EMPTY : entityCache.stats();
+  }
+
+  /**
+   * Query Method 결과 캐시의 통계를 구합니다.
+   * <br>
+   * 캐시를 사용하지 않는다면 {@link CacheStats#EMPTY}를 반환합니다.
+   */
+  public CacheStats queryCacheStats() {
+    return queryCache == null ? CacheStats.EMPTY : queryCache.stats();
+  }
+
+  /**
+   * 리포지토리 작업별 통계(응답 시간 분포, 호출 수, 에러 수, 반환 행 수, SQL 수)를 구합니다.
+   * <br>
+   * 같은 클래스의 리포지토리 인스턴스들의 통계가 합쳐져 있습니다. metricsEnabled가 아니라면 빈 목록을 반환합니다.
+   */
+  public List<OperationStats> operationStats() {
+    return metrics == null ? List.of() : metrics.getOperations();
+  }
+
+  /**
+   * 키에 해당하는 엔티티가 있는지 확인합니다.
+   * <br>
+   * 엔티티를 읽지 않고 "select 1" 쿼리로 한 건만 확인합니다. findById 캐시에 있다면 쿼리를 실행하지 않습니다.
+   */
+  public boolean existsById(K id) {
+    return measure("existsById", metadata.getExistsByIdQuery(), new Object[]{id}, () -> {
+      if (entityCache != null && entityCache.get(id) != null) {
+        return true;
+      }
+
+      String existsQuery = metadata.getExistsByIdQuery();
+      return withReadEntityManager(entityManager -> !entityManager
+          .createQuery(existsQuery, Integer.class)
+          .setParameter(1, id)
+          .setMaxResults(1)
+          .getResultList()
+          .isEmpty());
+    });
   }
 
   /**
@@ -113,26 +449,97 @@ public abstract class MimicJpaRepository<E, K> {
    * RDBMS 관점에서는 엔티티와 연결된 테이블의 모든 레코드를 조회합니다.
    */
   public long count() {
-    String countQuery = String.format(COUNT_QUERY_STRING, entityName());
-    return entityManager
-        .createQuery(countQuery, Long.class)
-        .getSingleResult();
+    return measure("count", metadata.getCountQuery(), NO_PARAMETERS, () -> {
+      String countQuery = metadata.getCountQuery();
+      return withReadEntityManager(entityManager -> entityManager
+          .createQuery(countQuery, Long.class)
+          .getSingleResult());
+    });
   }
 
   /**
    * 모든 엔티티를 제거합니다.
    */
   public void deleteAll() {
-    String deleteQuery = String.format(DELETE_QUERY_STRING, entityName());
-    executeInTransaction(() -> entityManager.createQuery(deleteQuery).executeUpdate());
+    measure("deleteAll", metadata.getDeleteQuery(), NO_PARAMETERS, () -> {
+      String deleteQuery = metadata.getDeleteQuery();
+      executeInTransaction(entityManager -> entityManager.createQuery(deleteQuery).executeUpdate());
+      invalidateAllCaches();
+    });
   }
 
   /**
    * 특정 엔티티를 키 값으로 지웁니다.
+   * <br>
+   * 엔티티를 조회하지 않고 delete 쿼리 한 번으로 지웁니다. 해당 키의 엔티티가 없다면 아무 일도 하지 않습니다.
+   * <br>
+   * 영속성 컨텍스트에 남아있던 엔티티는 준영속 상태가 됩니다.
    */
   public void deleteById(K id) {
-    E entity = entityManager.find(entityType(), id);
-    executeInTransaction(() -> entityManager.remove(entity));
+    measure("deleteById", metadata.getDeleteByIdQuery(), new Object[]{id}, () -> {
+      String deleteQuery = metadata.getDeleteByIdQuery();
+      executeInTransaction(entityManager -> {
+        detachIfManaged(entityManager, id);
+        entityManager.createQuery(deleteQuery)
+            .setParameter(1, id)
+            .executeUpdate();
+      });
+      invalidateCaches(id);
+    });
+  }
+
+  /**
+   * 여러 엔티티를 키 값으로 지웁니다.
+   * <br>
+   * batchSize 개씩 in 조건으로 묶어서 지우며, 전체가 하나의 트랜잭션에서 실행됩니다.
+   * <br>
+   * batchSize는 리포지토리를 생성할 때 0보다 큰지 검증되므로 나눠서 지우는 반복은 항상 끝납니다.
+   * <br>
+   * {@link #deleteById(Object)}와 마찬가지로 엔티티를 조회하지 않습니다.
+   *
+   * @param ids 지울 엔티티들의 키
+   * @return 지워진 레코드 수
+   */
+  public int deleteAllById(Collection<K> ids) {
+    return measure("deleteAllById", metadata.getDeleteByIdsQuery(), new Object[]{ids}, () -> {
+      if (ids.isEmpty()) {
+        return 0;
+      }
+
+      List<K> distinctIds = ids.stream().distinct().toList();
+      int batchSize = options.getBatchSize();
+      String deleteQuery = metadata.getDeleteByIdsQuery();
+
+      int deletedCount = supplyInTransaction(entityManager -> {
+        distinctIds.forEach(id -> detachIfManaged(entityManager, id));
+        int deletedRows = 0;
+        for (int from = 0; from < distinctIds.size(); from += batchSize) {
+          List<K> chunk = distinctIds.subList(from, Math.min(from + batchSize, distinctIds.size()));
+          deletedRows += entityManager.createQuery(deleteQuery)
+              .setParameter(1, chunk)
+              .executeUpdate();
+        }
+        return deletedRows;
+      });
+
+      invalidateCaches(distinctIds);
+      return deletedCount;
+    });
+  }
+
+  /**
+   * 현재 영속성 컨텍스트가 관리하고 있는 엔티티의 수를 구합니다.
+   * <br>
+   * 현재 쓰레드에 열린 {@link UnitOfWork}가 있다면 그 영속성 컨텍스트를 기준으로 합니다.
+   * <br>
+   * 작업마다 EntityManager를 닫는 PER_OPERATION 스코프에서는 항상 0입니다.
+   */
+  public int managedEntityCount() {
+    EntityManager boundEntityManager = UnitOfWork.currentEntityManager(options.getFactoryName());
+    if (boundEntityManager != null) {
+      return countManagedEntities(boundEntityManager);
+    }
+    return sharedEntityManager == null ? 0 : countManagedEntities(sharedEntityManager);
   }
 
   /**
@@ -152,148 +559,796 @@ public abstract class MimicJpaRepository<E, K> {
    * <br>
    * Spring Data JPA와 달리 invokeQueryMethod 메서드에게 위임하는 방식으로 구현해야 합니다.
    * <br>
+   * Query Method는 리포지토리 생성 시점에 미리 해석되므로, 호출 시점에는 호출한 메서드의 이름만 찾습니다.
    *
-   * @param values
-   * @return
+   * @param values 메서드 이름에 적은 필드 순서대로 전달하는 조건 값
+   * @return 조건에 맞는 엔티티들
    */
   protected List<E> invokeQueryMethod(Object... values) {
-    String methodName = searchMethodName();
-    List<String> keys = extractConditionKeys(methodName);
-    Map<String, Object> keyValuePairs = mapWhereClauseKeyValues(keys, values);
-    String queryString = buildQueryString(keys, keyValuePairs);
-    TypedQuery<E> query = createQuery(keyValuePairs, queryString);
-    return query.getResultList();
+    return invokeNamedQueryMethod(searchMethodName(), values);
+  }
+
+  /**
+   * 호출한 메서드를 찾지 않고 메서드 이름으로 Query Method를 실행합니다.
+   * <br>
+   * 스택을 탐색하는 비용조차 없애고 싶을 때 사용합니다.
+   * <br>
+   * queryCacheMaxSize를 설정하면 (메서드 이름, 조건 값)으로 캐싱한 id 목록을 먼저 조회합니다.
+   * <br>
+   * 캐시에 있다면 원래 조건 대신 id로만 엔티티를 읽어오고, 결과의 순서는 처음 조회했을 때와 같습니다.
+   * <br>
+   * id 목록은 프라이머리에서 읽었을 때만 캐싱합니다.
+   *
+   * @param methodName 실행 계획을 찾을 Query Method 이름
+   * @param values 메서드 이름에 적은 필드 순서대로 전달하는 조건 값
+   * @return 조건에 맞는 엔티티들
+   */
+  protected List<E> invokeNamedQueryMethod(String methodName, Object... values) {
+    return invokeQueryMethodPlan(findQueryMethodPlan(methodName), values);
+  }
+
+  /**
+   * 미리 만들어 둔 실행 계획으로 Query Method를 실행합니다.
+   * <br>
+   * {@link QueryMethod}로 생성된 구현체가 호출하며, 실행 계획을 찾는 비용이 없습니다.
+   *
+   * @param plan 엔티티를 반환하는 실행 계획
+   * @param values 실행 계획의 파라미터 순서대로 전달하는 조건 값
+   * @return 조건에 맞는 엔티티들
+   */
+  protected List<E> invokeQueryMethodPlan(QueryMethodPlan plan, Object... values) {
+    assertResultKind(plan, QueryResultKind.ENTITY);
+    assertArgumentCount(plan, values);
+
+    String methodName = plan.getMethodName();
+    return measure(methodName, plan.getJpql(), values, () -> {
+      if (queryCache == null || UnitOfWork.currentEntityManager(options.getFactoryName()) != null) {
+        return getPlanResultList(plan, values); // 작업 단위 안의 결과는 commit 전의 변경을 포함할 수 있다
+      }
+
+      QueryCacheKey cacheKey = QueryCacheKey.of(methodName, values);
+      List<Object> cachedIds = queryCache.get(cacheKey);
+      if (cachedIds != null) {
+        return findAllByIdsInOrder(cachedIds);
+      }
+
+      long generation = queryCache.generation();
+      boolean fromReplica = readsFromReplica();
+      List<E> results = withReadEntityManager(fromReplica,
+          entityManager -> this.<E>createPlanQuery(entityManager, plan, values).getResultList());
+      if (!fromReplica) { // 레플리카는 방금 무효화한 쓰기를 아직 반영하지 않았을 수 있다
+        List<Object> resultIds = results.stream()
+            .<Object>map(this::getIdValue)
+            .toList();
+        queryCache.putIfUnchanged(cacheKey, resultIds, generation);
+      }
+      return results;
+    });
+  }
+
+  /**
+   * {@link #invokeQueryMethod(Object...)}와 같지만 결과를 Stream으로 반환합니다.
+   * <br>
+   * streamBy 혹은 stream으로 시작하는 메서드에서 호출합니다. (예: streamByBirthYear)
+   * <br>
+   * 사용 방법과 주의사항은 {@link #streamAll()}과 같습니다.
+   *
+   * @param values 메서드 이름에 적은 필드 순서대로 전달하는 조건 값
+   * @return 조건에 맞는 엔티티들의 Stream (사용 후 반드시 close)
+   */
+  protected Stream<E> streamQueryMethod(Object... values) {
+    return streamQueryMethodPlan(findQueryMethodPlan(searchMethodName()), values);
   }
 
-  private TypedQuery<E> createQuery(Map<String, Object> keyValuePairs, String queryString) {
-    TypedQuery<E> query = entityManager.createQuery(queryString, entityType());
-    for (var entry : keyValuePairs.entrySet()) {
-      query.setParameter(entry.getKey(), entry.getValue());
+  /**
+   * 미리 만들어 둔 실행 계획으로 streamBy Query Method를 실행합니다. ({@link QueryMethod}로 생성된 구현체가 호출합니다)
+   */
+  protected Stream<E> streamQueryMethodPlan(QueryMethodPlan plan, Object... values) {
+    assertResultKind(plan, QueryResultKind.ENTITY);
+    assertArgumentCount(plan, values);
+
+    return measure(plan.getMethodName(), plan.getJpql(), values,
+        () -> openStream(entityManager -> createPlanQuery(entityManager, plan, values)));
+  }
+
+  /**
+   * 엔티티 대신 필요한 필드만 조회하는 Query Method를 실행합니다.
+   * <br>
+   * 반환 타입에 따라 조회할 필드가 정해집니다.
+   * <br>
+   * - List&lt;record&gt;: record 컴포넌트 이름의 필드들을 조회해서 canonical 생성자로 만듭니다.
+   * <br>
+   * - List&lt;interface&gt;: getter(getName 등) 이름의 필드들을 조회해서 프록시로 만듭니다.
+   * <br>
+   * - find{필드}By{조건}: 해당 필드의 값들을 반환합니다. (예: findNameByBirthYear → List&lt;String&gt;)
+   * <br>
+   * 결과는 영속성 컨텍스트가 관리하지 않으므로 엔티티를 조회할 때보다 메모리를 적게 사용합니다.
+   *
+   * @param values 메서드 이름에 적은 필드 순서대로 전달하는 조건 값
+   * @return 조건에 맞는 프로젝션들
+   * @param <R> 프로젝션 타입
+   */
+  protected <R> List<R> invokeProjectionQueryMethod(Object... values) {
+    return invokeProjectionQueryMethodPlan(findQueryMethodPlan(searchMethodName()), values);
+  }
+
+  /**
+   * 미리 만들어 둔 실행 계획으로 프로젝션 Query Method를 실행합니다. ({@link QueryMethod}로 생성된 구현체가 호출합니다)
+   */
+  @SuppressWarnings("unchecked")
+  protected <R> List<R> invokeProjectionQueryMethodPlan(QueryMethodPlan plan, Object... values) {
+    assertResultKind(plan, QueryResultKind.PROJECTION);
+    assertArgumentCount(plan, values);
+
+    return measure(plan.getMethodName(), plan.getJpql(), values, () -> {
+      List<Object> results = getPlanResultList(plan, values);
+      return (List<R>) results.stream()
+          .map(plan.getResultMapper())
+          .toList();
+    });
+  }
+
+  /**
+   * countBy로 시작하는 Query Method를 실행합니다. (예: countByBirthYear)
+   * <br>
+   * "select count(e)"로 실행되므로 엔티티를 읽어오지 않습니다.
+   *
+   * @param values 메서드 이름에 적은 필드 순서대로 전달하는 조건 값
+   * @return 조건에 맞는 레코드 수
+   */
+  protected long invokeCountQueryMethod(Object... values) {
+    return invokeCountQueryMethodPlan(findQueryMethodPlan(searchMethodName()), values);
+  }
+
+  /**
+   * 미리 만들어 둔 실행 계획으로 countBy Query Method를 실행합니다. ({@link QueryMethod}로 생성된 구현체가 호출합니다)
+   */
+  protected long invokeCountQueryMethodPlan(QueryMethodPlan plan, Object... values) {
+    assertResultKind(plan, QueryResultKind.COUNT);
+    assertArgumentCount(plan, values);
+
+    return measure(plan.getMethodName(), plan.getJpql(), values, () -> withReadEntityManager(
+        entityManager -> this.<Long>createPlanQuery(entityManager, plan, values).getSingleResult()));
+  }
+
+  /**
+   * existsBy로 시작하는 Query Method를 실행합니다. (예: existsByName)
+   * <br>
+   * 조건에 맞는 레코드를 하나만 찾으면 멈추는 "select 1" 쿼리로 실행되므로 엔티티를 읽어오지 않습니다.
+   *
+   * @param values 메서드 이름에 적은 필드 순서대로 전달하는 조건 값
+   * @return 조건에 맞는 레코드가 있는지 여부
+   */
+  protected boolean invokeExistsQueryMethod(Object... values) {
+    return invokeExistsQueryMethodPlan(findQueryMethodPlan(searchMethodName()), values);
+  }
+
+  /**
+   * 미리 만들어 둔 실행 계획으로 existsBy Query Method를 실행합니다. ({@link QueryMethod}로 생성된 구현체가 호출합니다)
+   */
+  protected boolean invokeExistsQueryMethodPlan(QueryMethodPlan plan, Object... values) {
+    assertResultKind(plan, QueryResultKind.EXISTS);
+    assertArgumentCount(plan, values);
+
+    return measure(plan.getMethodName(), plan.getJpql(), values, () -> !getPlanResultList(plan, values).isEmpty());
+  }
+
+  /**
+   * updateBy로 시작하는 Query Method를 실행합니다. (예: updateNameById)
+   * <br>
+   * 엔티티를 읽지 않고 하나의 "update ... set" 쿼리로 조건에 맞는 레코드를 모두 바꿉니다.
+   * <br>
+   * 쿼리는 영속성 컨텍스트를 거치지 않으므로, 실행 전에 변경 내용을 flush하고 실행 후에는 관리 중이던 같은 타입의 엔티티를 준영속 상태로 만듭니다.
+   * <br>
+   * 캐시에 남은 엔티티와 Query Method 결과도 모두 무효화되므로 이후의 조회는 바뀐 값을 읽습니다.
+   *
+   * @param values 메서드 이름에 적은 바꿀 값, 조건 값 순서대로 전달하는 값
+   * @return 바뀐 레코드 수
+   */
+  protected int invokeUpdateQueryMethod(Object... values) {
+    return invokeUpdateQueryMethodPlan(findQueryMethodPlan(searchMethodName()), values);
+  }
+
+  /**
+   * 미리 만들어 둔 실행 계획으로 updateBy Query Method를 실행합니다.
+   */
+  protected int invokeUpdateQueryMethodPlan(QueryMethodPlan plan, Object... values) {
+    assertResultKind(plan, QueryResultKind.UPDATE);
+    assertArgumentCount(plan, values);
+
+    return measure(plan.getMethodName(), plan.getJpql(), values, () -> {
+      int updatedCount = supplyInTransaction(entityManager -> {
+        entityManager.flush(); // 아직 반영되지 않은 변경이 준영속 상태가 되면서 사라지지 않도록
+        Query query = entityManager.createQuery(plan.getJpql());
+        for (int i = 0; i < values.length; i++) {
+          query.setParameter(i + 1, plan.toParameterValue(i + 1, values[i]));
+        }
+        int updatedRows = query.executeUpdate();
+        detachManagedEntities(entityManager);
+        return updatedRows;
+      });
+
+      invalidateAllCaches();
+      return updatedCount;
+    });
+  }
+
+  private <T> List<T> getPlanResultList(QueryMethodPlan plan, Object[] values) {
+    return withReadEntityManager(entityManager -> this.<T>createPlanQuery(entityManager, plan, values).getResultList());
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> TypedQuery<T> createPlanQuery(EntityManager entityManager, QueryMethodPlan plan, Object[] values) {
+    TypedQuery<T> query = entityManager.createQuery(plan.getJpql(), (Class<T>) plan.getResultType());
+    for (int i = 0; i < values.length; i++) {
+      query.setParameter(i + 1, plan.toParameterValue(i + 1, values[i]));
+    }
+    if (plan.getMaxResults() > 0) {
+      query.setMaxResults(plan.getMaxResults());
     }
     return query;
   }
 
-  private String buildQueryString(
-      List<String> keys,
-      Map<String, Object> whereClauseKeyValues
-  ) {
-    String firstQueryPiece = String.format(
-        String.format("select e from %s e where ", entityName()));
+  /**
+   * 캐싱된 id 목록의 엔티티들을 batchSize 개씩 in 조회로 읽어와 id 목록의 순서대로 정렬합니다.
+   * <br>
+   * in 조건의 파라미터 수가 데이터베이스의 제한을 넘지 않도록 deleteAllById와 같이 나눠서 조회합니다.
+   * <br>
+   * 그 사이 지워진 엔티티는 결과에서 빠집니다.
+   */
+  private List<E> findAllByIdsInOrder(List<Object> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
 
-    List<String> keyStatements = keys.stream()
-        .map(key -> String.format("e.%s = :%s", key, key))
+    int batchSize = options.getBatchSize();
+    String selectQuery = metadata.getSelectByIdsQuery();
+    Map<Object, E> entitiesById = withReadEntityManager(entityManager -> {
+      Map<Object, E> foundEntities = new HashMap<>();
+      for (int from = 0; from < ids.size(); from += batchSize) {
+        List<Object> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+        entityManager.createQuery(selectQuery, entityType())
+            .setParameter(1, chunk)
+            .getResultList()
+            .forEach(entity -> foundEntities.put(getIdValue(entity), entity));
+      }
+      return foundEntities;
+    });
+    return ids.stream()
+        .map(entitiesById::get)
+        .filter(Objects::nonNull)
         .toList();
+  }
 
-    String andStatement = String.join(" and ", keyStatements);
-
-    return firstQueryPiece + andStatement;
+  /**
+   * delete 쿼리는 영속성 컨텍스트를 거치지 않으므로, 남아있는 엔티티가 다시 flush 되지 않도록 준영속 상태로 만듭니다.
+   * <br>
+   * getReference는 이미 관리 중인 엔티티가 있으면 그 엔티티를, 없으면 초기화되지 않은 프록시를 반환하므로 조회가 일어나지 않습니다.
+   */
+  private void detachIfManaged(EntityManager entityManager, K id) {
+    entityManager.detach(entityManager.getReference(entityType(), id));
   }
 
-  private LinkedHashMap<String, Object> mapWhereClauseKeyValues(
-      List<String> conditionKeys,
-      Object[] conditionValue) {
-    LinkedHashMap<String, Object> keyValuePairs = new LinkedHashMap<>();
-    for (int i = 0; i < conditionKeys.size(); i++) {
-      keyValuePairs.put(conditionKeys.get(i), conditionValue[i]);
+  /**
+   * 영속성 컨텍스트가 관리하는 이 리포지토리 엔티티 타입의 엔티티들을 준영속 상태로 만듭니다.
+   * <br>
+   * 다른 타입의 엔티티는 그대로 두므로 SHARED 스코프나 UnitOfWork에서도 다른 리포지토리의 작업에 영향을 주지 않습니다.
+   */
+  private void detachManagedEntities(EntityManager entityManager) {
+    Class<E> entityType = entityType();
+    PersistenceContext persistenceContext = entityManager.unwrap(SessionImplementor.class)
+        .getPersistenceContextInternal();
+    for (Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries()) {
+      if (entityType.isInstance(entry.getKey())) {
+        entityManager.detach(entry.getKey());
+      }
     }
-    return keyValuePairs;
   }
 
-  private String searchMethodName() {
-    return stream(currentThread().getStackTrace())
-        .filter(this::equalsClassName)
-        .map(StackTraceElement::getMethodName)
-        .findAny()
-        .orElseThrow(MimicInnerException::new);
+  /**
+   * 쓰기 작업 후 캐시를 무효화합니다.
+   * <br>
+   * {@link UnitOfWork#begin()}으로 시작한 트랜잭션 안이라면 commit 전에 다른 쓰레드가 이전 값을 다시 캐시에 넣을 수 있으므로,
+   * 작업 단위가 commit 후에 한 번 더 무효화하도록 기록합니다.
+   */
+  private void invalidateCaches(Object id) {
+    EntityCaches.evict(cacheRegion, id);
+    QueryResultCaches.invalidate(cacheRegion);
+    UnitOfWork.evictAfterCommit(options.getFactoryName(), cacheRegion, id);
   }
 
-  private boolean equalsClassName(StackTraceElement stackTraceElement) {
-    return stackTraceElement.getClassName().equals(domainRepositoryClassCache.getName());
+  private void invalidateCaches(Collection<?> ids) {
+    ids.forEach(id -> {
+      EntityCaches.evict(cacheRegion, id);
+      UnitOfWork.evictAfterCommit(options.getFactoryName(), cacheRegion, id);
+    });
+    QueryResultCaches.invalidate(cacheRegion);
   }
 
-  private void executeInTransaction(VoidFunction function) {
-    EntityTransaction transaction = entityManager.getTransaction();
+  private void invalidateAllCaches() {
+    EntityCaches.evictAll(cacheRegion);
+    QueryResultCaches.invalidate(cacheRegion);
+    UnitOfWork.evictAfterCommit(options.getFactoryName(), cacheRegion, null);
+  }
+
+  private String buildOrderByClause(Sort sort) {
+    sort.getOrders().forEach(order -> assertSortableProperty(order.property()));
+
+    boolean sortedById = sort.getOrders().stream()
+        .anyMatch(order -> order.property().equals(idAttributeName));
+    Sort stableSort = sortedById ? sort : sort.and(Sort.asc(idAttributeName));
 
+    return " order by " + String.join(", ", stableSort.getOrders().stream()
+        .map(Sort.Order::toJpql)
+        .toList());
+  }
+
+  private void assertSortableProperty(String property) {
+    if (!entityAttributes.contains(property)) {
+      throw new MimicInnerException("Unknown sort property: " + property);
+    }
+  }
+
+  private static void assertPageRequest(int page, int size) {
+    if (page < 0 || size <= 0) {
+      throw new MimicInnerException("Invalid page request: page=" + page + ", size=" + size);
+    }
+  }
+
+  private Stream<E> openStream(Function<EntityManager, TypedQuery<E>> queryFactory) {
+    boolean fromReplica = readsFromReplica();
+    String factoryName = fromReplica ? replicaRouter.acquire() : options.getFactoryName();
+    Runnable releaseReplica = () -> {
+      if (fromReplica) {
+        replicaRouter.release(factoryName);
+      }
+    };
+    EntityManager entityManager;
     try {
-      transaction.begin();
-      function.execute(); // Execute Actual Query
-      transaction.commit();
+      entityManager = EntityManagerFactoryFacade.createEntityManager(factoryName);
+    } catch (RuntimeException e) {
+      releaseReplica.run();
+      throw e;
+    }
+    int detachInterval = options.getStreamDetachInterval();
+    AtomicLong readCount = new AtomicLong();
+
+    try {
+      entityManager.getTransaction().begin(); // 커서를 유지하는 동안 auto commit을 끈다
+      return queryFactory.apply(entityManager)
+          .setHint(HibernateHints.HINT_FETCH_SIZE, options.getFetchSize())
+          .setHint(HibernateHints.HINT_READ_ONLY, true)
+          .getResultStream()
+          .map(entity -> {
+            if (readCount.incrementAndGet() % detachInterval == 0) {
+              entityManager.clear();
+            }
+            return entity;
+          })
+          .onClose(() -> {
+            closeStreamEntityManager(entityManager);
+            releaseReplica.run();
+          });
 
     } catch (Exception e) {
-      if (transaction.isActive()) {
-        transaction.rollback();
-        log.info("transaction rollback !");
-      }
+      closeStreamEntityManager(entityManager);
+      releaseReplica.run();
       throw new MimicInnerException(e);
     }
   }
 
+  private static void closeStreamEntityManager(EntityManager entityManager) {
+    EntityTransaction transaction = entityManager.getTransaction();
+    if (transaction.isActive()) {
+      transaction.rollback(); // 조회만 했으므로 반영할 것이 없다
+    }
+    entityManager.close();
+  }
+
+  private QueryMethodPlan findQueryMethodPlan(String methodName) {
+    QueryMethodPlan plan = queryMethodPlans.get(methodName);
+    if (plan == null) {
+      throw new MimicInnerException("Query method plan not found: " + methodName);
+    }
+    return plan;
+  }
+
+  private static void assertResultKind(QueryMethodPlan plan, QueryResultKind expectedKind) {
+    if (plan.getResultKind() != expectedKind) {
+      throw new MimicInnerException(
+          "Query method '" + plan.getMethodName() + "' returns " + plan.getResultKind() + ", not " + expectedKind);
+    }
+  }
+
+  private static void assertArgumentCount(QueryMethodPlan plan, Object[] values) {
+    if (plan.getParameterCount() != values.length) {
+      throw new MimicInnerException(
+          "Query method '" + plan.getMethodName() + "' requires " + plan.getParameterCount()
+              + " arguments but " + values.length + " were given");
+    }
+  }
+
   /**
-   * 문자열에서 유의미한 필드명을 추출합니다.
+   * invokeQueryMethod를 호출한 도메인 리포지토리의 메서드 이름을 찾습니다.
    * <br>
-   * 예를들어 "findByNameAndAge"에서 ["name", "age"]를 추출합니다.
-   *
-   * @param methodName 메서드 이름
-   * @return 필드 이름들
+   * 전체 스택을 만들지 않고 필요한 프레임까지만 탐색합니다.
    */
-  private static List<String> extractConditionKeys(String methodName) {
-    String whereClause = methodName.replaceFirst("findBy|find", "");
-    return stream(whereClause.split("And"))
-        .map(word -> word.substring(0, 1).toLowerCase() + word.substring(1))
-        .toList();
+  private String searchMethodName() {
+    return STACK_WALKER.walk(frames -> frames
+            .filter(MimicJpaRepository::isDomainRepositoryFrame)
+            .map(StackFrame::getMethodName)
+            .findFirst())
+        .orElseThrow(MimicInnerException::new);
   }
 
-  private void assertIdFieldExist(Field[] fields) {
-    long idFieldCount = getIdFieldCount(fields);
+  private static boolean isDomainRepositoryFrame(StackFrame frame) {
+    Class<?> declaringClass = frame.getDeclaringClass();
+    return declaringClass != MimicJpaRepository.class
+        && MimicJpaRepository.class.isAssignableFrom(declaringClass);
+  }
 
-    if (idFieldCount == 0) {
-      throw new MimicJpaInitException("Id field not found");
+  private boolean persistOrMerge(EntityManager entityManager, E entity) {
+    if (entityManager.contains(entity)) { // 이미 영속 상태라면 commit 시점에 변경 감지로 반영된다
+      return false;
+    }
 
-    } else if (idFieldCount >= 2) {
-      throw new MimicJpaInitException("Multiple Id fields found");
+    if (isNewEntity(entityManager, entity)) {
+      entityManager.persist(entity);
+      return true;
     }
+
+    entityManager.merge(entity);
+    return false;
+  }
+
+  private <R> R measure(String operation, Supplier<R> work) {
+    return measure(operation, null, NO_PARAMETERS, work);
+  }
+
+  private void measure(String operation, String jpql, Object[] parameters, Runnable work) {
+    measure(operation, jpql, parameters, () -> {
+      work.run();
+      return null;
+    });
   }
 
   /**
-   * ID Getter가 존재하는지 여부를 조회 합니다.
+   * metricsEnabled 라면 작업의 지표를 기록하고, repeatedStatementPolicy에 따라 반복된 SELECT 문을 검사합니다.
    * <br>
-   * 검증 성공시 해당 Method를 반환합니다.
+   * slowOperationThreshold보다 오래 걸렸다면 JPQL, 파라미터와 함께 로그를 남깁니다.
+   * <br>
+   * 모두 꺼져 있다면 작업만 수행합니다.
    *
-   * @param entity 엔티티 타입 클래스
-   * @param fields 위 클래스에 속하는 filed들
-   * @return ID Getter Method
+   * @param jpql 작업이 실행하는 JPQL, 없다면 null
+   * @param parameters JPQL에 바인딩하는 파라미터
    */
-  private Method assertIdGetterExistAndGet(Class<E> entity, Field[] fields) {
+  private <R> R measure(String operation, String jpql, Object[] parameters, Supplier<R> work) {
+    Supplier<R> inspectedWork = options.getRepeatedStatementPolicy() == RepeatedStatementPolicy.OFF
+        ? work
+        : () -> detectRepeatedStatements(operation, work);
+    Supplier<R> measuredWork = metrics == null
+        ? inspectedWork
+        : () -> metrics.measure(operation, inspectedWork, this::countRows);
+    if (slowOperationLog == null) {
+      return measuredWork.get();
+    }
+
+    long startNanos = System.nanoTime();
+    R result = null;
     try {
-      return extractIdGetterMethod(entity, fields);
-    } catch (MimicJpaInnerException e) { // 예외 전환
-      throw new MimicJpaInitException("Id getter method should exist", e);
+      result = measuredWork.get();
+      return result;
+    } finally {
+      slowOperationLog.record(operation, jpql, parameters, countRows(result), System.nanoTime() - startNanos);
+    }
+  }
+
+  private <R> R detectRepeatedStatements(String operation, Supplier<R> work) {
+    try (SqlCapture capture = SqlCapture.start()) {
+      R result = work.get();
+      capture.shapeCounts(SqlStatementType.SELECT).forEach((shape, count) -> {
+        if (count >= options.getRepeatedStatementThreshold()) {
+          reportRepeatedStatement(operation, shape, count);
+        }
+      });
+      return result;
+    }
+  }
+
+  private void reportRepeatedStatement(String operation, String shape, int count) {
+    String message = "Repeated statement in '%s' (%d times): %s".formatted(operation, count, shape);
+    if (options.getRepeatedStatementPolicy() == RepeatedStatementPolicy.FAIL) {
+      throw new MimicInnerException(message);
+    }
+    log.warn(message);
+  }
+
+  private long countRows(Object result) {
+    if (result instanceof Collection<?> collection) {
+      return collection.size();
     }
+    if (result instanceof Integer affectedRows) { // update, delete 쿼리로 바뀐 레코드 수
+      return affectedRows;
+    }
+    return entityType().isInstance(result) ? 1 : 0;
   }
 
-  private boolean isNewEntity(K id) {
+  /**
+   * 스코프에 맞는 EntityManager로 작업을 수행합니다.
+   * <br>
+   * 현재 쓰레드에 {@link UnitOfWork}가 열려있다면 스코프와 관계없이 그 EntityManager를 사용합니다.
+   * <br>
+   * PER_OPERATION 스코프라면 작업마다 EntityManager를 만들고 작업이 끝나면 닫습니다.
+   */
+  private <R> R withEntityManager(Function<EntityManager, R> work) {
+    EntityManager boundEntityManager = UnitOfWork.currentEntityManager(options.getFactoryName());
+    if (boundEntityManager != null) {
+      return work.apply(boundEntityManager);
+    }
+
+    if (sharedEntityManager != null) {
+      R result = work.apply(sharedEntityManager);
+      applyPersistenceContextPolicy(result);
+      return result;
+    }
+
+    EntityManager entityManager = EntityManagerFactoryFacade.createEntityManager(options.getFactoryName());
+    try {
+      return work.apply(entityManager);
+    } finally {
+      entityManager.close();
+    }
+  }
+
+  /**
+   * 호출자가 사용하는 영속성 컨텍스트(UnitOfWork, SHARED 스코프)에서 조회해야 하는지 여부입니다.
+   * <br>
+   * UnitOfWork 안에서는 항상, SHARED 스코프에서는 이미 엔티티를 관리하고 있을 때 true입니다.
+   * <br>
+   * 이때 캐시의 엔티티를 반환하면 아직 반영되지 않은 변경이 보이지 않으므로 캐시를 거치지 않습니다.
+   */
+  private boolean isManagedByCaller(K id) {
+    if (UnitOfWork.currentEntityManager(options.getFactoryName()) != null) {
+      return true;
+    }
+    if (sharedEntityManager == null || id == null) {
+      return false;
+    }
+
+    SessionImplementor session = sharedEntityManager.unwrap(SessionImplementor.class);
+    EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(entityType());
+    return session.getPersistenceContextInternal().containsEntity(session.generateEntityKey(id, persister));
+  }
+
+  /**
+   * 스코프, UnitOfWork와 관계없이 작업마다 새로 만들고 닫는 EntityManager로 읽기 작업을 수행합니다.
+   * <br>
+   * fromReplica라면 레플리카에서 읽습니다. 결과 엔티티는 준영속 상태입니다.
+   */
+  private <R> R withPrivateReadEntityManager(boolean fromReplica, Function<EntityManager, R> work) {
+    if (fromReplica) {
+      return replicaRouter.route(replicaFactoryName -> withNewEntityManager(replicaFactoryName, work));
+    }
+    return withNewEntityManager(options.getFactoryName(), work);
+  }
+
+  private static <R> R withNewEntityManager(String factoryName, Function<EntityManager, R> work) {
+    EntityManager entityManager = EntityManagerFactoryFacade.createEntityManager(factoryName);
+    try {
+      return work.apply(entityManager);
+    } finally {
+      entityManager.close();
+    }
+  }
+
+  /**
+   * 읽기 작업을 레플리카의 EntityManager로 수행합니다.
+   * <br>
+   * 레플리카가 없거나 현재 쓰레드에서 방금 쓰기 작업이 있었다면 {@link #withEntityManager(Function)}로 프라이머리에서 읽습니다.
+   * <br>
+   * 레플리카의 EntityManager는 스코프와 관계없이 작업마다 만들고 닫습니다.
+   */
+  private <R> R withReadEntityManager(Function<EntityManager, R> work) {
+    return withReadEntityManager(readsFromReplica(), work);
+  }
+
+  /**
+   * 레플리카에서 읽을지를 미리 정해서 읽기 작업을 수행합니다.
+   * <br>
+   * 캐시는 프라이머리에서 읽은 결과로만 채우므로, 캐시에 넣을지 정할 때 같은 판단을 사용합니다.
+   */
+  private <R> R withReadEntityManager(boolean fromReplica, Function<EntityManager, R> work) {
+    if (!fromReplica) {
+      return withEntityManager(work);
+    }
+
+    return replicaRouter.route(replicaFactoryName -> withNewEntityManager(replicaFactoryName, work));
+  }
+
+  private boolean readsFromReplica() {
+    return replicaRouter != null
+        && !UnitOfWork.isWritten(options.getFactoryName())
+        && !replicaRouter.isSticky();
+  }
+
+  /**
+   * 현재 쓰레드가 프라이머리에 썼음을 기록해서 이후의 읽기 작업이 프라이머리로 가게 합니다.
+   */
+  private void markWritten() {
+    if (replicaRouter != null) {
+      replicaRouter.markWritten();
+      UnitOfWork.markWritten(options.getFactoryName());
+    }
+  }
+
+  /**
+   * SHARED 스코프의 EntityManager에 영속성 컨텍스트 정책을 적용합니다.
+   * <br>
+   * 트랜잭션이 진행 중일 때는 아직 반영되지 않은 변경이 사라지지 않도록 적용하지 않습니다.
+   */
+  private void applyPersistenceContextPolicy(Object result) {
+    if (sharedEntityManager.getTransaction().isActive()) {
+      return;
+    }
+
+    switch (options.getPersistenceContextPolicy()) {
+      case CLEAR_AFTER_OPERATION -> sharedEntityManager.clear();
+      case CLEAR_AFTER_THRESHOLD -> {
+        if (countManagedEntities(sharedEntityManager) > options.getManagedEntityThreshold()) {
+          sharedEntityManager.clear();
+        }
+      }
+      case DETACH_RESULTS -> detachEntities(result);
+      case RETAIN -> {
+        // 아무것도 하지 않는다
+      }
+    }
+  }
+
+  private void detachEntities(Object result) {
+    Class<E> entityType = entityType();
+    if (entityType.isInstance(result)) {
+      sharedEntityManager.detach(result);
+    } else if (result instanceof Collection<?> collection) {
+      collection.stream()
+          .filter(entityType::isInstance)
+          .forEach(sharedEntityManager::detach);
+    }
+  }
+
+  private static int countManagedEntities(EntityManager entityManager) {
+    return entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+  }
+
+  private void executeInTransaction(Consumer<EntityManager> work) {
+    supplyInTransaction(entityManager -> {
+      work.accept(entityManager);
+      return null;
+    });
+  }
+
+  /**
+   * 트랜잭션 안에서 작업을 수행합니다.
+   * <br>
+   * {@link UnitOfWork#begin()}으로 트랜잭션이 시작되어 있다면 새로 시작하지 않고 참여합니다.
+   * <br>
+   * 이때 commit, rollback은 작업 단위가 결정하며, 이 작업은 예외를 바꿔서 던지기만 합니다.
+   * <br>
+   * 레플리카를 사용한다면 이후의 읽기 작업은 잠시 프라이머리로 갑니다.
+   */
+  private <R> R supplyInTransaction(Function<EntityManager, R> work) {
+    markWritten();
+    return withEntityManager(entityManager -> {
+      EntityTransaction transaction = entityManager.getTransaction();
+      if (transaction.isActive()) {
+        try {
+          return work.apply(entityManager);
+        } catch (RuntimeException e) {
+          throw PersistenceExceptions.translate(e, entityType().getSimpleName());
+        }
+      }
+
+      try {
+        transaction.begin();
+        R result = work.apply(entityManager); // Execute Actual Query
+        transaction.commit();
+        return result;
+
+      } catch (Exception e) {
+        if (transaction.isActive()) {
+          transaction.rollback();
+          log.info("transaction rollback !");
+        }
+        throw PersistenceExceptions.translate(e, entityType().getSimpleName());
+      }
+    });
+  }
+
+  private boolean isTransactionActive() {
+    EntityManager boundEntityManager = UnitOfWork.currentEntityManager(options.getFactoryName());
+    EntityManager entityManager = boundEntityManager != null ? boundEntityManager : sharedEntityManager;
+    return entityManager != null && entityManager.getTransaction().isActive();
+  }
+
+  /**
+   * 시도 횟수마다 두 배씩 늘어나는 시간 안에서 무작위로 기다립니다. (full jitter)
+   */
+  private void backoff(int attempt) {
+    long maxBackoffMillis = options.getOptimisticLockBackoff().toMillis() << Math.min(attempt - 1, MAX_BACKOFF_SHIFT);
+    if (maxBackoffMillis <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(ThreadLocalRandom.current().nextLong(maxBackoffMillis + 1));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MimicInnerException(e);
+    }
+  }
+
+  /**
+   * 리포지토리 생성 시 정한 {@link NewEntityStrategy}에 따라 엔티티가 새로운 엔티티인지(persist 대상인지) 판단합니다.
+   * <br>
+   * ID_NULL, VERSION_NULL, PERSISTABLE은 조회 없이 판단하며, DATABASE_LOOKUP만 id로 DB를 조회합니다.
+   */
+  private boolean isNewEntity(EntityManager entityManager, E entity) {
+    return switch (newEntityStrategy) {
+      case ID_NULL -> getIdValue(entity) == null;
+      case VERSION_NULL -> metadata.getVersionAccessor().apply(entity) == null;
+      case PERSISTABLE -> ((Persistable) entity).isNew();
+      case DATABASE_LOOKUP, AUTO -> isNotStored(entityManager, getIdValue(entity));
+    };
+  }
+
+  private boolean isNotStored(EntityManager entityManager, K id) {
     return id == null
         || entityManager.find(entityType(), id) == null;
   }
 
+  /**
+   * 설정된 새 엔티티 판단 전략을 검증하고, AUTO라면 엔티티에 맞는 전략을 고릅니다.
+   */
+  private NewEntityStrategy resolveNewEntityStrategy() {
+    boolean persistable = metadata.isPersistable();
+    boolean nullableVersion = metadata.isNullableVersion();
+
+    return switch (options.getNewEntityStrategy()) {
+      case AUTO -> {
+        if (persistable) {
+          yield NewEntityStrategy.PERSISTABLE;
+        } else if (nullableVersion) {
+          yield NewEntityStrategy.VERSION_NULL;
+        } else if (metadata.isGeneratedId()) {
+          yield NewEntityStrategy.ID_NULL;
+        }
+        yield NewEntityStrategy.DATABASE_LOOKUP;
+      }
+      case VERSION_NULL -> {
+        if (!nullableVersion) {
+          throw new MimicJpaInitException("Wrapper type version field should exist");
+        }
+        yield NewEntityStrategy.VERSION_NULL;
+      }
+      case PERSISTABLE -> {
+        if (!persistable) {
+          throw new MimicJpaInitException("Entity should implement Persistable");
+        }
+        yield NewEntityStrategy.PERSISTABLE;
+      }
+      default -> options.getNewEntityStrategy();
+    };
+  }
+
   /**
    * 엔티티의 ID값을 불러옵니다
    * @param entity
    * @return ID값
    */
   private K getIdValue(E entity) {
-    return delegateMethodInvoke(entity, idGetterMethodCache);
+    return metadata.getIdAccessor().apply(entity);
   }
 
   private Class<E> entityType() {
-    return MimicJpaReflectionUtils.getEntityType(this.getClass()); // delegate
-  }
-
-  private String entityName() {
-    return entityType().getSimpleName();
-  }
-
-  private Class<? extends MimicJpaRepository<E, K>> getDomainRepository() {
-    return (Class<? extends MimicJpaRepository<E, K>>) this.getClass();
+    return metadata.getEntityType();
   }
 }
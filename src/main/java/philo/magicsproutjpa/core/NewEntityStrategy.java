@@ -0,0 +1,38 @@
+package philo.magicsproutjpa.core;
+
+/**
+ * save(entity)에서 persist를 할지 merge를 할지 판단하는 전략입니다.
+ */
+public enum NewEntityStrategy {
+
+  /**
+   * 엔티티에 맞는 전략을 자동으로 고릅니다.
+   * <br>
+   * {@link Persistable} 구현 → PERSISTABLE, wrapper 타입의 @Version 필드 → VERSION_NULL,
+   * <br>
+   * @GeneratedValue id → ID_NULL, 그 외(직접 할당하는 id) → DATABASE_LOOKUP 순서로 판단합니다.
+   */
+  AUTO,
+
+  /**
+   * id가 null이거나 DB에 해당 id의 레코드가 없으면 새로운 엔티티로 봅니다.
+   * <br>
+   * 저장할 때마다 SELECT가 한 번 더 발생합니다.
+   */
+  DATABASE_LOOKUP,
+
+  /**
+   * id가 null이면 새로운 엔티티로 봅니다.
+   */
+  ID_NULL,
+
+  /**
+   * @Version 필드가 null이면 새로운 엔티티로 봅니다.
+   */
+  VERSION_NULL,
+
+  /**
+   * {@link Persistable#isNew()}의 결과를 따릅니다.
+   */
+  PERSISTABLE
+}
@@ -0,0 +1,16 @@
+package philo.magicsproutjpa.core;
+
+/**
+ * 엔티티가 직접 새로운 엔티티인지를 알려주고 싶을 때 구현하는 인터페이스입니다.
+ * <br>
+ * id를 직접 할당하는 엔티티처럼 id, version 만으로 새로운 엔티티인지 판단할 수 없을 때 사용합니다.
+ *
+ * @see NewEntityStrategy#PERSISTABLE
+ */
+public interface Persistable {
+
+  /**
+   * @return 아직 DB에 저장되지 않은 엔티티라면 true
+   */
+  boolean isNew();
+}
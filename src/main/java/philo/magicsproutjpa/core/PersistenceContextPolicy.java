@@ -0,0 +1,31 @@
+package philo.magicsproutjpa.core;
+
+/**
+ * SHARED 스코프의 리포지토리가 영속성 컨텍스트를 언제 비울지를 정하는 정책입니다.
+ * <br>
+ * 오래 사용하는 리포지토리에서 관리되는 엔티티가 끝없이 쌓이지 않도록 합니다.
+ * <br>
+ * PER_OPERATION 스코프와 {@link UnitOfWork}의 EntityManager에는 적용하지 않습니다.
+ */
+public enum PersistenceContextPolicy {
+
+  /**
+   * 영속성 컨텍스트를 비우지 않습니다. (기존 동작)
+   */
+  RETAIN,
+
+  /**
+   * 작업(save, findById 등)이 끝날 때마다 영속성 컨텍스트를 비웁니다.
+   */
+  CLEAR_AFTER_OPERATION,
+
+  /**
+   * 작업이 끝났을 때 관리되는 엔티티가 managedEntityThreshold 개를 넘으면 영속성 컨텍스트를 비웁니다.
+   */
+  CLEAR_AFTER_THRESHOLD,
+
+  /**
+   * 조회 결과(findById, findAll, Query Method)로 반환하는 엔티티를 준영속 상태로 만듭니다.
+   */
+  DETACH_RESULTS
+}
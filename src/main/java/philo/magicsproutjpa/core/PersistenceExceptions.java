@@ -0,0 +1,37 @@
+package philo.magicsproutjpa.core;
+
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.StaleStateException;
+import philo.magicsproutjpa.core.exception.MimicInnerException;
+import philo.magicsproutjpa.core.exception.MimicOptimisticLockException;
+
+/**
+ * 트랜잭션 중에 발생한 JPA, Hibernate 예외를 MimicJpaRepository의 예외로 바꿉니다.
+ * <br>
+ * 리포지토리의 트랜잭션과 {@link UnitOfWork}의 트랜잭션이 같은 규칙을 사용합니다.
+ */
+final class PersistenceExceptions {
+
+  private PersistenceExceptions() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * @Version 충돌(commit 시점의 RollbackException, merge 시점의 OptimisticLockException)은
+   * {@link MimicOptimisticLockException}으로, 나머지는 {@link MimicInnerException}으로 감쌉니다.
+   *
+   * @param e 트랜잭션 중에 발생한 예외
+   * @param target 예외 메시지에 남길 대상 (엔티티 이름 등)
+   */
+  static MimicInnerException translate(Exception e, String target) {
+    if (e instanceof MimicInnerException mimicException) {
+      return mimicException;
+    }
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof OptimisticLockException || cause instanceof StaleStateException) {
+        return new MimicOptimisticLockException("Entity was changed by another transaction: " + target, e);
+      }
+    }
+    return new MimicInnerException(e);
+  }
+}
@@ -0,0 +1,36 @@
+package philo.magicsproutjpa.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컴파일 시점에 구현되는 Query Method를 표시합니다.
+ * <br>
+ * 추상 리포지토리의 추상 메서드에 붙이면 어노테이션 프로세서(processor 모듈)가 {리포지토리 이름}_Impl 클래스를 만듭니다.
+ * <br>
+ * 생성된 클래스에는 JPQL과 파라미터 바인딩, id getter 호출이 코드로 들어가므로
+ * 런타임에 메서드 이름을 해석하거나 호출한 메서드를 찾지 않습니다.
+ * <br>
+ * 지원하는 메서드: find[Top|First N]By{조건}[OrderBy...] (List&lt;엔티티&gt;), countBy{조건} (long), existsBy{조건} (boolean)
+ * <br>
+ * 필드 이름이 엔티티에 없다면 컴파일 에러가 발생합니다.
+ *
+ * <pre>{@code
+ * public abstract class PersonQueryRepository extends MimicJpaRepository<Person, Long> {
+ *
+ *   @QueryMethod
+ *   public abstract List<Person> findByName(String name);
+ * }
+ *
+ * PersonQueryRepository repository = new PersonQueryRepository_Impl();
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface QueryMethod {
+
+}
@@ -0,0 +1,24 @@
+package philo.magicsproutjpa.core;
+
+/**
+ * 작업 하나에서 같은 모양의 SELECT 문이 반복해서 실행될 때(N+1)의 처리 정책입니다.
+ * <br>
+ * 같은 모양의 SELECT 문이 repeatedStatementThreshold 번 이상 실행되면 반복으로 봅니다.
+ */
+public enum RepeatedStatementPolicy {
+
+  /**
+   * 검사하지 않습니다.
+   */
+  OFF,
+
+  /**
+   * 경고 로그를 남깁니다.
+   */
+  LOG,
+
+  /**
+   * 작업이 끝난 뒤 예외를 던집니다. 이미 커밋된 쓰기 작업은 되돌리지 않으므로 테스트, 개발 환경에서 사용합니다.
+   */
+  FAIL
+}
@@ -0,0 +1,238 @@
+package philo.magicsproutjpa.core;
+
+import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.toUnmodifiableMap;
+import static philo.magicsproutjpa.core.support.MimicJpaReflectionUtils.extractGetterMethod;
+import static philo.magicsproutjpa.core.support.MimicJpaReflectionUtils.extractIdGetterMethod;
+import static philo.magicsproutjpa.core.support.MimicJpaReflectionUtils.findVersionField;
+import static philo.magicsproutjpa.core.support.MimicJpaReflectionUtils.getDeclaredMethodsUntil;
+import static philo.magicsproutjpa.core.support.MimicJpaReflectionUtils.getFieldNames;
+import static philo.magicsproutjpa.core.support.MimicJpaReflectionUtils.getIdField;
+import static philo.magicsproutjpa.core.support.MimicJpaReflectionUtils.getIdFieldCount;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.Getter;
+import philo.magicsproutjpa.core.exception.MimicJpaInitException;
+import philo.magicsproutjpa.core.exception.MimicJpaInnerException;
+import philo.magicsproutjpa.core.query.QueryMethodParser;
+import philo.magicsproutjpa.core.query.QueryMethodPlan;
+import philo.magicsproutjpa.core.support.GetterAccessors;
+import philo.magicsproutjpa.core.support.MimicJpaReflectionUtils;
+
+/**
+ * 도메인 리포지토리 클래스마다 한 번만 계산하는 엔티티 메타데이터입니다.
+ * <br>
+ * 제네릭 타입 해석, @Id 필드 탐색, getter 변환, Query Method 해석을 리포지토리 클래스 단위로 캐싱합니다.
+ * <br>
+ * 같은 리포지토리 클래스의 인스턴스들은 메타데이터를 공유하므로 요청마다 리포지토리를 생성해도 비용이 거의 없습니다.
+ * <br>
+ * {@link QueryMethod}로 생성된 구현체는 컴파일 시점에 계산한 메타데이터를 {@link GeneratedRepositoryMetadata}로 등록하므로 리플렉션을 사용하지 않습니다.
+ *
+ * @param <E> the type of the entity
+ * @param <K> the type of the entity's identifier
+ */
+@Getter
+final class RepositoryMetadata<E, K> {
+
+  private static final String SELECT_QUERY_STRING = "select e from %s e";
+  private static final String DELETE_QUERY_STRING = "delete from %s";
+  private static final String COUNT_QUERY_STRING = "select count(e) from %s e";
+  private static final String SELECT_BY_IDS_QUERY_STRING = "select e from %s e where e.%s in ?1";
+  private static final String EXISTS_BY_ID_QUERY_STRING = "select 1 from %s e where e.%s = ?1";
+  private static final String DELETE_BY_ID_QUERY_STRING = "delete from %s e where e.%s = ?1";
+  private static final String DELETE_BY_IDS_QUERY_STRING = "delete from %s e where e.%s in ?1";
+
+  private static final Map<Class<?>, RepositoryMetadata<?, ?>> GENERATED = new ConcurrentHashMap<>();
+  private static final ClassValue<RepositoryMetadata<?, ?>> REGISTRY = new ClassValue<>() {
+    @Override
+    protected RepositoryMetadata<?, ?> computeValue(Class<?> repositoryType) {
+      initialize(repositoryType); // 생성된 구현체는 static 초기화 블록에서 메타데이터를 등록한다
+      RepositoryMetadata<?, ?> generated = GENERATED.get(repositoryType);
+      return generated != null ? generated : reflect(repositoryType);
+    }
+  };
+
+  private final Class<E> entityType;
+  private final String entityName;
+  private final Set<String> entityAttributes; // 정렬, 조건 필드 검증에 사용
+  private final String idAttributeName;
+  private final Function<E, K> idAccessor; // getter를 람다로 변환
+  private final Function<E, Object> versionAccessor; // @Version 필드가 있을 때만 초기화
+  private final boolean generatedId;
+  private final boolean nullableVersion; // 래퍼 타입 @Version 필드 여부
+  private final boolean persistable;
+  private final Map<String, QueryMethodPlan> queryMethodPlans;
+
+  private final String selectQuery;
+  private final String countQuery;
+  private final String deleteQuery;
+  private final String selectByIdsQuery;
+  private final String existsByIdQuery;
+  private final String deleteByIdQuery;
+  private final String deleteByIdsQuery;
+
+  RepositoryMetadata(
+      Class<E> entityType,
+      Set<String> entityAttributes,
+      String idAttributeName,
+      Function<E, K> idAccessor,
+      Function<E, Object> versionAccessor,
+      boolean generatedId,
+      boolean nullableVersion,
+      boolean persistable,
+      Map<String, QueryMethodPlan> queryMethodPlans
+  ) {
+    this.entityType = entityType;
+    this.entityName = entityType.getSimpleName();
+    this.entityAttributes = entityAttributes;
+    this.idAttributeName = idAttributeName;
+    this.idAccessor = idAccessor;
+    this.versionAccessor = versionAccessor;
+    this.generatedId = generatedId;
+    this.nullableVersion = nullableVersion;
+    this.persistable = persistable;
+    this.queryMethodPlans = queryMethodPlans;
+
+    selectQuery = String.format(SELECT_QUERY_STRING, entityName);
+    countQuery = String.format(COUNT_QUERY_STRING, entityName);
+    deleteQuery = String.format(DELETE_QUERY_STRING, entityName);
+    selectByIdsQuery = String.format(SELECT_BY_IDS_QUERY_STRING, entityName, idAttributeName);
+    existsByIdQuery = String.format(EXISTS_BY_ID_QUERY_STRING, entityName, idAttributeName);
+    deleteByIdQuery = String.format(DELETE_BY_ID_QUERY_STRING, entityName, idAttributeName);
+    deleteByIdsQuery = String.format(DELETE_BY_IDS_QUERY_STRING, entityName, idAttributeName);
+  }
+
+  /**
+   * 제네릭 타입과 엔티티의 필드를 리플렉션으로 해석해서 메타데이터를 만듭니다.
+   */
+  private static <E, K> RepositoryMetadata<E, K> reflect(Class<?> repositoryType) {
+    Class<E> entityType = MimicJpaReflectionUtils.getEntityType(repositoryType);
+    Field[] fields = entityType.getDeclaredFields();
+
+    assertIdFieldExist(fields);
+    Set<String> entityAttributes = getFieldNames(fields);
+    Function<E, Object> versionAccessor = findVersionField(fields)
+        .map(versionField -> assertGetterExistAndGet(entityType, versionField))
+        .<Function<E, Object>>map(GetterAccessors::create)
+        .orElse(null);
+    boolean nullableVersion = findVersionField(fields)
+        .filter(versionField -> !versionField.getType().isPrimitive())
+        .isPresent();
+
+    return new RepositoryMetadata<>(
+        entityType,
+        entityAttributes,
+        getIdField(fields).getName(),
+        GetterAccessors.create(assertIdGetterExistAndGet(entityType, fields)),
+        versionAccessor,
+        MimicJpaReflectionUtils.isGeneratedId(fields),
+        nullableVersion,
+        Persistable.class.isAssignableFrom(entityType),
+        compileQueryMethodPlans(repositoryType, entityType, entityAttributes));
+  }
+
+  /**
+   * 생성된 구현체가 컴파일 시점에 계산한 메타데이터를 등록합니다. 먼저 등록된 메타데이터를 유지합니다.
+   */
+  static void register(Class<?> repositoryType, RepositoryMetadata<?, ?> metadata) {
+    GENERATED.putIfAbsent(repositoryType, metadata);
+  }
+
+  private static void initialize(Class<?> repositoryType) {
+    try {
+      Class.forName(repositoryType.getName(), true, repositoryType.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      // 이름으로 찾을 수 없는 클래스(hidden class 등)는 등록된 메타데이터가 없다
+    }
+  }
+
+  /**
+   * 리포지토리 클래스의 메타데이터를 구합니다. 처음 호출할 때만 계산합니다.
+   */
+  @SuppressWarnings("unchecked")
+  static <E, K> RepositoryMetadata<E, K> of(Class<?> repositoryType) {
+    return (RepositoryMetadata<E, K>) REGISTRY.get(repositoryType);
+  }
+
+  /**
+   * 도메인 리포지토리에 선언된 Query Method들을 찾아 실행 계획으로 만듭니다.
+   * <br>
+   * MimicJpaRepository가 제공하는 메서드(findAll, findById 등)를 재정의한 경우와 {@link QueryMethod}를 붙인 메서드는 제외합니다.
+   * <br>
+   * By를 생략한 find{조건}은 엔티티의 필드로 해석될 때만 실행 계획을 만들고, 해석할 수 없다면 도우미 메서드(findOrCreate 등)로 보고 건너뜁니다.
+   * <br>
+   * 반환 타입이 엔티티가 아니라면 프로젝션 실행 계획을 만듭니다.
+   */
+  private static Map<String, QueryMethodPlan> compileQueryMethodPlans(
+      Class<?> repositoryType,
+      Class<?> entityType,
+      Set<String> entityAttributes
+  ) {
+    return getDeclaredMethodsUntil(repositoryType, MimicJpaRepository.class).stream()
+        .filter(method -> !isBaseMethodName(method.getName()))
+        .filter(method -> !method.isAnnotationPresent(QueryMethod.class)) // 컴파일 시점에 구현된다
+        .flatMap(method -> compileQueryMethodPlan(method, entityType, entityAttributes).stream())
+        .collect(toUnmodifiableMap(
+            QueryMethodPlan::getMethodName,
+            Function.identity(),
+            (subclassPlan, superclassPlan) -> subclassPlan)); // 하위 클래스에 선언된 메서드를 우선한다
+  }
+
+  private static Optional<QueryMethodPlan> compileQueryMethodPlan(
+      Method method,
+      Class<?> entityType,
+      Set<String> entityAttributes
+  ) {
+    String methodName = method.getName();
+    if (QueryMethodParser.isQueryMethodName(methodName)) {
+      return Optional.of(QueryMethodParser.parse(method, entityType, entityAttributes));
+    }
+    if (!QueryMethodParser.isFindWithoutBy(methodName)) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(QueryMethodParser.parse(method, entityType, entityAttributes));
+    } catch (MimicJpaInitException e) { // 필드 이름으로 해석되지 않는 도우미 메서드
+      return Optional.empty();
+    }
+  }
+
+  private static boolean isBaseMethodName(String methodName) {
+    return stream(MimicJpaRepository.class.getDeclaredMethods())
+        .map(Method::getName)
+        .anyMatch(methodName::equals);
+  }
+
+  private static void assertIdFieldExist(Field[] fields) {
+    long idFieldCount = getIdFieldCount(fields);
+
+    if (idFieldCount == 0) {
+      throw new MimicJpaInitException("Id field not found");
+
+    } else if (idFieldCount >= 2) {
+      throw new MimicJpaInitException("Multiple Id fields found");
+    }
+  }
+
+  private static Method assertIdGetterExistAndGet(Class<?> entityType, Field[] fields) {
+    try {
+      return extractIdGetterMethod(entityType, fields);
+    } catch (MimicJpaInnerException e) { // 예외 전환
+      throw new MimicJpaInitException("Id getter method should exist", e);
+    }
+  }
+
+  private static Method assertGetterExistAndGet(Class<?> entityType, Field field) {
+    try {
+      return extractGetterMethod(entityType, field);
+    } catch (MimicJpaInnerException e) { // 예외 전환
+      throw new MimicJpaInitException(field.getName() + " getter method should exist", e);
+    }
+  }
+}
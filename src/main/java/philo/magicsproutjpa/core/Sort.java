@@ -0,0 +1,75 @@
+package philo.magicsproutjpa.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 페이지 조회의 정렬 조건입니다.
+ * <br>
+ * 여러 조건은 {@link #and(Sort)}로 이어 붙입니다.
+ *
+ * <pre>{@code
+ * Sort sort = Sort.desc("birthYear").and(Sort.asc("name"));
+ * }</pre>
+ */
+public final class Sort {
+
+  private static final Sort UNSORTED = new Sort(List.of());
+
+  private final List<Order> orders;
+
+  private Sort(List<Order> orders) {
+    this.orders = List.copyOf(orders);
+  }
+
+  public static Sort unsorted() {
+    return UNSORTED;
+  }
+
+  public static Sort asc(String... properties) {
+    return of(Direction.ASC, properties);
+  }
+
+  public static Sort desc(String... properties) {
+    return of(Direction.DESC, properties);
+  }
+
+  public Sort and(Sort other) {
+    List<Order> merged = new ArrayList<>(orders);
+    merged.addAll(other.orders);
+    return new Sort(merged);
+  }
+
+  public List<Order> getOrders() {
+    return orders;
+  }
+
+  public boolean isSorted() {
+    return !orders.isEmpty();
+  }
+
+  private static Sort of(Direction direction, String... properties) {
+    return new Sort(Stream.of(properties)
+        .map(property -> new Order(property, direction))
+        .toList());
+  }
+
+  public enum Direction {
+    ASC, DESC
+  }
+
+  /**
+   * @param property 정렬할 엔티티의 필드 이름
+   * @param direction 정렬 방향
+   */
+  public record Order(String property, Direction direction) {
+
+    /**
+     * @return JPQL의 order by 절에 들어갈 문자열 (예: "e.name asc")
+     */
+    public String toJpql() {
+      return "e." + property + " " + direction.name().toLowerCase();
+    }
+  }
+}
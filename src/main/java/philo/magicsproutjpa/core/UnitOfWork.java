@@ -0,0 +1,206 @@
+package philo.magicsproutjpa.core;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import philo.magicsproutjpa.core.cache.CacheRegion;
+import philo.magicsproutjpa.core.cache.EntityCaches;
+import philo.magicsproutjpa.core.cache.QueryResultCaches;
+import philo.magicsproutjpa.core.exception.MimicInnerException;
+import philo.magicsproutjpa.core.support.EntityManagerFactoryFacade;
+
+/**
+ * 현재 쓰레드에 EntityManager 하나를 묶어두는 작업 단위입니다.
+ * <br>
+ * 열려있는 동안 같은 쓰레드의 모든 리포지토리가 같은 EntityManager(영속성 컨텍스트)를 사용합니다.
+ * <br>
+ * 반드시 닫아야 하므로 try-with-resources로 사용합니다.
+ * <br>
+ * 작업 단위는 하나의 EntityManagerFactory에 속하며, 다른 EntityManagerFactory를 사용하는 리포지토리는 작업 단위를 무시합니다.
+ * <br>
+ * 레플리카를 사용하는 리포지토리는 작업 단위에서 처음 쓰기 작업이 일어나기 전까지 레플리카에서 읽습니다.
+ * <br>
+ * {@link #begin()}을 호출하지 않으면 리포지토리의 쓰기 작업은 각각 따로 commit 됩니다.
+ * <br>
+ * 여러 쓰기 작업을 하나로 묶으려면 begin, commit을 호출하며, commit 하지 않고 닫으면 모두 롤백됩니다.
+ * <br>
+ * 트랜잭션 중에 다른 쓰레드가 commit 전의 값을 캐시에 다시 넣을 수 있으므로, 쓰기 작업이 무효화한 캐시는 commit 후에 한 번 더 무효화합니다.
+ *
+ * <pre>{@code
+ * try (UnitOfWork unitOfWork = UnitOfWork.open()) {
+ *   unitOfWork.begin();
+ *   itemRepository.save(item);
+ *   orderRepository.save(order);
+ *   unitOfWork.commit(); // 둘 다 반영되거나 둘 다 반영되지 않는다
+ * }
+ * }</pre>
+ */
+@Slf4j
+public final class UnitOfWork implements AutoCloseable {
+
+  private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+  private final String factoryName;
+  private final EntityManager entityManager;
+  private boolean written; // 레플리카 대신 프라이머리에서 읽어야 하는지 여부
+  private final Map<CacheRegion, Set<Object>> evictedIds = new HashMap<>(); // commit 후에 다시 무효화할 엔티티
+  private final Set<CacheRegion> clearedRegions = new HashSet<>(); // commit 후에 전부 무효화할 범위
+
+  private UnitOfWork(String factoryName, EntityManager entityManager) {
+    this.factoryName = factoryName;
+    this.entityManager = entityManager;
+  }
+
+  /**
+   * 기본 EntityManagerFactory로 새로운 작업 단위를 열고 현재 쓰레드에 묶습니다.
+   */
+  public static UnitOfWork open() {
+    return open(EntityManagerFactoryFacade.DEFAULT_FACTORY_NAME);
+  }
+
+  /**
+   * 이름을 가진 EntityManagerFactory로 새로운 작업 단위를 열고 현재 쓰레드에 묶습니다.
+   */
+  public static UnitOfWork open(String factoryName) {
+    if (CURRENT.get() != null) {
+      throw new MimicInnerException("UnitOfWork is already opened in current thread");
+    }
+
+    UnitOfWork unitOfWork = new UnitOfWork(factoryName, EntityManagerFactoryFacade.createEntityManager(factoryName));
+    CURRENT.set(unitOfWork);
+    return unitOfWork;
+  }
+
+  /**
+   * @return 현재 쓰레드에 묶인 EntityManager, 없거나 다른 EntityManagerFactory의 작업 단위라면 null
+   */
+  static EntityManager currentEntityManager(String factoryName) {
+    UnitOfWork unitOfWork = CURRENT.get();
+    return unitOfWork == null || !unitOfWork.factoryName.equals(factoryName) ? null : unitOfWork.entityManager;
+  }
+
+  /**
+   * 현재 쓰레드의 작업 단위에서 쓰기 작업이 일어났음을 기록합니다.
+   */
+  static void markWritten(String factoryName) {
+    UnitOfWork unitOfWork = CURRENT.get();
+    if (unitOfWork != null && unitOfWork.factoryName.equals(factoryName)) {
+      unitOfWork.written = true;
+    }
+  }
+
+  /**
+   * @return 현재 쓰레드의 작업 단위에서 쓰기 작업이 일어났다면 true
+   */
+  static boolean isWritten(String factoryName) {
+    UnitOfWork unitOfWork = CURRENT.get();
+    return unitOfWork != null && unitOfWork.factoryName.equals(factoryName) && unitOfWork.written;
+  }
+
+  /**
+   * 현재 쓰레드의 작업 단위에 트랜잭션이 진행 중이라면 commit 후에 무효화할 캐시를 기록합니다.
+   *
+   * @param id 무효화할 엔티티의 id, null이라면 범위의 모든 엔티티
+   */
+  static void evictAfterCommit(String factoryName, CacheRegion region, Object id) {
+    UnitOfWork unitOfWork = CURRENT.get();
+    if (unitOfWork == null || !unitOfWork.factoryName.equals(factoryName)
+        || !unitOfWork.entityManager.getTransaction().isActive()) {
+      return;
+    }
+    if (id == null) {
+      unitOfWork.clearedRegions.add(region);
+    } else {
+      unitOfWork.evictedIds.computeIfAbsent(region, key -> new HashSet<>()).add(id);
+    }
+  }
+
+  /**
+   * 작업 단위의 트랜잭션을 시작합니다. 이후 리포지토리의 쓰기 작업은 {@link #commit()}까지 반영되지 않습니다.
+   */
+  public void begin() {
+    EntityTransaction transaction = entityManager.getTransaction();
+    if (transaction.isActive()) {
+      throw new MimicInnerException("UnitOfWork transaction is already active");
+    }
+    transaction.begin();
+  }
+
+  /**
+   * 작업 단위의 트랜잭션을 commit 합니다.
+   * <br>
+   * 실패하면 롤백하고 영속성 컨텍스트를 비웁니다. @Version 충돌이라면 MimicOptimisticLockException을 던집니다.
+   */
+  public void commit() {
+    EntityTransaction transaction = assertActiveTransaction();
+    try {
+      transaction.commit();
+    } catch (Exception e) {
+      if (transaction.isActive()) {
+        transaction.rollback();
+        log.info("unit of work commit failed, rollback !");
+      }
+      entityManager.clear();
+      throw PersistenceExceptions.translate(e, "unit of work");
+    } finally {
+      evictCaches();
+    }
+  }
+
+  /**
+   * 작업 단위의 트랜잭션을 롤백합니다.
+   * <br>
+   * 영속성 컨텍스트의 엔티티들은 DB와 다를 수 있으므로 모두 준영속 상태가 됩니다.
+   */
+  public void rollback() {
+    assertActiveTransaction().rollback();
+    entityManager.clear();
+    evictCaches();
+  }
+
+  /**
+   * 트랜잭션 중에 기록한 캐시를 무효화합니다.
+   * <br>
+   * commit 했다면 그 사이 다른 쓰레드가 commit 전의 값을 캐시에 넣었을 수 있으므로 지웁니다.
+   * <br>
+   * 롤백했다면 캐시의 값이 DB와 같으므로 지우지 않아도 되지만, 다시 읽게 할 뿐이므로 같은 방법으로 기록을 비웁니다.
+   */
+  private void evictCaches() {
+    evictedIds.forEach((region, ids) -> ids.forEach(id -> EntityCaches.evict(region, id)));
+    clearedRegions.forEach(EntityCaches::evictAll);
+    evictedIds.keySet().forEach(QueryResultCaches::invalidate);
+    clearedRegions.forEach(QueryResultCaches::invalidate);
+    evictedIds.clear();
+    clearedRegions.clear();
+  }
+
+  private EntityTransaction assertActiveTransaction() {
+    EntityTransaction transaction = entityManager.getTransaction();
+    if (!transaction.isActive()) {
+      throw new MimicInnerException("UnitOfWork transaction is not active");
+    }
+    return transaction;
+  }
+
+  /**
+   * 쓰레드와의 연결을 끊고 EntityManager를 닫습니다.
+   * <br>
+   * commit 하지 않은 트랜잭션이 있다면 롤백합니다.
+   */
+  @Override
+  public void close() {
+    CURRENT.remove();
+
+    EntityTransaction transaction = entityManager.getTransaction();
+    if (transaction.isActive()) {
+      transaction.rollback();
+      log.info("unit of work closed with active transaction, rollback !");
+    }
+    evictCaches();
+    entityManager.close();
+  }
+}
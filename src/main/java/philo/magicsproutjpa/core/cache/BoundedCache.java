@@ -0,0 +1,128 @@
+package philo.magicsproutjpa.core.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기와 유효 시간(TTL)이 제한된 LRU 캐시입니다.
+ * <br>
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거하고, 유효 시간이 지난 항목은 조회 시점에 제거합니다.
+ * <br>
+ * 무효화가 일어날 때마다 세대(generation)가 증가하므로,
+ * <br>
+ * 조회를 시작한 뒤 무효화가 있었다면 {@link #putIfUnchanged(Object, Object, long)}로 오래된 값이 다시 들어가는 것을 막을 수 있습니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class BoundedCache<K, V> {
+
+  private final int maxSize;
+  private final long ttlNanos;
+
+  private final LinkedHashMap<K, CacheEntry<V>> entries;
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+
+  private long generation = 0; // entries의 lock 안에서만 변경
+
+  public BoundedCache(int maxSize, Duration ttl) {
+    this.maxSize = maxSize;
+    this.ttlNanos = ttl.toNanos();
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) { // access-order: LRU
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+        boolean overflow = size() > BoundedCache.this.maxSize;
+        if (overflow) {
+          evictionCount.increment();
+        }
+        return overflow;
+      }
+    };
+  }
+
+  /**
+   * @return 캐시된 값, 없거나 만료되었다면 null
+   */
+  public V get(K key) {
+    long now = System.nanoTime();
+
+    synchronized (entries) {
+      CacheEntry<V> entry = entries.get(key);
+      if (entry == null) {
+        missCount.increment();
+        return null;
+      }
+
+      if (entry.isExpired(now)) {
+        entries.remove(key);
+        evictionCount.increment();
+        missCount.increment();
+        return null;
+      }
+
+      hitCount.increment();
+      return entry.value();
+    }
+  }
+
+  public void put(K key, V value) {
+    synchronized (entries) {
+      entries.put(key, new CacheEntry<>(value, System.nanoTime() + ttlNanos));
+    }
+  }
+
+  /**
+   * 조회를 시작할 때 구한 세대와 지금의 세대가 같을 때만 값을 넣습니다.
+   *
+   * @return 값을 넣었다면 true
+   */
+  public boolean putIfUnchanged(K key, V value, long expectedGeneration) {
+    synchronized (entries) {
+      if (generation != expectedGeneration) {
+        return false;
+      }
+      put(key, value);
+      return true;
+    }
+  }
+
+  public long generation() {
+    synchronized (entries) {
+      return generation;
+    }
+  }
+
+  public void evict(K key) {
+    synchronized (entries) {
+      generation++;
+      entries.remove(key);
+    }
+  }
+
+  public void clear() {
+    synchronized (entries) {
+      generation++;
+      entries.clear();
+    }
+  }
+
+  public CacheStats stats() {
+    int size;
+    synchronized (entries) {
+      size = entries.size();
+    }
+    return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), size);
+  }
+
+  private record CacheEntry<V>(V value, long expiresAt) {
+
+    boolean isExpired(long now) {
+      return now - expiresAt >= 0;
+    }
+  }
+}
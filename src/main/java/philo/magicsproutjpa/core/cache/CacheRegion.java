@@ -0,0 +1,13 @@
+package philo.magicsproutjpa.core.cache;
+
+/**
+ * 캐시를 공유하는 범위입니다.
+ * <br>
+ * EntityManagerFactory마다 DB가 다를 수 있으므로 같은 엔티티 타입이라도 EntityManagerFactory가 다르면 캐시를 나눕니다.
+ *
+ * @param factoryName EntityManagerFactory 이름
+ * @param entityType 엔티티 타입
+ */
+public record CacheRegion(String factoryName, Class<?> entityType) {
+
+}
@@ -0,0 +1,19 @@
+package philo.magicsproutjpa.core.cache;
+
+/**
+ * 캐시의 통계 스냅샷입니다.
+ *
+ * @param hitCount 캐시에서 찾은 횟수
+ * @param missCount 캐시에 없어서 DB에서 조회한 횟수
+ * @param evictionCount 크기 제한 혹은 만료로 제거된 항목 수
+ * @param size 현재 캐시에 있는 항목 수
+ */
+public record CacheStats(long hitCount, long missCount, long evictionCount, int size) {
+
+  public static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0);
+
+  public double hitRate() {
+    long requestCount = hitCount + missCount;
+    return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+  }
+}
@@ -0,0 +1,45 @@
+package philo.magicsproutjpa.core.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔티티 타입별로 하나씩 존재하는 findById 캐시의 저장소입니다. (EntityManagerFactory마다 나뉩니다)
+ * <br>
+ * 같은 엔티티를 다루는 모든 리포지토리 인스턴스가 캐시를 공유합니다.
+ * <br>
+ * 캐시의 크기와 유효 시간은 그 엔티티 타입의 캐시를 처음 만든 리포지토리의 설정을 따릅니다.
+ */
+public final class EntityCaches {
+
+  private static final Map<CacheRegion, BoundedCache<Object, Object>> CACHES = new ConcurrentHashMap<>();
+
+  private EntityCaches() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * 엔티티 타입의 캐시를 구하고, 없다면 만듭니다.
+   */
+  public static BoundedCache<Object, Object> getOrCreate(CacheRegion region, int maxSize, Duration ttl) {
+    return CACHES.computeIfAbsent(region, key -> new BoundedCache<>(maxSize, ttl));
+  }
+
+  /**
+   * 캐시를 사용하지 않는 리포지토리의 변경도 반영되도록 캐시가 있다면 항상 무효화합니다.
+   */
+  public static void evict(CacheRegion region, Object id) {
+    BoundedCache<Object, Object> cache = CACHES.get(region);
+    if (cache != null) {
+      cache.evict(id);
+    }
+  }
+
+  public static void evictAll(CacheRegion region) {
+    BoundedCache<Object, Object> cache = CACHES.get(region);
+    if (cache != null) {
+      cache.clear();
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package philo.magicsproutjpa.core.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Query Method 결과 캐시의 키입니다.
+ * <br>
+ * 호출자가 호출 뒤에 인자(In 조건의 컬렉션 등)를 바꿔도 키의 hashCode, equals가 바뀌지 않도록 컬렉션 인자는 복사해서 보관합니다.
+ *
+ * @param methodName Query Method 이름
+ * @param arguments 호출할 때 전달한 조건 값들
+ */
+public record QueryCacheKey(String methodName, List<Object> arguments) {
+
+  public static QueryCacheKey of(String methodName, Object[] values) {
+    return new QueryCacheKey(methodName, Collections.unmodifiableList(Arrays.stream(values)
+        .map(QueryCacheKey::copyArgument)
+        .toList()));
+  }
+
+  /**
+   * 컬렉션 인자를 복사합니다. Set은 순서와 관계없이 같은 원소끼리 같은 키가 되도록 Set으로 복사합니다. (null 원소를 허용합니다)
+   */
+  private static Object copyArgument(Object value) {
+    if (value instanceof Set<?> set) {
+      return Collections.unmodifiableSet(new HashSet<>(set));
+    }
+    if (value instanceof Collection<?> collection) {
+      return Collections.unmodifiableList(new ArrayList<>(collection));
+    }
+    return value;
+  }
+}
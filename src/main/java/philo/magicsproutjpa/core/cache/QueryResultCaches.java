@@ -0,0 +1,41 @@
+package philo.magicsproutjpa.core.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔티티 타입별로 하나씩 존재하는 Query Method 결과 캐시의 저장소입니다. (EntityManagerFactory마다 나뉩니다)
+ * <br>
+ * 결과 엔티티가 아닌 id 목록을 저장하므로 캐시가 차지하는 메모리가 작습니다.
+ * <br>
+ * 어떤 변경이든 조건에 맞는 결과를 바꿀 수 있으므로, 쓰기가 일어나면 그 엔티티 타입의 결과를 모두 무효화합니다.
+ */
+public final class QueryResultCaches {
+
+  private static final Map<CacheRegion, BoundedCache<QueryCacheKey, List<Object>>> CACHES =
+      new ConcurrentHashMap<>();
+
+  private QueryResultCaches() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * 엔티티 타입의 결과 캐시를 구하고, 없다면 만듭니다.
+   */
+  public static BoundedCache<QueryCacheKey, List<Object>> getOrCreate(
+      CacheRegion region,
+      int maxSize,
+      Duration ttl
+  ) {
+    return CACHES.computeIfAbsent(region, key -> new BoundedCache<>(maxSize, ttl));
+  }
+
+  public static void invalidate(CacheRegion region) {
+    BoundedCache<QueryCacheKey, List<Object>> cache = CACHES.get(region);
+    if (cache != null) {
+      cache.clear();
+    }
+  }
+}
@@ -0,0 +1,347 @@
+package philo.magicsproutjpa.core.datasource;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최대 크기가 정해진 가벼운 커넥션 풀입니다.
+ * <br>
+ * Hibernate의 기본 커넥션 풀은 운영 용도가 아니므로 {@link philo.magicsproutjpa.core.support.EntityManagerFactoryFacade}에
+ * 이 풀(또는 다른 DataSource)을 전달해서 사용합니다.
+ * <br>
+ * - 만들 때 initialSize 개의 커넥션을 미리 연결해 둡니다. 끊어지거나 닫힌 커넥션을 다시 채우지는 않으며, 모자라면 빌려줄 때 새로 연결합니다.
+ * <br>
+ * - 최대 크기만큼 커넥션을 빌려주고, 모두 사용 중이면 acquisitionTimeout 동안 기다린 후 SQLTimeoutException을 던집니다.
+ * <br>
+ * - validationInterval보다 오래 쉬고 있던 커넥션은 빌려주기 전에 isValid로 검사하고, 끊어졌다면 새로 연결합니다.
+ * <br>
+ * - leakDetectionThreshold보다 오래 반납되지 않은 커넥션은 빌려간 위치와 함께 경고 로그를 남깁니다.
+ * <br>
+ * - 빌려준 커넥션은 물리 커넥션으로 unwrap 할 수 없습니다. 물리 커넥션을 직접 닫으면 풀이 반납을 알 수 없기 때문입니다.
+ *
+ * <pre>{@code
+ * MimicPooledDataSource dataSource = MimicPooledDataSource.builder()
+ *     .url("jdbc:h2:mem:test")
+ *     .username("sa")
+ *     .maxSize(10)
+ *     .build();
+ * }</pre>
+ */
+@Slf4j
+public class MimicPooledDataSource implements DataSource, AutoCloseable {
+
+  private static final int DEFAULT_INITIAL_SIZE = 2;
+  private static final int DEFAULT_MAX_SIZE = 10;
+  private static final Duration DEFAULT_ACQUISITION_TIMEOUT = Duration.ofSeconds(30);
+  private static final Duration DEFAULT_VALIDATION_INTERVAL = Duration.ofMillis(500);
+  private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+  private final String url;
+  private final String username;
+  private final String password;
+  private final int initialSize;
+  private final int maxSize;
+  private final Duration acquisitionTimeout;
+  private final Duration validationInterval;
+  private final Duration leakDetectionThreshold; // null 이면 누수 감지를 하지 않는다
+
+  private final BlockingDeque<IdleConnection> idleConnections = new LinkedBlockingDeque<>();
+  private final Semaphore borrowPermits;
+  private final ScheduledExecutorService leakDetector;
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  @Builder
+  private MimicPooledDataSource(
+      String url,
+      String username,
+      String password,
+      int initialSize,
+      int maxSize,
+      Duration acquisitionTimeout,
+      Duration validationInterval,
+      Duration leakDetectionThreshold
+  ) {
+    this.url = url;
+    this.username = username;
+    this.password = password == null ? "" : password;
+    this.maxSize = maxSize > 0 ? maxSize : DEFAULT_MAX_SIZE;
+    this.initialSize = Math.min(initialSize > 0 ? initialSize : DEFAULT_INITIAL_SIZE, this.maxSize);
+    this.acquisitionTimeout = acquisitionTimeout == null ? DEFAULT_ACQUISITION_TIMEOUT : acquisitionTimeout;
+    this.validationInterval = validationInterval == null ? DEFAULT_VALIDATION_INTERVAL : validationInterval;
+    this.leakDetectionThreshold = leakDetectionThreshold;
+
+    borrowPermits = new Semaphore(this.maxSize, true);
+    leakDetector = leakDetectionThreshold == null ? null : Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "mimic-pool-leak-detector");
+      thread.setDaemon(true);
+      return thread;
+    });
+    fillInitialIdle();
+  }
+
+  /**
+   * 풀에서 커넥션을 빌립니다. 반환된 커넥션의 close()는 물리 커넥션을 닫지 않고 풀에 반납합니다.
+   */
+  @Override
+  public Connection getConnection() throws SQLException {
+    assertNotClosed();
+    acquirePermit();
+
+    try {
+      Connection physicalConnection = takeValidConnection();
+      return createPooledConnection(physicalConnection);
+    } catch (SQLException | RuntimeException e) {
+      borrowPermits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * 풀의 커넥션은 모두 같은 계정을 사용하므로 설정한 계정과 같을 때만 커넥션을 빌려줍니다.
+   * <br>
+   * Hibernate는 persistence.xml에 계정이 있다면 이 메서드를 호출합니다.
+   */
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    if (!Objects.equals(this.username, username) || !this.password.equals(password == null ? "" : password)) {
+      throw new SQLFeatureNotSupportedException("Pooled connections use the configured credentials");
+    }
+    return getConnection();
+  }
+
+  /**
+   * 빌려준 커넥션 수입니다.
+   */
+  public int getActiveCount() {
+    return maxSize - borrowPermits.availablePermits();
+  }
+
+  /**
+   * 풀에서 쉬고 있는 커넥션 수입니다.
+   */
+  public int getIdleCount() {
+    return idleConnections.size();
+  }
+
+  /**
+   * 쉬고 있는 커넥션을 모두 닫습니다. 빌려준 커넥션은 반납될 때 닫힙니다.
+   */
+  @Override
+  public void close() {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    IdleConnection idleConnection;
+    while ((idleConnection = idleConnections.poll()) != null) {
+      closeQuietly(idleConnection.connection());
+    }
+    if (leakDetector != null) {
+      leakDetector.shutdownNow();
+    }
+  }
+
+  private void acquirePermit() throws SQLException {
+    try {
+      if (!borrowPermits.tryAcquire(acquisitionTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        throw new SQLTimeoutException(
+            "Connection acquisition timed out after " + acquisitionTimeout.toMillis() + "ms"
+                + " (active=" + getActiveCount() + ", max=" + maxSize + ")");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted while acquiring connection", e);
+    }
+  }
+
+  /**
+   * 쉬고 있는 커넥션 중 유효한 것을 꺼내고, 없다면 새로 연결합니다.
+   */
+  private Connection takeValidConnection() throws SQLException {
+    IdleConnection idleConnection;
+    while ((idleConnection = idleConnections.pollFirst()) != null) {
+      if (isUsable(idleConnection)) {
+        return idleConnection.connection();
+      }
+      log.debug("discard broken idle connection");
+      closeQuietly(idleConnection.connection());
+    }
+    return DriverManager.getConnection(url, username, password);
+  }
+
+  private boolean isUsable(IdleConnection idleConnection) throws SQLException {
+    Connection connection = idleConnection.connection();
+    if (connection.isClosed()) {
+      return false;
+    }
+    long idleNanos = System.nanoTime() - idleConnection.returnedAtNanos();
+    return idleNanos < validationInterval.toNanos() || connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+  }
+
+  private Connection createPooledConnection(Connection physicalConnection) {
+    AtomicBoolean returned = new AtomicBoolean();
+    ScheduledFuture<?> leakTask = scheduleLeakDetection();
+
+    return (Connection) Proxy.newProxyInstance(
+        Connection.class.getClassLoader(),
+        new Class<?>[]{Connection.class},
+        (proxy, method, args) -> switch (method.getName()) {
+          case "close" -> {
+            if (returned.compareAndSet(false, true)) {
+              if (leakTask != null) {
+                leakTask.cancel(false);
+              }
+              returnConnection(physicalConnection);
+            }
+            yield null;
+          }
+          case "isClosed" -> returned.get() || physicalConnection.isClosed();
+          case "equals" -> proxy == args[0];
+          case "hashCode" -> System.identityHashCode(proxy);
+          case "toString" -> "MimicPooledConnection[" + physicalConnection + "]";
+          case "unwrap" -> {
+            Class<?> iface = (Class<?>) args[0];
+            if (!iface.isInstance(proxy)) {
+              throw new SQLException("Pooled connection cannot be unwrapped to " + iface.getName());
+            }
+            yield proxy;
+          }
+          case "isWrapperFor" -> ((Class<?>) args[0]).isInstance(proxy);
+          default -> {
+            if (returned.get()) {
+              throw new SQLException("Connection is already returned to the pool");
+            }
+            yield invokePhysical(physicalConnection, method, args);
+          }
+        });
+  }
+
+  private ScheduledFuture<?> scheduleLeakDetection() {
+    if (leakDetector == null) {
+      return null;
+    }
+    Exception borrowedAt = new Exception("Connection borrowed here");
+    return leakDetector.schedule(
+        () -> log.warn("Connection leak detected: not returned within {}ms",
+            leakDetectionThreshold.toMillis(), borrowedAt),
+        leakDetectionThreshold.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 커넥션의 상태를 초기화해서 풀에 돌려놓습니다. 초기화에 실패했거나 풀이 닫혔다면 물리 커넥션을 닫습니다.
+   */
+  private void returnConnection(Connection physicalConnection) {
+    try {
+      if (closed.get() || physicalConnection.isClosed()) {
+        closeQuietly(physicalConnection);
+        return;
+      }
+      if (!physicalConnection.getAutoCommit()) {
+        physicalConnection.rollback();
+        physicalConnection.setAutoCommit(true);
+      }
+      idleConnections.offerFirst(new IdleConnection(physicalConnection, System.nanoTime()));
+    } catch (SQLException e) {
+      log.debug("discard connection that failed to reset", e);
+      closeQuietly(physicalConnection);
+    } finally {
+      borrowPermits.release();
+    }
+  }
+
+  private static Object invokePhysical(Connection physicalConnection, Method method, Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(physicalConnection, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  private void fillInitialIdle() {
+    try {
+      for (int i = 0; i < initialSize; i++) {
+        idleConnections.offer(new IdleConnection(
+            DriverManager.getConnection(url, username, password), System.nanoTime()));
+      }
+    } catch (SQLException e) {
+      log.warn("failed to fill initial idle connections : {}", e.getMessage());
+    }
+  }
+
+  private void assertNotClosed() throws SQLException {
+    if (closed.get()) {
+      throw new SQLException("DataSource is closed");
+    }
+  }
+
+  private static void closeQuietly(Connection connection) {
+    try {
+      connection.close();
+    } catch (SQLException e) {
+      log.debug("failed to close connection", e);
+    }
+  }
+
+  @Override
+  public PrintWriter getLogWriter() {
+    return null;
+  }
+
+  @Override
+  public void setLogWriter(PrintWriter out) {
+    // slf4j를 사용하므로 무시한다
+  }
+
+  @Override
+  public void setLoginTimeout(int seconds) {
+    // acquisitionTimeout을 사용하므로 무시한다
+  }
+
+  @Override
+  public int getLoginTimeout() {
+    return (int) acquisitionTimeout.toSeconds();
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    throw new SQLFeatureNotSupportedException();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (iface.isInstance(this)) {
+      return iface.cast(this);
+    }
+    throw new SQLException("Not a wrapper for " + iface.getName());
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) {
+    return iface.isInstance(this);
+  }
+
+  private record IdleConnection(Connection connection, long returnedAtNanos) {
+
+  }
+}
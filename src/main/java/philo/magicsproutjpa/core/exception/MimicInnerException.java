@@ -8,7 +8,15 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class MimicInnerException extends MimicJpaInnerException {
 
+  public MimicInnerException(String message) {
+    super(message);
+  }
+
   public MimicInnerException(Throwable cause) {
     super(cause);
   }
+
+  public MimicInnerException(String message, Throwable cause) {
+    super(message, cause);
+  }
 }
@@ -0,0 +1,13 @@
+package philo.magicsproutjpa.core.exception;
+
+/**
+ * 다른 트랜잭션이 먼저 엔티티를 변경해서 @Version 값이 맞지 않을 때 발생하는 예외입니다.
+ * <br>
+ * 최신 엔티티를 다시 읽어서 변경을 다시 적용하면 성공할 수 있습니다. (MimicJpaRepository.update)
+ */
+public class MimicOptimisticLockException extends MimicInnerException {
+
+  public MimicOptimisticLockException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,52 @@
+package philo.magicsproutjpa.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 리포지토리 작업 하나의 누적 지표입니다.
+ */
+final class OperationMetrics {
+
+  private final String operation;
+  private final LatencyHistogram latency = new LatencyHistogram();
+  private final LongAdder invocationCount = new LongAdder();
+  private final LongAdder errorCount = new LongAdder();
+  private final LongAdder rowCount = new LongAdder();
+  private final LongAdder sqlStatementCount = new LongAdder();
+
+  OperationMetrics(String operation) {
+    this.operation = operation;
+  }
+
+  void record(long elapsedNanos, long rows, long sqlStatements, boolean failed) {
+    latency.record(elapsedNanos);
+    invocationCount.increment();
+    rowCount.add(rows);
+    sqlStatementCount.add(sqlStatements);
+    if (failed) {
+      errorCount.increment();
+    }
+  }
+
+  OperationStats snapshot() {
+    return new OperationStats(
+        operation,
+        invocationCount.sum(),
+        errorCount.sum(),
+        rowCount.sum(),
+        sqlStatementCount.sum(),
+        latency.percentile(0.5),
+        latency.percentile(0.99),
+        latency.percentile(0.999),
+        latency.max()
+    );
+  }
+
+  void reset() {
+    latency.reset();
+    invocationCount.reset();
+    errorCount.reset();
+    rowCount.reset();
+    sqlStatementCount.reset();
+  }
+}
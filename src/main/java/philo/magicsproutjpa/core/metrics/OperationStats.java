@@ -0,0 +1,26 @@
+package philo.magicsproutjpa.core.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 리포지토리 작업 하나(save, findById, Query Method 등)의 통계 스냅샷입니다.
+ * <br>
+ * JMX MXBean이 CompositeData로 바꿀 수 있도록 record 대신 getter를 가진 클래스로 정의합니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class OperationStats {
+
+  private final String operation;
+  private final long invocationCount;
+  private final long errorCount;
+  private final long rowCount; // 반환한 엔티티, 프로젝션 수
+  private final long sqlStatementCount;
+  private final long p50Nanos;
+  private final long p99Nanos;
+  private final long p999Nanos;
+  private final long maxNanos;
+}
@@ -0,0 +1,94 @@
+package philo.magicsproutjpa.core.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리포지토리 클래스 하나의 작업별 지표(응답 시간 분포, 호출 수, 에러 수, 반환 행 수, SQL 수)를 모읍니다.
+ * <br>
+ * 같은 클래스의 리포지토리 인스턴스들이 공유하며, 처음 만들어질 때 JMX MBean으로 등록됩니다.
+ */
+@Slf4j
+public final class RepositoryMetrics implements RepositoryMetricsMXBean {
+
+  private static final String OBJECT_NAME_PREFIX = "philo.magicsproutjpa:type=RepositoryMetrics,name=";
+  private static final Map<Class<?>, RepositoryMetrics> REGISTRY = new ConcurrentHashMap<>();
+
+  private final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+
+  private RepositoryMetrics() {
+  }
+
+  /**
+   * 리포지토리 클래스의 지표를 구하고, 없다면 만들어서 JMX에 등록합니다.
+   */
+  public static RepositoryMetrics of(Class<?> repositoryType) {
+    return REGISTRY.computeIfAbsent(repositoryType, type -> {
+      RepositoryMetrics metrics = new RepositoryMetrics();
+      registerMBean(type, metrics);
+      return metrics;
+    });
+  }
+
+  /**
+   * 작업을 수행하면서 응답 시간, 반환 행 수, 실행한 SQL 수를 기록합니다.
+   * <br>
+   * 예외가 발생하면 에러로 기록한 뒤 그대로 던집니다.
+   *
+   * @param operation 작업 이름 (메서드 이름)
+   * @param work 수행할 작업
+   * @param rowCounter 작업 결과에서 반환 행 수를 구하는 함수
+   */
+  public <R> R measure(String operation, Supplier<R> work, ToLongFunction<R> rowCounter) {
+    long sqlCountBefore = SqlStatementCounter.currentCount();
+    long startNanos = System.nanoTime();
+    R result;
+    try {
+      result = work.get();
+    } catch (RuntimeException | Error e) {
+      record(operation, System.nanoTime() - startNanos, 0, sqlCountBefore, true);
+      throw e;
+    }
+    record(operation, System.nanoTime() - startNanos, rowCounter.applyAsLong(result), sqlCountBefore, false);
+    return result;
+  }
+
+  /**
+   * @return 작업 이름 순으로 정렬한 작업별 통계
+   */
+  @Override
+  public List<OperationStats> getOperations() {
+    return operations.values().stream()
+        .map(OperationMetrics::snapshot)
+        .sorted(Comparator.comparing(OperationStats::getOperation))
+        .toList();
+  }
+
+  @Override
+  public void reset() {
+    operations.values().forEach(OperationMetrics::reset);
+  }
+
+  private void record(String operation, long elapsedNanos, long rows, long sqlCountBefore, boolean failed) {
+    long sqlStatements = SqlStatementCounter.currentCount() - sqlCountBefore;
+    operations.computeIfAbsent(operation, OperationMetrics::new)
+        .record(elapsedNanos, rows, sqlStatements, failed);
+  }
+
+  private static void registerMBean(Class<?> repositoryType, RepositoryMetrics metrics) {
+    try {
+      ObjectName objectName = new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(repositoryType.getName()));
+      ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, objectName);
+    } catch (JMException e) {
+      log.warn("failed to register repository metrics MBean: {}", repositoryType.getName(), e);
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package philo.magicsproutjpa.core.metrics;
+
+import java.util.List;
+
+/**
+ * 리포지토리 지표를 JMX로 노출하는 인터페이스입니다.
+ * <br>
+ * ObjectName은 "philo.magicsproutjpa:type=RepositoryMetrics,name={리포지토리 클래스 이름}" 입니다.
+ */
+public interface RepositoryMetricsMXBean {
+
+  List<OperationStats> getOperations();
+
+  void reset();
+}
@@ -0,0 +1,104 @@
+package philo.magicsproutjpa.core.metrics;
+
+import java.time.Duration;
+import java.time.temporal.Temporal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * threshold보다 오래 걸린 리포지토리 작업을 경고 로그로 남깁니다.
+ * <br>
+ * 리포지토리, 작업 이름, 실행한 JPQL, 바인딩한 파라미터, 반환 행 수, 걸린 시간을 남깁니다.
+ * <br>
+ * 느린 작업이 몰려도 로그가 병목이 되지 않도록 초당 maxLogsPerSecond 개까지만 남기고,
+ * 버려진 수는 다음 로그에 함께 남깁니다.
+ * <br>
+ * 파라미터를 가리면 숫자, boolean, enum, 날짜 외의 값은 타입과 길이만 남깁니다. (예: String(5))
+ * <br>
+ * 리포지토리 인스턴스를 여러 개 만들어도 초당 제한이 유지되도록 리포지토리 클래스마다 하나를 공유하며,
+ * 설정은 그 클래스의 로그를 처음 만든 리포지토리의 설정을 따릅니다.
+ */
+@Slf4j
+public final class SlowOperationLog {
+
+  private static final Map<Class<?>, SlowOperationLog> REGISTRY = new ConcurrentHashMap<>();
+
+  private final String repositoryName;
+  private final long thresholdNanos;
+  private final boolean maskParameters;
+  private final TokenBucket tokenBucket;
+  private final LongAdder suppressedCount = new LongAdder();
+
+  public SlowOperationLog(String repositoryName, Duration threshold, int maxLogsPerSecond, boolean maskParameters) {
+    this.repositoryName = repositoryName;
+    this.thresholdNanos = threshold.toNanos();
+    this.maskParameters = maskParameters;
+    this.tokenBucket = new TokenBucket(maxLogsPerSecond);
+  }
+
+  /**
+   * 리포지토리 클래스의 느린 작업 로그를 구하고, 없다면 만듭니다.
+   */
+  public static SlowOperationLog of(Class<?> repositoryType, Duration threshold, int maxLogsPerSecond,
+      boolean maskParameters) {
+    return REGISTRY.computeIfAbsent(repositoryType,
+        type -> new SlowOperationLog(type.getSimpleName(), threshold, maxLogsPerSecond, maskParameters));
+  }
+
+  /**
+   * 작업이 threshold보다 오래 걸렸다면 로그를 남깁니다.
+   *
+   * @param operation 작업 이름 (메서드 이름)
+   * @param jpql 실행한 JPQL, 없다면 null
+   * @param parameters 바인딩한 파라미터 (순서대로 ?1, ?2 ...)
+   * @param rows 반환 행 수
+   * @param elapsedNanos 걸린 시간
+   * @return 로그를 남겼다면 true
+   */
+  public boolean record(String operation, String jpql, Object[] parameters, long rows, long elapsedNanos) {
+    if (elapsedNanos < thresholdNanos) {
+      return false;
+    }
+    if (!tokenBucket.tryAcquire()) {
+      suppressedCount.increment();
+      return false;
+    }
+
+    long suppressed = suppressedCount.sumThenReset();
+    log.warn("slow operation: {}.{} took {} ms, rows={}, jpql=[{}], parameters={}{}",
+        repositoryName, operation, elapsedNanos / 1_000_000, rows, jpql, renderParameters(parameters),
+        suppressed == 0 ? "" : " (" + suppressed + " slow operations suppressed)");
+    return true;
+  }
+
+  String renderParameters(Object[] parameters) {
+    return Arrays.stream(parameters)
+        .map(this::renderParameter)
+        .collect(Collectors.joining(", ", "[", "]"));
+  }
+
+  private String renderParameter(Object parameter) {
+    if (parameter instanceof Collection<?> collection) {
+      return renderParameters(collection.toArray());
+    }
+    if (!maskParameters || parameter == null || isSafeToLog(parameter)) {
+      return String.valueOf(parameter);
+    }
+    if (parameter instanceof CharSequence text) {
+      return "String(" + text.length() + ")";
+    }
+    return parameter.getClass().getSimpleName() + "(***)";
+  }
+
+  private static boolean isSafeToLog(Object parameter) {
+    return parameter instanceof Number
+        || parameter instanceof Boolean
+        || parameter instanceof Enum<?>
+        || parameter instanceof Temporal;
+  }
+}
@@ -0,0 +1,98 @@
+package philo.magicsproutjpa.core.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 현재 쓰레드에서 Hibernate가 실행하는 SQL 문을 모읍니다.
+ * <br>
+ * {@link SqlStatementCounter}가 SQL을 전달하므로 EntityManagerFactoryFacade가 만든 EntityManagerFactory의 SQL만 모입니다.
+ * <br>
+ * 여러 캡처가 겹쳐서 열려있다면 모두에게 전달되며, 반드시 닫아야 하므로 try-with-resources로 사용합니다.
+ *
+ * <pre>{@code
+ * try (SqlCapture capture = SqlCapture.start()) {
+ *   itemRepository.deleteById(1L);
+ *   capture.count(SqlStatementType.DELETE); // 1
+ * }
+ * }</pre>
+ */
+public final class SqlCapture implements AutoCloseable {
+
+  private static final ThreadLocal<List<SqlCapture>> ACTIVE = ThreadLocal.withInitial(ArrayList::new);
+
+  private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+  private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+  private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private final List<String> statements = new ArrayList<>();
+
+  private SqlCapture() {
+  }
+
+  public static SqlCapture start() {
+    SqlCapture capture = new SqlCapture();
+    ACTIVE.get().add(capture);
+    return capture;
+  }
+
+  static void record(String sql) {
+    List<SqlCapture> captures = ACTIVE.get();
+    for (int i = 0; i < captures.size(); i++) {
+      captures.get(i).statements.add(sql);
+    }
+  }
+
+  /**
+   * @return 캡처를 시작한 뒤 실행된 SQL 문들 (실행 순서)
+   */
+  public List<String> statements() {
+    return List.copyOf(statements);
+  }
+
+  public long count(SqlStatementType type) {
+    return statements.stream()
+        .filter(sql -> SqlStatementType.of(sql) == type)
+        .count();
+  }
+
+  /**
+   * 같은 모양의 SQL 문이 몇 번 실행되었는지 구합니다.
+   *
+   * @param type 셀 SQL 문의 종류
+   * @return 모양({@link #shapeOf(String)})별 실행 횟수, 처음 실행된 순서
+   */
+  public Map<String, Integer> shapeCounts(SqlStatementType type) {
+    Map<String, Integer> counts = new LinkedHashMap<>();
+    statements.stream()
+        .filter(sql -> SqlStatementType.of(sql) == type)
+        .forEach(sql -> counts.merge(shapeOf(sql), 1, Integer::sum));
+    return counts;
+  }
+
+  public void clear() {
+    statements.clear();
+  }
+
+  @Override
+  public void close() {
+    ACTIVE.get().remove(this);
+  }
+
+  /**
+   * 리터럴과 in 조건의 파라미터 수를 지워서 같은 쿼리인지 비교할 수 있는 모양으로 바꿉니다.
+   * <br>
+   * 예: "select * from item where id in (?, ?)" → "select * from item where id in (?)"
+   */
+  public static String shapeOf(String sql) {
+    String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+    shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+    shape = PARAMETER_LIST.matcher(shape).replaceAll("(?)");
+    return WHITESPACE.matcher(shape).replaceAll(" ").strip().toLowerCase(Locale.ROOT);
+  }
+}
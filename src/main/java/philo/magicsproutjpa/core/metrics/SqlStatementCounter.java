@@ -0,0 +1,36 @@
+package philo.magicsproutjpa.core.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL 문을 쓰레드별로 셉니다.
+ * <br>
+ * EntityManagerFactoryFacade가 만드는 모든 EntityManagerFactory에 등록되며, SQL은 바꾸지 않습니다.
+ * <br>
+ * 리포지토리 작업 전후의 {@link #currentCount()} 차이로 작업이 실행한 SQL 수를 구합니다.
+ * <br>
+ * 열려있는 {@link SqlCapture}가 있다면 SQL 문을 전달합니다.
+ */
+public final class SqlStatementCounter implements StatementInspector {
+
+  public static final SqlStatementCounter INSTANCE = new SqlStatementCounter();
+
+  private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+  private SqlStatementCounter() {
+  }
+
+  @Override
+  public String inspect(String sql) {
+    COUNT.get()[0]++;
+    SqlCapture.record(sql);
+    return sql;
+  }
+
+  /**
+   * @return 현재 쓰레드에서 지금까지 실행된 SQL 문의 수
+   */
+  public static long currentCount() {
+    return COUNT.get()[0];
+  }
+}
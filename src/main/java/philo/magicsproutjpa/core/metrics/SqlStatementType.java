@@ -0,0 +1,30 @@
+package philo.magicsproutjpa.core.metrics;
+
+import java.util.Locale;
+
+/**
+ * SQL 문의 종류입니다.
+ */
+public enum SqlStatementType {
+
+  SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+  /**
+   * SQL 문의 첫 단어로 종류를 구합니다. (with 절로 시작하면 SELECT로 봅니다)
+   */
+  public static SqlStatementType of(String sql) {
+    String trimmed = sql.stripLeading();
+    int end = 0;
+    while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+      end++;
+    }
+
+    return switch (trimmed.substring(0, end).toLowerCase(Locale.ROOT)) {
+      case "select", "with" -> SELECT;
+      case "insert" -> INSERT;
+      case "update" -> UPDATE;
+      case "delete" -> DELETE;
+      default -> OTHER;
+    };
+  }
+}
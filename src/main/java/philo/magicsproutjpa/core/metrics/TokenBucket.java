@@ -0,0 +1,38 @@
+package philo.magicsproutjpa.core.metrics;
+
+/**
+ * 초당 permitsPerSecond 개의 토큰이 채워지는 토큰 버킷입니다.
+ * <br>
+ * 한 번에 최대 permitsPerSecond 개까지 몰아서 사용할 수 있습니다.
+ */
+final class TokenBucket {
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private final int capacity;
+  private final long nanosPerToken;
+  private double tokens;
+  private long lastRefillNanos;
+
+  TokenBucket(int permitsPerSecond) {
+    if (permitsPerSecond <= 0) {
+      throw new IllegalArgumentException("permitsPerSecond should be positive: " + permitsPerSecond);
+    }
+    this.capacity = permitsPerSecond;
+    this.nanosPerToken = NANOS_PER_SECOND / permitsPerSecond;
+    this.tokens = permitsPerSecond;
+    this.lastRefillNanos = System.nanoTime();
+  }
+
+  synchronized boolean tryAcquire() {
+    long now = System.nanoTime();
+    tokens = Math.min(capacity, tokens + (double) (now - lastRefillNanos) / nanosPerToken);
+    lastRefillNanos = now;
+
+    if (tokens < 1) {
+      return false;
+    }
+    tokens--;
+    return true;
+  }
+}
@@ -0,0 +1,115 @@
+package philo.magicsproutjpa.core.query;
+
+import static java.util.Arrays.stream;
+
+import jakarta.persistence.Tuple;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.RecordComponent;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import philo.magicsproutjpa.core.exception.MimicJpaInitException;
+import philo.magicsproutjpa.core.exception.MimicJpaInnerException;
+import philo.magicsproutjpa.grammar.QueryMethodGrammar;
+
+/**
+ * Query Method가 엔티티 대신 반환하는 프로젝션(record, interface)을 다루는 클래스입니다.
+ * <br>
+ * 프로젝션에 필요한 필드만 Tuple로 조회한 뒤 record는 canonical 생성자로, interface는 동적 프록시로 만듭니다.
+ * <br>
+ * 두 경우 모두 영속성 컨텍스트가 관리하지 않으므로 변경 감지용 스냅샷도 만들어지지 않습니다.
+ */
+final class Projections {
+
+  private Projections() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * record 컴포넌트 이름 순서대로 조회할 필드 이름을 구합니다.
+   */
+  static List<String> recordAttributes(Class<?> recordType) {
+    return stream(recordType.getRecordComponents())
+        .map(RecordComponent::getName)
+        .toList();
+  }
+
+  /**
+   * interface의 getter(getName, isActive) 순서대로 조회할 필드 이름을 구합니다.
+   */
+  static List<String> interfaceAttributes(Class<?> interfaceType) {
+    return stream(interfaceType.getMethods())
+        .filter(method -> !method.isDefault() && method.getParameterCount() == 0)
+        .map(Projections::toAttributeName)
+        .distinct()
+        .toList();
+  }
+
+  /**
+   * Tuple의 값들을 순서대로 record의 canonical 생성자에 전달하는 함수를 만듭니다.
+   */
+  static Function<Object, Object> recordMapper(Class<?> recordType) {
+    Constructor<?> canonicalConstructor = findCanonicalConstructor(recordType);
+    return result -> {
+      try {
+        return canonicalConstructor.newInstance(((Tuple) result).toArray());
+      } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+        throw new MimicJpaInnerException("Record projection creation failed: " + recordType.getName(), e);
+      }
+    };
+  }
+
+  /**
+   * Tuple의 값들을 getter로 돌려주는 interface 프록시를 만드는 함수를 만듭니다.
+   */
+  static Function<Object, Object> interfaceMapper(Class<?> interfaceType, List<String> attributes) {
+    ClassLoader classLoader = interfaceType.getClassLoader();
+    Class<?>[] interfaces = {interfaceType};
+
+    return result -> {
+      Tuple tuple = (Tuple) result;
+      Map<String, Object> values = new HashMap<>();
+      for (int i = 0; i < attributes.size(); i++) {
+        values.put(attributes.get(i), tuple.get(i));
+      }
+      return Proxy.newProxyInstance(classLoader, interfaces,
+          (proxy, method, args) -> invokeProjectionMethod(interfaceType, values, proxy, method, args));
+    };
+  }
+
+  private static Object invokeProjectionMethod(
+      Class<?> interfaceType,
+      Map<String, Object> values,
+      Object proxy,
+      Method method,
+      Object[] args
+  ) {
+    return switch (method.getName()) {
+      case "equals" -> proxy == args[0];
+      case "hashCode" -> System.identityHashCode(proxy);
+      case "toString" -> interfaceType.getSimpleName() + values;
+      default -> values.get(toAttributeName(method));
+    };
+  }
+
+  private static String toAttributeName(Method getterMethod) {
+    return QueryMethodGrammar.toAttributeName(getterMethod.getName());
+  }
+
+  private static Constructor<?> findCanonicalConstructor(Class<?> recordType) {
+    Class<?>[] componentTypes = stream(recordType.getRecordComponents())
+        .map(RecordComponent::getType)
+        .toArray(Class<?>[]::new);
+    try {
+      Constructor<?> constructor = recordType.getDeclaredConstructor(componentTypes);
+      constructor.trySetAccessible(); // 리포지토리 안에 선언된 private record도 허용
+      return constructor;
+    } catch (NoSuchMethodException e) {
+      throw new MimicJpaInitException("Canonical constructor not found: " + recordType.getName(), e);
+    }
+  }
+}
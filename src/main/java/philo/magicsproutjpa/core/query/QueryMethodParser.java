@@ -0,0 +1,217 @@
+package philo.magicsproutjpa.core.query;
+
+import static philo.magicsproutjpa.core.support.MimicJpaReflectionUtils.findVersionField;
+
+import jakarta.persistence.Tuple;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import philo.magicsproutjpa.core.exception.MimicJpaInitException;
+import philo.magicsproutjpa.grammar.ParsedQueryMethod;
+import philo.magicsproutjpa.grammar.QueryMethodGrammar;
+import philo.magicsproutjpa.grammar.QueryMethodPrefix;
+import philo.magicsproutjpa.grammar.QueryMethodSyntaxException;
+
+/**
+ * Query Method의 이름을 해석해서 {@link QueryMethodPlan}으로 만드는 클래스입니다.
+ * <br>
+ * 예를들어 "findByNameAndBirthYear"는 "select e from Person e where e.name = ?1 and e.birthYear = ?2"가 됩니다.
+ * <br>
+ * 메서드 이름의 문법은 어노테이션 프로세서와 함께 사용하는 {@link QueryMethodGrammar}가 해석하고, 이 클래스는 반환 타입에 맞는 실행 계획을 만듭니다.
+ * <br>
+ * - Top N, First N: setMaxResults로 조회할 레코드 수를 제한합니다. N을 생략하면 1입니다.
+ * <br>
+ * 반환 타입이 엔티티가 아니라면 필요한 필드만 조회합니다.
+ * <br>
+ * - List&lt;record&gt;, List&lt;interface&gt;: record 컴포넌트 또는 interface getter에 해당하는 필드만 조회합니다.
+ * (예: findSummaryByBirthYear → List&lt;PersonSummary&gt;)
+ * <br>
+ * - find{필드}By{조건}: 해당 필드 하나만 조회합니다. (예: findNameByBirthYear → List&lt;String&gt;)
+ * <br>
+ * count{대상}By{조건}은 "select count(e)"로, exists{대상}By{조건}은 한 건만 확인하는 "select 1"로 엔티티를 읽지 않습니다.
+ * <br>
+ * update{필드}By{조건}은 "update ... set"으로 조건에 맞는 레코드를 한 번에 바꿉니다. (예: updateNameById)
+ */
+public final class QueryMethodParser {
+
+  private QueryMethodParser() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * {접두어}{대상}By{조건} 형태인지 확인합니다. ({@link QueryMethodGrammar#isQueryMethodName(String)})
+   */
+  public static boolean isQueryMethodName(String methodName) {
+    return QueryMethodGrammar.isQueryMethodName(methodName);
+  }
+
+  /**
+   * By를 생략한 find{조건} 형태인지 확인합니다. ({@link QueryMethodGrammar#isFindWithoutBy(String)})
+   */
+  public static boolean isFindWithoutBy(String methodName) {
+    return QueryMethodGrammar.isFindWithoutBy(methodName);
+  }
+
+  /**
+   * 엔티티를 반환하는 Query Method의 실행 계획을 만듭니다.
+   *
+   * @param methodName Query Method 이름
+   * @param entityType 조회할 엔티티 타입
+   * @param attributes 엔티티의 필드 이름들 (조건 필드 검증에 사용)
+   * @return 실행 계획
+   */
+  public static QueryMethodPlan parse(String methodName, Class<?> entityType, Set<String> attributes) {
+    ParsedQueryMethod parsed = parseName(methodName, attributes);
+    return toPlan(parsed, "e", entityType, entityType, QueryResultKind.ENTITY, Function.identity());
+  }
+
+  /**
+   * 메서드의 이름과 반환 타입으로 실행 계획을 만듭니다.
+   * <br>
+   * 반환 타입이 엔티티라면 {@link #parse(String, Class, Set)}와 같습니다.
+   *
+   * @param method Query Method
+   * @param entityType 조회할 엔티티 타입
+   * @param attributes 엔티티의 필드 이름들 (조건, 조회 필드 검증에 사용)
+   * @return 실행 계획
+   */
+  public static QueryMethodPlan parse(Method method, Class<?> entityType, Set<String> attributes) {
+    String methodName = method.getName();
+    ParsedQueryMethod parsed = parseName(methodName, attributes);
+
+    if (parsed.prefix() == QueryMethodPrefix.UPDATE) {
+      return toUpdatePlan(parsed, entityType);
+    }
+    if (parsed.prefix() == QueryMethodPrefix.COUNT) {
+      return toPlan(parsed, "count(e)", entityType, Long.class, QueryResultKind.COUNT, Function.identity());
+    }
+    if (parsed.prefix() == QueryMethodPrefix.EXISTS) {
+      return toPlan(parsed, "1", entityType, Integer.class, QueryResultKind.EXISTS, Function.identity());
+    }
+
+    Class<?> elementType = resolveElementType(method);
+    if (parsed.prefix() == QueryMethodPrefix.STREAM) { // Stream은 엔티티로만 반환한다 (어노테이션 프로세서와 같은 규칙)
+      if (elementType != null && elementType != entityType) {
+        throw new MimicJpaInitException(
+            "Query method '" + methodName + "' must return Stream<" + entityType.getSimpleName() + ">");
+      }
+      return toPlan(parsed, "e", entityType, entityType, QueryResultKind.ENTITY, Function.identity());
+    }
+
+    String selectedAttribute = parsed.subjectAttribute();
+    if (attributes.contains(selectedAttribute)) {
+      Class<?> attributeType = findAttributeType(entityType, selectedAttribute);
+      return toPlan(parsed, "e." + selectedAttribute, entityType, attributeType, QueryResultKind.PROJECTION,
+          Function.identity());
+    }
+
+    if (elementType == null || elementType == entityType) {
+      return toPlan(parsed, "e", entityType, entityType, QueryResultKind.ENTITY, Function.identity());
+    }
+    if (elementType.isRecord()) {
+      List<String> selectedAttributes = Projections.recordAttributes(elementType);
+      assertAttributesExist(methodName, selectedAttributes, attributes);
+      return new QueryMethodPlan(methodName, parsed.selectJpql(selectedAttributes, entityType.getSimpleName()),
+          parsed.parameterCount(), Tuple.class, QueryResultKind.PROJECTION, Projections.recordMapper(elementType),
+          parsed.maxResults(), parsed.escapedParameters());
+    }
+    if (elementType.isInterface()) {
+      List<String> selectedAttributes = Projections.interfaceAttributes(elementType);
+      assertAttributesExist(methodName, selectedAttributes, attributes);
+      return new QueryMethodPlan(methodName, parsed.selectJpql(selectedAttributes, entityType.getSimpleName()),
+          parsed.parameterCount(), Tuple.class, QueryResultKind.PROJECTION,
+          Projections.interfaceMapper(elementType, selectedAttributes), parsed.maxResults(),
+          parsed.escapedParameters());
+    }
+    throw new MimicJpaInitException(
+        "Unsupported return type '" + elementType.getSimpleName() + "' in query method '" + methodName + "'");
+  }
+
+  /**
+   * 필드를 바꾸는 Query Method의 실행 계획을 만듭니다.
+   * <br>
+   * 메서드 이름은 update{필드}And{필드}By{조건} 형태이며, 바꿀 값이 먼저 오고 조건 값이 뒤따릅니다.
+   * <br>
+   * (예: updateNameById → "update Person e set e.name = ?1 where e.id = ?2")
+   * <br>
+   * 조건 없이 모든 레코드를 바꾸는 실수를 막기 위해 조건은 반드시 있어야 합니다.
+   * <br>
+   * 엔티티에 @Version 필드가 있다면 "update versioned"로 버전도 함께 올려서, 이미 읽어 둔 엔티티의 변경이 충돌로 드러나게 합니다.
+   *
+   * @param methodName Query Method 이름
+   * @param entityType 바꿀 엔티티 타입
+   * @param attributes 엔티티의 필드 이름들 (바꿀 필드, 조건 필드 검증에 사용)
+   * @return 바뀐 레코드 수를 반환하는 실행 계획
+   */
+  public static QueryMethodPlan parseUpdate(String methodName, Class<?> entityType, Set<String> attributes) {
+    ParsedQueryMethod parsed = parseName(methodName, attributes);
+    if (parsed.prefix() != QueryMethodPrefix.UPDATE) {
+      throw new MimicJpaInitException("Not an update query method '" + methodName + "'");
+    }
+    return toUpdatePlan(parsed, entityType);
+  }
+
+  private static ParsedQueryMethod parseName(String methodName, Set<String> attributes) {
+    try {
+      return QueryMethodGrammar.parse(methodName, attributes);
+    } catch (QueryMethodSyntaxException e) { // 예외 전환
+      throw new MimicJpaInitException(e.getMessage(), e);
+    }
+  }
+
+  private static QueryMethodPlan toPlan(
+      ParsedQueryMethod parsed,
+      String selectClause,
+      Class<?> entityType,
+      Class<?> resultType,
+      QueryResultKind resultKind,
+      Function<Object, Object> resultMapper
+  ) {
+    return new QueryMethodPlan(parsed.methodName(), parsed.selectJpql(selectClause, entityType.getSimpleName()),
+        parsed.parameterCount(), resultType, resultKind, resultMapper, parsed.maxResults(),
+        parsed.escapedParameters());
+  }
+
+  private static QueryMethodPlan toUpdatePlan(ParsedQueryMethod parsed, Class<?> entityType) {
+    boolean versioned = findVersionField(entityType.getDeclaredFields()).isPresent();
+    return new QueryMethodPlan(parsed.methodName(), parsed.updateJpql(entityType.getSimpleName(), versioned),
+        parsed.parameterCount(), Integer.class, QueryResultKind.UPDATE, Function.identity(), 0,
+        parsed.escapedParameters());
+  }
+
+  /**
+   * List&lt;T&gt;, Stream&lt;T&gt; 반환 타입에서 T를 구합니다. 알 수 없다면 null을 반환합니다.
+   */
+  private static Class<?> resolveElementType(Method method) {
+    Type returnType = method.getGenericReturnType();
+    if (returnType instanceof ParameterizedType parameterizedType
+        && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> elementType) {
+      return elementType;
+    }
+    return null;
+  }
+
+  private static Class<?> findAttributeType(Class<?> entityType, String attribute) {
+    try {
+      Class<?> attributeType = entityType.getDeclaredField(attribute).getType();
+      return attributeType.isPrimitive()
+          ? MethodType.methodType(attributeType).wrap().returnType()
+          : attributeType;
+    } catch (NoSuchFieldException e) {
+      throw new MimicJpaInitException("Unknown property '" + attribute + "'", e);
+    }
+  }
+
+  private static void assertAttributesExist(String methodName, List<String> selectedAttributes, Set<String> attributes) {
+    for (String key : selectedAttributes) {
+      if (!attributes.contains(key)) {
+        throw new MimicJpaInitException(
+            "Unknown property '" + key + "' in query method '" + methodName + "'");
+      }
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package philo.magicsproutjpa.core.query;
+
+import java.util.List;
+import java.util.function.Function;
+import philo.magicsproutjpa.grammar.ConditionKeyword;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Query Method 하나를 미리 해석해 둔 실행 계획입니다.
+ * <br>
+ * 리포지토리 생성 시점에 한 번만 만들어지며 이후에는 변경되지 않습니다.
+ * <br>
+ * 호출 시점에는 JPQL 문자열을 새로 만들지 않고 위치 기반 파라미터(?1, ?2 ...)에 값만 바인딩합니다.
+ * <br>
+ * 조건, 정렬은 JPQL에 포함되며 최대 결과 수는 setMaxResults로 DB에 전달됩니다.
+ * <br>
+ * StartingWith, EndingWith, Containing의 값은 %, _가 와일드카드로 해석되지 않도록 이스케이프해서 바인딩합니다.
+ * <br>
+ * 프로젝션을 반환하는 경우 resultType은 조회 결과의 타입(필드 타입 또는 Tuple)이며, resultMapper가 이를 반환 타입으로 바꿉니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public final class QueryMethodPlan {
+
+  private final String methodName;
+  private final String jpql;
+  private final int parameterCount;
+  private final Class<?> resultType;
+  private final QueryResultKind resultKind;
+  @ToString.Exclude
+  private final Function<Object, Object> resultMapper;
+  private final int maxResults; // Top N, First N (0이면 제한 없음)
+  private final List<Integer> escapedParameters; // like 패턴으로 이스케이프할 파라미터 위치
+
+  /**
+   * position번째 파라미터에 바인딩할 값을 구합니다.
+   *
+   * @param position 위치 기반 파라미터 번호 (1부터 시작)
+   * @param value 메서드에 전달된 값
+   */
+  public Object toParameterValue(int position, Object value) {
+    return escapedParameters.contains(position) ? ConditionKeyword.escapeLikeValue(value) : value;
+  }
+}
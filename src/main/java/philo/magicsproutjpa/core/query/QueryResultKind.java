@@ -0,0 +1,32 @@
+package philo.magicsproutjpa.core.query;
+
+/**
+ * Query Method가 반환하는 결과의 종류입니다.
+ */
+public enum QueryResultKind {
+
+  /**
+   * find, stream: 엔티티를 반환합니다.
+   */
+  ENTITY,
+
+  /**
+   * find: record, interface 프로젝션 또는 필드 값을 반환합니다.
+   */
+  PROJECTION,
+
+  /**
+   * count: 조건에 맞는 레코드 수를 반환합니다.
+   */
+  COUNT,
+
+  /**
+   * exists: 조건에 맞는 레코드가 있는지 반환합니다.
+   */
+  EXISTS,
+
+  /**
+   * update: 조건에 맞는 레코드의 필드를 바꾸고 바뀐 레코드 수를 반환합니다.
+   */
+  UPDATE
+}
@@ -0,0 +1,133 @@
+package philo.magicsproutjpa.core.routing;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import philo.magicsproutjpa.core.exception.MimicJpaInitException;
+
+/**
+ * 읽기 작업을 레플리카 EntityManagerFactory로 나눠 보냅니다.
+ * <br>
+ * 쓰기 작업 직후에는 레플리카에 아직 반영되지 않았을 수 있으므로,
+ * 같은 쓰레드에서 stickyWindow 동안은 레플리카 대신 프라이머리에서 읽어야 합니다. (read-your-writes)
+ * <br>
+ * 쓰기 시각은 프라이머리 EntityManagerFactory 이름별로 쓰레드에 기록되므로 같은 프라이머리를 쓰는 리포지토리들이 공유합니다.
+ */
+public final class ReplicaRouter {
+
+  private static final Map<String, AtomicInteger> IN_FLIGHT = new ConcurrentHashMap<>(); // 레플리카별 진행 중인 작업 수
+  private static final ThreadLocal<Map<String, Long>> LAST_WRITE_NANOS = ThreadLocal.withInitial(HashMap::new);
+
+  private final String primaryFactoryName;
+  private final List<String> replicaFactoryNames;
+  private final ReplicaRouting routing;
+  private final long stickyWindowNanos;
+  private final AtomicInteger nextIndex = new AtomicInteger();
+
+  public ReplicaRouter(
+      String primaryFactoryName,
+      List<String> replicaFactoryNames,
+      ReplicaRouting routing,
+      Duration stickyWindow
+  ) {
+    if (replicaFactoryNames.isEmpty()) {
+      throw new MimicJpaInitException("At least one replica factory is required");
+    }
+    if (replicaFactoryNames.contains(primaryFactoryName)) {
+      throw new MimicJpaInitException("Primary factory cannot be a replica: " + primaryFactoryName);
+    }
+
+    this.primaryFactoryName = primaryFactoryName;
+    this.replicaFactoryNames = List.copyOf(replicaFactoryNames);
+    this.routing = routing;
+    this.stickyWindowNanos = stickyWindow.toNanos();
+  }
+
+  /**
+   * 레플리카 하나를 골라서 작업을 수행합니다.
+   *
+   * @param work 고른 레플리카의 EntityManagerFactory 이름을 받아 수행할 작업
+   */
+  public <R> R route(Function<String, R> work) {
+    String replicaFactoryName = acquire();
+    try {
+      return work.apply(replicaFactoryName);
+    } finally {
+      release(replicaFactoryName);
+    }
+  }
+
+  /**
+   * 레플리카 하나를 고르고 진행 중인 작업으로 셉니다.
+   * <br>
+   * Stream처럼 작업이 메서드 밖에서 끝나는 경우에 사용하며, 반드시 {@link #release(String)}를 호출해야 합니다.
+   */
+  public String acquire() {
+    String replicaFactoryName = routing == ReplicaRouting.LEAST_BUSY ? leastBusyReplica() : nextReplica();
+    inFlight(replicaFactoryName).incrementAndGet();
+    return replicaFactoryName;
+  }
+
+  public void release(String replicaFactoryName) {
+    inFlight(replicaFactoryName).decrementAndGet();
+  }
+
+  /**
+   * 현재 쓰레드가 프라이머리에 썼음을 기록합니다.
+   */
+  public void markWritten() {
+    if (stickyWindowNanos > 0) {
+      LAST_WRITE_NANOS.get().put(primaryFactoryName, System.nanoTime());
+    }
+  }
+
+  /**
+   * @return 현재 쓰레드가 stickyWindow 안에 프라이머리에 썼다면 true
+   */
+  public boolean isSticky() {
+    Long lastWriteNanos = LAST_WRITE_NANOS.get().get(primaryFactoryName);
+    if (lastWriteNanos == null) {
+      return false;
+    }
+    if (System.nanoTime() - lastWriteNanos < stickyWindowNanos) {
+      return true;
+    }
+
+    LAST_WRITE_NANOS.get().remove(primaryFactoryName);
+    return false;
+  }
+
+  /**
+   * @return 레플리카에서 진행 중인 읽기 작업 수
+   */
+  public static int inFlightCount(String replicaFactoryName) {
+    return inFlight(replicaFactoryName).get();
+  }
+
+  private String nextReplica() {
+    int index = Math.floorMod(nextIndex.getAndIncrement(), replicaFactoryNames.size());
+    return replicaFactoryNames.get(index);
+  }
+
+  private String leastBusyReplica() {
+    String leastBusy = replicaFactoryNames.get(0);
+    int leastCount = inFlightCount(leastBusy);
+    for (int i = 1; i < replicaFactoryNames.size(); i++) {
+      String candidate = replicaFactoryNames.get(i);
+      int count = inFlightCount(candidate);
+      if (count < leastCount) {
+        leastBusy = candidate;
+        leastCount = count;
+      }
+    }
+    return leastBusy;
+  }
+
+  private static AtomicInteger inFlight(String replicaFactoryName) {
+    return IN_FLIGHT.computeIfAbsent(replicaFactoryName, name -> new AtomicInteger());
+  }
+}
@@ -0,0 +1,19 @@
+package philo.magicsproutjpa.core.routing;
+
+/**
+ * 읽기 작업을 보낼 레플리카 EntityManagerFactory를 고르는 방식입니다.
+ */
+public enum ReplicaRouting {
+
+  /**
+   * 레플리카를 차례대로 돌아가며 사용합니다.
+   */
+  ROUND_ROBIN,
+
+  /**
+   * 진행 중인 읽기 작업이 가장 적은 레플리카를 사용합니다.
+   * <br>
+   * 진행 중인 작업 수는 같은 레플리카를 사용하는 모든 리포지토리가 공유합니다.
+   */
+  LEAST_BUSY
+}
@@ -3,19 +3,168 @@ package philo.magicsproutjpa.core.support;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
+import philo.magicsproutjpa.core.exception.MimicJpaInnerException;
+import philo.magicsproutjpa.core.metrics.SqlStatementCounter;
 
+/**
+ * 이름으로 구분되는 EntityManagerFactory들을 만들어서 공유합니다.
+ * <br>
+ * 기본 EntityManagerFactory("default")는 처음 EntityManager를 만들 때 persistence.xml의 영속성 유닛으로 생성됩니다.
+ * <br>
+ * 그 전에 {@link #configure(DataSource)}를 호출하면 persistence.xml의 JDBC 설정 대신 전달한 DataSource로 커넥션을 얻습니다.
+ * <br>
+ * (예: {@link philo.magicsproutjpa.core.datasource.MimicPooledDataSource})
+ * <br>
+ * 다른 설정의 EntityManagerFactory가 필요하다면 {@link #builder(String)}로 등록하고,
+ * 리포지토리는 MimicJpaOptions.factoryName으로 사용할 EntityManagerFactory를 고릅니다.
+ *
+ * <pre>{@code
+ * EntityManagerFactoryFacade.builder("reporting")
+ *     .profile(FactoryProfile.throughput())
+ *     .dataSource(reportingDataSource)
+ *     .register();
+ * }</pre>
+ */
 public final class EntityManagerFactoryFacade {
 
-  private static final String PERSISTENCE_UNIT_NAME = "magic-sprout-jpa";
+  public static final String DEFAULT_FACTORY_NAME = "default";
+  private static final String DEFAULT_PERSISTENCE_UNIT_NAME = "magic-sprout-jpa";
+
+  private static final String JAKARTA_JDBC_URL = "jakarta.persistence.jdbc.url";
+  private static final String JAVAX_JDBC_URL = "javax.persistence.jdbc.url";
+
+  private static final Map<String, EntityManagerFactory> FACTORIES = new ConcurrentHashMap<>();
 
   private EntityManagerFactoryFacade() {
     throw new IllegalStateException("Utility class");
   }
 
-  private static final EntityManagerFactory entityManagerFactory =
-      Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME);
+  /**
+   * 기본 EntityManagerFactory가 사용할 DataSource를 지정합니다.
+   * <br>
+   * 기본 EntityManagerFactory가 이미 만들어졌다면 예외가 발생하므로 리포지토리를 생성하기 전에 호출해야 합니다.
+   */
+  public static void configure(DataSource dataSource) {
+    builder(DEFAULT_FACTORY_NAME)
+        .dataSource(dataSource)
+        .register();
+  }
+
+  /**
+   * 이름을 가진 EntityManagerFactory를 만드는 빌더를 구합니다.
+   */
+  public static FactoryBuilder builder(String factoryName) {
+    return new FactoryBuilder(factoryName);
+  }
 
   public static EntityManager createEntityManager() {
-    return entityManagerFactory.createEntityManager();
+    return createEntityManager(DEFAULT_FACTORY_NAME);
+  }
+
+  public static EntityManager createEntityManager(String factoryName) {
+    return getEntityManagerFactory(factoryName).createEntityManager();
+  }
+
+  /**
+   * 등록된 EntityManagerFactory를 닫고 등록을 해제합니다.
+   */
+  public static synchronized void close(String factoryName) {
+    EntityManagerFactory factory = FACTORIES.remove(factoryName);
+    if (factory != null) {
+      factory.close();
+    }
+  }
+
+  private static EntityManagerFactory getEntityManagerFactory(String factoryName) {
+    EntityManagerFactory factory = FACTORIES.get(factoryName);
+    if (factory != null) {
+      return factory;
+    }
+    if (DEFAULT_FACTORY_NAME.equals(factoryName)) {
+      return initializeDefault();
+    }
+    throw new MimicJpaInnerException("EntityManagerFactory is not registered: " + factoryName);
+  }
+
+  private static synchronized EntityManagerFactory initializeDefault() {
+    return FACTORIES.computeIfAbsent(DEFAULT_FACTORY_NAME,
+        name -> Persistence.createEntityManagerFactory(DEFAULT_PERSISTENCE_UNIT_NAME, withStatementCounter(Map.of())));
+  }
+
+  private static synchronized void register(String factoryName, String persistenceUnitName,
+      Map<String, Object> properties) {
+    if (FACTORIES.containsKey(factoryName)) {
+      throw new MimicJpaInnerException("EntityManagerFactory is already registered: " + factoryName);
+    }
+    FACTORIES.put(factoryName,
+        Persistence.createEntityManagerFactory(persistenceUnitName, withStatementCounter(properties)));
+  }
+
+  /**
+   * 리포지토리 지표가 SQL 수를 셀 수 있도록 {@link SqlStatementCounter}를 등록합니다.
+   * <br>
+   * 다른 StatementInspector를 지정했다면 그것을 사용하며, 이때 SQL 수는 0으로 기록됩니다.
+   */
+  private static Map<String, Object> withStatementCounter(Map<String, Object> properties) {
+    Map<String, Object> merged = new HashMap<>(properties);
+    merged.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, SqlStatementCounter.INSTANCE);
+    return merged;
+  }
+
+  /**
+   * 이름을 가진 EntityManagerFactory의 설정을 모아서 등록합니다.
+   * <br>
+   * 나중에 지정한 설정이 먼저 지정한 설정을 덮어씁니다.
+   */
+  public static final class FactoryBuilder {
+
+    private final String factoryName;
+    private final Map<String, Object> properties = new HashMap<>();
+    private String persistenceUnitName = DEFAULT_PERSISTENCE_UNIT_NAME;
+
+    private FactoryBuilder(String factoryName) {
+      this.factoryName = factoryName;
+    }
+
+    public FactoryBuilder persistenceUnit(String persistenceUnitName) {
+      this.persistenceUnitName = persistenceUnitName;
+      return this;
+    }
+
+    public FactoryBuilder profile(FactoryProfile profile) {
+      properties.putAll(profile.toProperties());
+      return this;
+    }
+
+    public FactoryBuilder dataSource(DataSource dataSource) {
+      properties.put(AvailableSettings.DATASOURCE, dataSource);
+      return this;
+    }
+
+    /**
+     * persistence.xml의 JDBC URL을 덮어씁니다. (javax, jakarta 설정을 모두 덮어씁니다)
+     */
+    public FactoryBuilder jdbcUrl(String jdbcUrl) {
+      properties.put(JAKARTA_JDBC_URL, jdbcUrl);
+      properties.put(JAVAX_JDBC_URL, jdbcUrl);
+      return this;
+    }
+
+    public FactoryBuilder property(String key, Object value) {
+      properties.put(key, value);
+      return this;
+    }
+
+    /**
+     * EntityManagerFactory를 만들어서 등록합니다. 같은 이름이 이미 등록되어 있다면 예외가 발생합니다.
+     */
+    public void register() {
+      EntityManagerFactoryFacade.register(factoryName, persistenceUnitName, Map.copyOf(properties));
+    }
   }
 }
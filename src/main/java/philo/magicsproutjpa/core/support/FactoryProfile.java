@@ -0,0 +1,119 @@
+package philo.magicsproutjpa.core.support;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * EntityManagerFactory의 성능 관련 Hibernate 설정 묶음입니다.
+ * <br>
+ * 값을 지정한 항목만 persistence.xml의 설정을 덮어씁니다.
+ * <br>
+ * {@link #development()}는 SQL 로그를 남기고 스키마를 새로 만들며, {@link #throughput()}은 로그를 끄고 배치, 캐시를 켭니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class FactoryProfile {
+
+  public static final String BATCH_SIZE = "hibernate.jdbc.batch_size";
+  public static final String FETCH_SIZE = "hibernate.jdbc.fetch_size";
+  public static final String SHOW_SQL = "hibernate.show_sql";
+  public static final String FORMAT_SQL = "hibernate.format_sql";
+  public static final String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
+  public static final String ORDER_INSERTS = "hibernate.order_inserts";
+  public static final String ORDER_UPDATES = "hibernate.order_updates";
+  public static final String USE_SECOND_LEVEL_CACHE = "hibernate.cache.use_second_level_cache";
+  public static final String SCHEMA_GENERATION = "hibernate.hbm2ddl.auto";
+
+  /**
+   * JDBC batch 크기입니다. MimicJpaOptions.batchSize와 같은 값을 사용하는 것이 좋습니다.
+   */
+  private final Integer batchSize;
+
+  /**
+   * JDBC fetch size입니다.
+   */
+  private final Integer fetchSize;
+
+  /**
+   * SQL을 표준 출력에 남길지 여부입니다.
+   */
+  private final Boolean showSql;
+
+  /**
+   * SQL 로그를 여러 줄로 정렬해서 남길지 여부입니다. 로그가 길어지므로 showSql과 따로 지정합니다.
+   */
+  private final Boolean formatSql;
+
+  /**
+   * 해석한 HQL/JPQL을 보관하는 쿼리 계획 캐시의 크기입니다.
+   */
+  private final Integer queryPlanCacheSize;
+
+  /**
+   * insert, update를 엔티티 타입별로 정렬해서 JDBC batch로 묶일 수 있게 할지 여부입니다.
+   */
+  private final Boolean orderInsertsAndUpdates;
+
+  /**
+   * 2차 캐시 사용 여부입니다. 켜려면 JCache 등의 캐시 구현체(region factory)가 필요합니다.
+   */
+  private final Boolean secondLevelCache;
+
+  /**
+   * hbm2ddl.auto 값입니다. (create, validate, none 등)
+   */
+  private final String schemaGeneration;
+
+  /**
+   * 개발용 설정입니다. SQL 로그를 남기고 스키마를 새로 만듭니다.
+   */
+  public static FactoryProfile development() {
+    return FactoryProfile.builder()
+        .showSql(true)
+        .formatSql(true)
+        .schemaGeneration("create")
+        .build();
+  }
+
+  /**
+   * 처리량 중심 설정입니다. SQL 로그를 끄고 JDBC batch, 쿼리 계획 캐시를 사용합니다.
+   * <br>
+   * 스키마는 건드리지 않으므로 필요하다면 toBuilder()로 schemaGeneration을 지정합니다.
+   */
+  public static FactoryProfile throughput() {
+    return FactoryProfile.builder()
+        .batchSize(50)
+        .fetchSize(100)
+        .showSql(false)
+        .formatSql(false)
+        .queryPlanCacheSize(2048)
+        .orderInsertsAndUpdates(true)
+        .secondLevelCache(false)
+        .build();
+  }
+
+  /**
+   * 값을 지정한 항목들을 Hibernate 설정으로 바꿉니다.
+   */
+  public Map<String, Object> toProperties() {
+    Map<String, Object> properties = new HashMap<>();
+    putIfPresent(properties, BATCH_SIZE, batchSize);
+    putIfPresent(properties, FETCH_SIZE, fetchSize);
+    putIfPresent(properties, SHOW_SQL, showSql);
+    putIfPresent(properties, FORMAT_SQL, formatSql);
+    putIfPresent(properties, QUERY_PLAN_CACHE_MAX_SIZE, queryPlanCacheSize);
+    putIfPresent(properties, ORDER_INSERTS, orderInsertsAndUpdates);
+    putIfPresent(properties, ORDER_UPDATES, orderInsertsAndUpdates);
+    putIfPresent(properties, USE_SECOND_LEVEL_CACHE, secondLevelCache);
+    putIfPresent(properties, SCHEMA_GENERATION, schemaGeneration);
+    return properties;
+  }
+
+  private static void putIfPresent(Map<String, Object> properties, String key, Object value) {
+    if (value != null) {
+      properties.put(key, String.valueOf(value));
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package philo.magicsproutjpa.core.support;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import philo.magicsproutjpa.core.exception.MimicJpaInitException;
+
+/**
+ * getter 메서드를 {@link Function}으로 변환합니다.
+ * <br>
+ * LambdaMetafactory로 getter를 직접 호출하는 람다를 만들기 때문에 Method.invoke와 달리 JIT가 인라인할 수 있습니다.
+ * <br>
+ * 람다를 만들 수 없는 환경(모듈 접근 제한 등)에서는 Method.invoke를 사용하는 Function으로 대체합니다.
+ * <br>
+ * 그 밖의 실패는 {@link MimicJpaInitException}으로 감싸서 던지며, Error(OutOfMemoryError 등)는 그대로 전파합니다.
+ */
+@Slf4j
+public final class GetterAccessors {
+
+  private static final MethodType FUNCTION_SIGNATURE = MethodType.methodType(Object.class, Object.class);
+
+  private GetterAccessors() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * getter 메서드를 호출하는 Function을 만듭니다. 원시 타입의 반환 값은 박싱됩니다.
+   *
+   * @param getterMethod 인자가 없는 인스턴스 메서드
+   * @param <T> getter를 가진 타입
+   * @param <R> getter의 반환 타입
+   */
+  @SuppressWarnings("unchecked")
+  public static <T, R> Function<T, R> create(Method getterMethod) {
+    try {
+      return (Function<T, R>) createLambda(getterMethod);
+    } catch (ReflectiveOperationException | LambdaConversionException e) {
+      log.debug("lambda accessor creation failed, fallback to reflection : {}", getterMethod, e);
+      return target -> MimicJpaReflectionUtils.delegateMethodInvoke(target, getterMethod);
+    }
+  }
+
+  private static Function<?, ?> createLambda(Method getterMethod)
+      throws ReflectiveOperationException, LambdaConversionException {
+    Class<?> declaringClass = getterMethod.getDeclaringClass();
+    Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+    MethodHandle getterHandle = lookup.unreflect(getterMethod);
+    MethodType instantiatedSignature = MethodType.methodType(
+        MethodType.methodType(getterMethod.getReturnType()).wrap().returnType(),
+        declaringClass);
+
+    CallSite callSite = LambdaMetafactory.metafactory(
+        lookup,
+        "apply",
+        MethodType.methodType(Function.class),
+        FUNCTION_SIGNATURE,
+        getterHandle,
+        instantiatedSignature);
+    try {
+      return (Function<?, ?>) callSite.getTarget().invokeExact();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new MimicJpaInitException("Getter accessor creation failed: " + getterMethod, e);
+    }
+  }
+}
@@ -2,12 +2,22 @@ package philo.magicsproutjpa.core.support;
 
 import static java.util.Arrays.stream;
 
+import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import philo.magicsproutjpa.core.exception.MimicJpaInitException;
 import philo.magicsproutjpa.core.exception.MimicJpaInnerException;
 
 /**
@@ -16,6 +26,19 @@ import philo.magicsproutjpa.core.exception.MimicJpaInnerException;
 public class MimicJpaReflectionUtils {
 
   private static final int ENTITY_TYPE_INDEX = 0;
+  private static final ClassValue<List<Field>> COPIED_FIELDS = new ClassValue<>() {
+    @Override
+    protected List<Field> computeValue(Class<?> type) {
+      List<Field> fields = new ArrayList<>();
+      for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+        stream(current.getDeclaredFields())
+            .filter(field -> !Modifier.isStatic(field.getModifiers()))
+            .peek(field -> field.setAccessible(true))
+            .forEach(fields::add);
+      }
+      return List.copyOf(fields);
+    }
+  };
 
   private MimicJpaReflectionUtils() {
     throw new IllegalStateException("Utility class");
@@ -33,6 +56,26 @@ public class MimicJpaReflectionUtils {
     }
   }
 
+  /**
+   * 객체의 필드 값을 그대로 옮긴 새 인스턴스를 만듭니다. (얕은 복사)
+   * <br>
+   * 상위 클래스에 선언된 필드도 복사하며, 필드가 가리키는 컬렉션, 연관 엔티티는 원본과 같은 인스턴스를 가리킵니다.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T shallowCopy(T source) {
+    try {
+      Constructor<?> constructor = source.getClass().getDeclaredConstructor();
+      constructor.setAccessible(true); // JPA 엔티티는 protected 기본 생성자만 두기도 한다
+      T copy = (T) constructor.newInstance();
+      for (Field field : COPIED_FIELDS.get(source.getClass())) {
+        field.set(copy, field.get(source));
+      }
+      return copy;
+    } catch (ReflectiveOperationException e) {
+      throw new MimicJpaInnerException("Copy failed: " + source.getClass().getName(), e);
+    }
+  }
+
   @SuppressWarnings("unchecked")
   public static <T> Class<T> getEntityType(Class<?> clazz) {
     return getGenericType((Class<T>) clazz, ENTITY_TYPE_INDEX);
@@ -61,11 +104,61 @@ public class MimicJpaReflectionUtils {
     }
   }
 
+  public static boolean isGeneratedId(Field[] fields) {
+    return getIdField(fields).getAnnotation(GeneratedValue.class) != null;
+  }
+
+  public static Optional<Field> findVersionField(Field[] fields) {
+    return stream(fields)
+        .filter(field -> field.getAnnotation(Version.class) != null)
+        .findAny();
+  }
+
+  /**
+   * 필드의 getter 메서드를 찾습니다.
+   */
+  public static <E> Method extractGetterMethod(Class<E> entity, Field field) {
+    try {
+      return entity.getDeclaredMethod(getGetterMethodName(field.getName()));
+    } catch (NoSuchMethodException e) {
+      throw new MimicJpaInnerException("Getter method not found: " + field.getName(), e);
+    }
+  }
+
+  /**
+   * 엔티티 필드들의 이름을 구합니다. static 필드는 제외합니다.
+   */
+  public static Set<String> getFieldNames(Field[] fields) {
+    return stream(fields)
+        .filter(field -> !Modifier.isStatic(field.getModifiers()))
+        .map(Field::getName)
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  /**
+   * clazz부터 stopClass 직전의 상위 클래스까지 선언된 메서드들을 구합니다.
+   * <br>
+   * 컴파일러가 만든 synthetic 메서드(람다 등)와 static 메서드는 제외합니다.
+   *
+   * @param clazz 탐색을 시작할 클래스
+   * @param stopClass 탐색을 멈출 상위 클래스 (포함하지 않음)
+   */
+  public static List<Method> getDeclaredMethodsUntil(Class<?> clazz, Class<?> stopClass) {
+    List<Method> methods = new ArrayList<>();
+    for (Class<?> current = clazz; current != null && current != stopClass; current = current.getSuperclass()) {
+      stream(current.getDeclaredMethods())
+          .filter(method -> !method.isSynthetic())
+          .filter(method -> !Modifier.isStatic(method.getModifiers()))
+          .forEach(methods::add);
+    }
+    return methods;
+  }
+
   @SuppressWarnings("OptionalGetWithoutIsPresent")
   public static String extractIdGetterMethodName(Field[] fields) {
     Field idField = MimicJpaReflectionUtils.getIdField(fields);
     String idFieldName = idField.getName();
-    return getIdGetterMethodName(idFieldName);
+    return getGetterMethodName(idFieldName);
   }
 
   /**
@@ -105,12 +198,19 @@ public class MimicJpaReflectionUtils {
     }
   }
 
-  private static String getIdGetterMethodName(String idFieldName) {
-    return "get" + idFieldName.substring(0, 1).toUpperCase() + idFieldName.substring(1);
+  private static String getGetterMethodName(String fieldName) {
+    return "get" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
   }
 
   private static <T> Class<T> getGenericType(Class<T> clazz, int genericIndex) {
-    ParameterizedType superclass = (ParameterizedType) clazz.getGenericSuperclass();
+    Class<?> current = clazz;
+    while (!(current.getGenericSuperclass() instanceof ParameterizedType)) {
+      current = current.getSuperclass(); // 생성된 _Impl 클래스처럼 도메인 리포지토리를 한 번 더 상속한 경우
+      if (current == null || current == Object.class) {
+        throw new MimicJpaInitException("Type arguments not found: " + clazz.getName());
+      }
+    }
+    ParameterizedType superclass = (ParameterizedType) current.getGenericSuperclass();
     Type[] typeArguments = superclass.getActualTypeArguments();
     Type typeArgument = typeArguments[genericIndex];
     return (Class<T>) typeArgument;
@@ -4,11 +4,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import philo.magicsproutjpa.business.item.Item;
 import philo.magicsproutjpa.business.item.ItemRepository;
+import philo.magicsproutjpa.core.metrics.SqlCapture;
+import philo.magicsproutjpa.core.metrics.SqlStatementType;
 
 class BasicRepositoryTest {
 
@@ -59,6 +63,69 @@ class BasicRepositoryTest {
   }
 
 
+  @DisplayName("[save - update] 다른 리포지토리에서 저장한 엔티티도 수정을 한다")
+  @Test
+  void update_detached() {
+    // given
+    Item item = new Item("black jean");
+    new ItemRepository().save(item);
+
+    // when
+    item.changeName("blue jean");
+    boolean saved = itemRepository.save(item);
+
+    // then
+    Item foundItem = itemRepository.findById(item.getId());
+
+    assertAll(
+        () -> assertThat(saved).isFalse(),
+        () -> assertThat(foundItem.getName()).isEqualTo("blue jean"),
+        () -> assertThat(itemRepository.count()).isEqualTo(1)
+    );
+  }
+
+
+  @DisplayName("[saveAll] 리포지토리는 여러 엔티티를 한 번에 저장할 수 있다")
+  @Test
+  void saveAll() {
+    // given
+    List<Item> items = IntStream.range(0, 120)
+        .mapToObj(index -> new Item("black jean" + index))
+        .toList();
+
+    // when
+    List<Boolean> results = itemRepository.saveAll(items);
+
+    // then
+    assertAll(
+        () -> assertThat(results).hasSize(120).containsOnly(true),
+        () -> assertThat(itemRepository.count()).isEqualTo(120)
+    );
+  }
+
+
+  @DisplayName("[saveAll - update] 기존에 저장된 엔티티는 저장이 아닌 수정을 한다")
+  @Test
+  void saveAll_update() {
+    // given
+    Item savedItem = new Item("black jean");
+    itemRepository.save(savedItem);
+    savedItem.changeName("blue jean");
+
+    // when
+    List<Boolean> results = itemRepository.saveAll(Stream.of(savedItem, new Item("white jean")));
+
+    // then
+    Item foundItem = itemRepository.findById(savedItem.getId());
+
+    assertAll(
+        () -> assertThat(results).containsExactly(false, true),
+        () -> assertThat(foundItem.getName()).isEqualTo("blue jean"),
+        () -> assertThat(itemRepository.count()).isEqualTo(2)
+    );
+  }
+
+
   @DisplayName("[findAll] 리포지토리는 엔티티를 모두 불러올 수 있다")
   @Test
   void findAll() {
@@ -79,6 +146,51 @@ class BasicRepositoryTest {
     );
   }
 
+  @DisplayName("[saveAll] batchSize마다 이번에 저장한 엔티티만 준영속 상태로 만들고 관리 중이던 엔티티는 그대로 둔다")
+  @Test
+  void saveAll_keeps_managed_entities() {
+    // given
+    ItemRepository batchRepository = new ItemRepository(MimicJpaOptions.builder()
+        .batchSize(2)
+        .build());
+    Item managedItem = new Item("black jean");
+    batchRepository.save(managedItem);
+    managedItem.changeName("blue jean"); // 아직 반영되지 않은 변경
+
+    // when
+    batchRepository.saveAll(IntStream.range(0, 4)
+        .mapToObj(index -> new Item("white jean" + index))
+        .toList());
+
+    // then
+    assertAll(
+        () -> assertThat(batchRepository.managedEntityCount()).isEqualTo(1),
+        () -> assertThat(batchRepository.findById(managedItem.getId())).isSameAs(managedItem),
+        () -> assertThat(new ItemRepository().findById(managedItem.getId()).getName()).isEqualTo("blue jean")
+    );
+  }
+
+  @DisplayName("[streamAll] 리포지토리는 엔티티를 모두 Stream으로 불러올 수 있다")
+  @Test
+  void streamAll() {
+    // given
+    itemRepository.saveAll(IntStream.range(0, 1200)
+        .mapToObj(index -> new Item("black jean" + index))
+        .toList());
+
+    // when
+    long streamedCount;
+    try (Stream<Item> items = itemRepository.streamAll()) {
+      streamedCount = items
+          .filter(item -> item.getName().startsWith("black jean"))
+          .count();
+    }
+
+    // then
+    assertThat(streamedCount).isEqualTo(1200);
+  }
+
+
   @DisplayName("[deleteAll] 리포지토리는 엔티티를 모두 정상적으로 삭제할 수 있다")
   @Test
   void deleteAll() {
@@ -115,6 +227,95 @@ class BasicRepositoryTest {
   }
 
 
+  @DisplayName("[delete] 영속성 컨텍스트에 남아있던 엔티티도 삭제 후에는 조회되지 않는다")
+  @Test
+  void delete_managed() {
+    // given
+    Item item = new Item("black jean");
+    itemRepository.save(item);
+    itemRepository.findById(item.getId());
+
+    // when
+    itemRepository.deleteById(item.getId());
+
+    // then
+    assertAll(
+        () -> assertThat(itemRepository.findById(item.getId())).isNull(),
+        () -> assertThat(itemRepository.count()).isZero()
+    );
+  }
+
+
+  @DisplayName("[deleteAllById] 리포지토리는 여러 ID로 엔티티를 삭제하고 삭제된 개수를 반환한다")
+  @Test
+  void deleteAllById() {
+    // given
+    List<Item> items = IntStream.range(0, 120)
+        .mapToObj(i -> new Item("item-" + i))
+        .toList();
+    itemRepository.saveAll(items);
+    List<Long> deleteIds = items.subList(0, 110).stream()
+        .map(Item::getId)
+        .toList();
+
+    // when
+    int deletedCount = itemRepository.deleteAllById(deleteIds);
+
+    // then
+    assertAll(
+        () -> assertThat(deletedCount).isEqualTo(110),
+        () -> assertThat(itemRepository.count()).isEqualTo(10)
+    );
+  }
+
+
+  @DisplayName("[deleteAllById] batchSize 개씩 in 조건으로 나눠서 지우고 마지막 남은 id들도 지운다")
+  @Test
+  void deleteAllById_chunks() {
+    // given
+    ItemRepository chunkRepository = new ItemRepository(MimicJpaOptions.builder()
+        .batchSize(2)
+        .build());
+    List<Item> items = IntStream.range(0, 5)
+        .mapToObj(i -> new Item("item-" + i))
+        .toList();
+    chunkRepository.saveAll(items);
+    List<Long> deleteIds = items.stream()
+        .map(Item::getId)
+        .toList();
+
+    // when
+    int deletedCount;
+    long deleteStatementCount;
+    try (SqlCapture capture = SqlCapture.start()) {
+      deletedCount = chunkRepository.deleteAllById(deleteIds);
+      deleteStatementCount = capture.count(SqlStatementType.DELETE);
+    }
+
+    // then
+    assertAll(
+        () -> assertThat(deletedCount).isEqualTo(5),
+        () -> assertThat(deleteStatementCount).isEqualTo(3),
+        () -> assertThat(chunkRepository.count()).isZero()
+    );
+  }
+
+
+  @DisplayName("[existsById] 리포지토리는 엔티티를 읽지 않고 ID로 존재 여부를 확인할 수 있다")
+  @Test
+  void existsById() {
+    // given
+    Item item = new Item("black jean");
+    itemRepository.save(item);
+
+    // when & then
+    assertAll(
+        () -> assertThat(itemRepository.existsById(item.getId())).isTrue(),
+        () -> assertThat(itemRepository.existsById(item.getId() + 1)).isFalse()
+    );
+  }
+
+
   @DisplayName("[count] 리포지토리는 record 개수를 조회할 수 있다")
   @Test
   void count() {
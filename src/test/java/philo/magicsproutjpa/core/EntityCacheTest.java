@@ -0,0 +1,180 @@
+package philo.magicsproutjpa.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import philo.magicsproutjpa.business.item.Item;
+import philo.magicsproutjpa.business.item.ItemRepository;
+import philo.magicsproutjpa.core.cache.CacheStats;
+
+class EntityCacheTest {
+
+  static final MimicJpaOptions CACHE_OPTIONS = MimicJpaOptions.builder()
+      .entityCacheMaxSize(100)
+      .build();
+
+  static ItemRepository itemRepository = new ItemRepository(CACHE_OPTIONS);
+
+  @AfterEach
+  void tearDown() {
+    itemRepository.deleteAll();
+  }
+
+  @DisplayName("[findById] 다른 리포지토리 인스턴스가 조회한 엔티티를 캐시에서 찾는다")
+  @Test
+  void cross_instance_hit() {
+    // given
+    Item item = new Item("black jean");
+    itemRepository.save(item);
+    new ItemRepository(CACHE_OPTIONS).findById(item.getId());
+    CacheStats before = itemRepository.entityCacheStats();
+
+    // when
+    Item foundItem = new ItemRepository(CACHE_OPTIONS).findById(item.getId());
+
+    // then
+    CacheStats after = itemRepository.entityCacheStats();
+
+    assertAll(
+        () -> assertThat(foundItem.getName()).isEqualTo("black jean"),
+        () -> assertThat(after.hitCount() - before.hitCount()).isEqualTo(1),
+        () -> assertThat(after.missCount() - before.missCount()).isZero()
+    );
+  }
+
+  @DisplayName("[findById] 캐시의 엔티티 대신 복사본을 반환해서 한 호출자의 변경이 다른 호출자에게 보이지 않는다")
+  @Test
+  void return_copy() {
+    // given
+    Item item = new Item("black jean");
+    itemRepository.save(item);
+    Item firstFound = new ItemRepository(CACHE_OPTIONS).findById(item.getId()); // 캐시에 넣는다
+    Item secondFound = new ItemRepository(CACHE_OPTIONS).findById(item.getId());
+
+    // when
+    firstFound.changeName("blue jean");
+    secondFound.changeName("white jean");
+
+    // then
+    Item foundItem = new ItemRepository(CACHE_OPTIONS).findById(item.getId());
+
+    assertAll(
+        () -> assertThat(secondFound).isNotSameAs(firstFound),
+        () -> assertThat(foundItem.getName()).isEqualTo("black jean"),
+        () -> assertThat(foundItem.getId()).isEqualTo(item.getId())
+    );
+  }
+
+  @DisplayName("[save] 수정하면 캐시에서 제거되어 변경된 엔티티를 조회한다")
+  @Test
+  void invalidate_on_save() {
+    // given
+    Item item = new Item("black jean");
+    itemRepository.save(item);
+    itemRepository.findById(item.getId());
+
+    // when
+    Item itemToChange = new ItemRepository().findById(item.getId());
+    itemToChange.changeName("blue jean");
+    new ItemRepository().save(itemToChange);
+
+    // then
+    Item foundItem = new ItemRepository(CACHE_OPTIONS).findById(item.getId());
+
+    assertThat(foundItem.getName()).isEqualTo("blue jean");
+  }
+
+  @DisplayName("[findById] UnitOfWork 안에서는 캐시 대신 작업 단위가 관리하는 엔티티를 반환한다")
+  @Test
+  void bypass_in_unit_of_work() {
+    // given
+    Item item = new Item("black jean");
+    itemRepository.save(item);
+    itemRepository.findById(item.getId()); // 캐시에 넣는다
+
+    try (UnitOfWork unitOfWork = UnitOfWork.open()) {
+      ItemRepository unitOfWorkRepository = new ItemRepository(CACHE_OPTIONS);
+      Item managedItem = unitOfWorkRepository.findById(item.getId());
+
+      // when
+      managedItem.changeName("blue jean");
+      Item foundItem = unitOfWorkRepository.findById(item.getId());
+
+      // then
+      assertAll(
+          () -> assertThat(foundItem).isSameAs(managedItem),
+          () -> assertThat(foundItem.getName()).isEqualTo("blue jean"),
+          () -> assertThat(unitOfWorkRepository.managedEntityCount()).isEqualTo(1)
+      );
+    }
+  }
+
+  @DisplayName("[UnitOfWork] commit 전에 다른 쓰레드가 이전 값을 캐시에 넣어도 commit 후에는 변경된 값을 조회한다")
+  @Test
+  void evict_after_commit() throws Exception {
+    // given
+    Item item = new Item("black jean");
+    itemRepository.save(item);
+    Long id = item.getId();
+    ItemRepository cachingRepository = new ItemRepository(CACHE_OPTIONS);
+
+    Item foundInUnitOfWork;
+    Item foundByOtherThread;
+    try (UnitOfWork unitOfWork = UnitOfWork.open()) {
+      unitOfWork.begin();
+
+      // when
+      cachingRepository.update(id, found -> found.changeName("blue jean"));
+      foundInUnitOfWork = cachingRepository.findById(id);
+      foundByOtherThread = CompletableFuture.supplyAsync(() -> cachingRepository.findById(id)).get();
+      unitOfWork.commit();
+    }
+
+    // then
+    Item foundAfterCommit = cachingRepository.findById(id);
+
+    assertAll(
+        () -> assertThat(foundInUnitOfWork.getName()).isEqualTo("blue jean"),
+        () -> assertThat(foundByOtherThread.getName()).isEqualTo("black jean"),
+        () -> assertThat(foundAfterCommit.getName()).isEqualTo("blue jean")
+    );
+  }
+
+  @DisplayName("[findById] SHARED 스코프의 EntityManager가 관리하는 엔티티는 준영속 상태로 만들지 않고 그대로 반환한다")
+  @Test
+  void bypass_when_managed() {
+    // given
+    Item item = new Item("black jean");
+    itemRepository.save(item); // SHARED 스코프의 영속성 컨텍스트가 관리한다
+    new ItemRepository(CACHE_OPTIONS).findById(item.getId()); // 캐시에 넣는다
+
+    // when
+    item.changeName("blue jean");
+    Item foundItem = itemRepository.findById(item.getId());
+
+    // then
+    assertAll(
+        () -> assertThat(foundItem).isSameAs(item),
+        () -> assertThat(foundItem.getName()).isEqualTo("blue jean")
+    );
+  }
+
+  @DisplayName("[deleteById] 삭제하면 캐시에서도 제거된다")
+  @Test
+  void invalidate_on_delete() {
+    // given
+    Item item = new Item("black jean");
+    itemRepository.save(item);
+    itemRepository.findById(item.getId());
+
+    // when
+    new ItemRepository().deleteById(item.getId());
+
+    // then
+    assertThat(new ItemRepository(CACHE_OPTIONS).findById(item.getId())).isNull();
+  }
+}
@@ -0,0 +1,178 @@
+package philo.magicsproutjpa.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import philo.magicsproutjpa.business.item.Item;
+import philo.magicsproutjpa.business.item.ItemRepository;
+import philo.magicsproutjpa.core.exception.MimicOptimisticLockException;
+
+class EntityManagerScopeTest {
+
+  static final int THREAD_COUNT = 8;
+  static final int SAVE_COUNT_PER_THREAD = 50;
+
+  static ItemRepository itemRepository = new ItemRepository(MimicJpaOptions.builder()
+      .entityManagerScope(EntityManagerScope.PER_OPERATION)
+      .build());
+
+  @AfterEach
+  void tearDown() {
+    itemRepository.deleteAll();
+  }
+
+  @DisplayName("[PER_OPERATION] 리포지토리 하나를 여러 쓰레드에서 동시에 사용할 수 있다")
+  @Test
+  void shared_between_threads() throws Exception {
+    // given
+    ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+    Callable<Long> task = () -> {
+      for (int i = 0; i < SAVE_COUNT_PER_THREAD; i++) {
+        Item item = new Item("black jean" + i);
+        itemRepository.save(item);
+        itemRepository.findById(item.getId());
+      }
+      return itemRepository.count();
+    };
+
+    // when
+    List<Future<Long>> futures = executorService.invokeAll(
+        IntStream.range(0, THREAD_COUNT).mapToObj(index -> task).toList());
+    for (Future<Long> future : futures) {
+      future.get();
+    }
+    executorService.shutdown();
+
+    // then
+    assertThat(itemRepository.count()).isEqualTo(THREAD_COUNT * SAVE_COUNT_PER_THREAD);
+  }
+
+  @DisplayName("[PER_OPERATION] 반환된 엔티티는 준영속 상태이므로 매번 다른 인스턴스이다")
+  @Test
+  void detached_per_operation() {
+    // given
+    Item item = new Item("black jean");
+    itemRepository.save(item);
+
+    // when
+    Item foundItem1 = itemRepository.findById(item.getId());
+    Item foundItem2 = itemRepository.findById(item.getId());
+
+    // then
+    assertAll(
+        () -> assertThat(foundItem1).isNotSameAs(foundItem2),
+        () -> assertThat(foundItem1.getName()).isEqualTo(foundItem2.getName())
+    );
+  }
+
+  @DisplayName("[UnitOfWork] 열려있는 동안에는 같은 영속성 컨텍스트를 공유한다")
+  @Test
+  void unit_of_work() {
+    // given
+    Item item = new Item("black jean");
+
+    // when
+    Item foundItem;
+    try (UnitOfWork ignored = UnitOfWork.open()) {
+      itemRepository.save(item);
+      foundItem = itemRepository.findById(item.getId());
+    }
+
+    // then
+    assertThat(foundItem).isSameAs(item);
+  }
+
+  @DisplayName("[UnitOfWork] begin 후의 쓰기 작업은 commit 할 때 한 번에 반영된다")
+  @Test
+  void unit_of_work_commit() throws Exception {
+    // given
+    Item item1 = new Item("black jean");
+    Item item2 = new Item("blue jean");
+
+    // when
+    long countBeforeCommit;
+    try (UnitOfWork unitOfWork = UnitOfWork.open()) {
+      unitOfWork.begin();
+      itemRepository.save(item1);
+      itemRepository.save(item2);
+      countBeforeCommit = outsideUnitOfWork(() -> new ItemRepository().count()); // 아직 보이지 않는다
+      unitOfWork.commit();
+    }
+
+    // then
+    assertAll(
+        () -> assertThat(countBeforeCommit).isZero(),
+        () -> assertThat(itemRepository.count()).isEqualTo(2)
+    );
+  }
+
+  @DisplayName("[UnitOfWork] commit 하지 않고 닫거나 rollback 하면 모든 쓰기 작업이 취소된다")
+  @Test
+  void unit_of_work_rollback() {
+    // given
+    Item savedItem = new Item("black jean");
+    itemRepository.save(savedItem);
+
+    // when
+    try (UnitOfWork unitOfWork = UnitOfWork.open()) {
+      unitOfWork.begin();
+      itemRepository.save(new Item("blue jean"));
+      itemRepository.deleteById(savedItem.getId());
+      unitOfWork.rollback();
+    }
+    try (UnitOfWork unitOfWork = UnitOfWork.open()) {
+      unitOfWork.begin();
+      itemRepository.save(new Item("white jean"));
+    } // commit 하지 않고 닫는다
+
+    // then
+    List<Item> items = itemRepository.findAll();
+
+    assertThat(items)
+        .extracting(Item::getName)
+        .containsExactly("black jean");
+  }
+
+  @DisplayName("[UnitOfWork] 트랜잭션 안의 @Version 충돌은 재시도하지 않고 commit에서 MimicOptimisticLockException으로 드러난다")
+  @Test
+  void unit_of_work_optimistic_lock() throws Exception {
+    // given
+    ItemRepository retryingRepository = new ItemRepository(MimicJpaOptions.builder()
+        .optimisticLockMaxAttempts(3)
+        .build());
+    Item item = new Item("black jean");
+    itemRepository.save(item);
+
+    // when, then
+    try (UnitOfWork unitOfWork = UnitOfWork.open()) {
+      unitOfWork.begin();
+      retryingRepository.update(item.getId(), foundItem -> foundItem.changeName("blue jean"));
+      outsideUnitOfWork(() -> new ItemRepository() // 작업 단위 밖에서 먼저 변경한다
+          .update(item.getId(), foundItem -> foundItem.changeName("white jean")));
+
+      assertThatThrownBy(unitOfWork::commit).isInstanceOf(MimicOptimisticLockException.class);
+    }
+  }
+
+  /**
+   * 작업 단위는 쓰레드에 묶이므로 다른 쓰레드에서 작업 단위 밖의 작업을 수행합니다.
+   */
+  private static <T> T outsideUnitOfWork(Callable<T> work) throws Exception {
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      return executorService.submit(work).get();
+    } finally {
+      executorService.shutdown();
+    }
+  }
+}
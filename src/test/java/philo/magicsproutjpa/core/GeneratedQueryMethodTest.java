@@ -0,0 +1,129 @@
+package philo.magicsproutjpa.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import philo.magicsproutjpa.business.person.Person;
+import philo.magicsproutjpa.business.person.PersonNameView;
+import philo.magicsproutjpa.business.person.PersonQueryRepository;
+import philo.magicsproutjpa.business.person.PersonQueryRepository_Impl;
+import philo.magicsproutjpa.business.person.PersonRepository;
+
+class GeneratedQueryMethodTest {
+
+  static PersonQueryRepository generatedRepository = new PersonQueryRepository_Impl();
+  static PersonRepository personRepository = new PersonRepository();
+
+  Person iu;
+  Person jayPark;
+  Person philo;
+
+  @BeforeEach
+  void setUp() {
+    iu = new Person("IU", 93);
+    jayPark = new Person("Jay Park", 87);
+    philo = new Person("Philo", 96);
+    generatedRepository.saveAll(List.of(iu, jayPark, philo));
+  }
+
+  @AfterEach
+  void tearDown() {
+    generatedRepository.deleteAll();
+  }
+
+  @DisplayName("[Generated] 생성된 구현체는 컴파일 시점에 만든 메타데이터와 실행 계획을 등록한다")
+  @Test
+  void metadata() {
+    // when
+    RepositoryMetadata<Person, Long> metadata = RepositoryMetadata.of(PersonQueryRepository_Impl.class);
+
+    // then
+    assertAll(
+        () -> assertThat(metadata.getEntityType()).isEqualTo(Person.class),
+        () -> assertThat(metadata.getSelectQuery()).isEqualTo("select e from Person e"),
+        () -> assertThat(metadata.getIdAccessor().apply(iu)).isEqualTo(iu.getId()),
+        () -> assertThat(metadata.getQueryMethodPlans())
+            .containsKeys("findByName", "findSummaryByBirthYear", "updateNameById", "findByNameStartingWith")
+    );
+  }
+
+  @DisplayName("[Generated] 컴파일 시점에 만든 Query Method는 런타임에 해석한 Query Method와 같은 결과를 낸다")
+  @Test
+  void sameResultAsRuntimeQueryMethod() {
+    assertAll(
+        () -> assertThat(ids(generatedRepository.findByName("IU")))
+            .isEqualTo(ids(personRepository.findByName("IU"))),
+        () -> assertThat(ids(generatedRepository.findByNameOrBirthYear("IU", 87)))
+            .containsExactlyInAnyOrderElementsOf(ids(personRepository.findByNameOrBirthYear("IU", 87))),
+        () -> assertThat(ids(generatedRepository.findByBirthYearBetweenOrderByBirthYearDesc(87, 96)))
+            .isEqualTo(ids(personRepository.findByBirthYearBetweenOrderByBirthYearDesc(87, 96))),
+        () -> assertThat(ids(generatedRepository.findTop2ByBirthYearGreaterThanOrderByBirthYearAsc(0)))
+            .isEqualTo(ids(personRepository.findTop2ByBirthYearGreaterThanOrderByBirthYearAsc(0))),
+        () -> assertThat(generatedRepository.countByBirthYearGreaterThanEqual(93))
+            .isEqualTo(personRepository.countByBirthYearGreaterThanEqual(93)),
+        () -> assertThat(generatedRepository.existsByName("Philo")).isTrue(),
+        () -> assertThat(generatedRepository.existsByName("Unknown")).isFalse(),
+        () -> assertThat(ids(generatedRepository.findByNameStartingWith("J")))
+            .isEqualTo(ids(personRepository.findByNameStartingWith("J")))
+    );
+  }
+
+  @DisplayName("[Generated] 스트림, 프로젝션도 런타임에 해석한 Query Method와 같은 결과를 낸다")
+  @Test
+  void sameProjectionAsRuntimeQueryMethod() {
+    // when
+    List<Long> streamedIds;
+    try (Stream<Person> people = generatedRepository.streamByBirthYear(93)) {
+      streamedIds = ids(people.toList());
+    }
+
+    // then
+    assertAll(
+        () -> assertThat(streamedIds).containsExactly(iu.getId()),
+        () -> assertThat(generatedRepository.findSummaryByBirthYear(93))
+            .isEqualTo(personRepository.findSummaryByBirthYear(93)),
+        () -> assertThat(generatedRepository.findViewByBirthYear(87))
+            .extracting(PersonNameView::getName)
+            .containsExactly("Jay Park"),
+        () -> assertThat(generatedRepository.findNameByBirthYear(96))
+            .isEqualTo(personRepository.findNameByBirthYear(96))
+    );
+  }
+
+  @DisplayName("[Generated] 생성된 update Query Method는 조건에 맞는 레코드를 바꾼다")
+  @Test
+  void update() {
+    // when
+    int updatedCount = generatedRepository.updateNameById("Lee Ji-eun", iu.getId());
+
+    // then
+    assertAll(
+        () -> assertThat(updatedCount).isEqualTo(1),
+        () -> assertThat(personRepository.findById(iu.getId()).getName()).isEqualTo("Lee Ji-eun")
+    );
+  }
+
+  @DisplayName("[Generated] 생성된 구현체도 CRUD 메서드를 그대로 사용한다")
+  @Test
+  void crud() {
+    // when
+    generatedRepository.deleteById(jayPark.getId());
+
+    // then
+    assertAll(
+        () -> assertThat(generatedRepository.findById(iu.getId()).getName()).isEqualTo("IU"),
+        () -> assertThat(generatedRepository.existsById(jayPark.getId())).isFalse(),
+        () -> assertThat(generatedRepository.count()).isEqualTo(2)
+    );
+  }
+
+  private static List<Long> ids(List<Person> people) {
+    return people.stream().map(Person::getId).toList();
+  }
+}
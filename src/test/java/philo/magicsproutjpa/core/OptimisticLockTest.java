@@ -0,0 +1,144 @@
+package philo.magicsproutjpa.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import philo.magicsproutjpa.business.item.Item;
+import philo.magicsproutjpa.business.item.ItemRepository;
+import philo.magicsproutjpa.core.exception.MimicOptimisticLockException;
+
+class OptimisticLockTest {
+
+  static final int THREAD_COUNT = 4;
+  static final int UPDATE_COUNT_PER_THREAD = 10;
+
+  static ItemRepository otherRepository = new ItemRepository(MimicJpaOptions.builder()
+      .entityManagerScope(EntityManagerScope.PER_OPERATION)
+      .build());
+
+  @AfterEach
+  void tearDown() {
+    otherRepository.deleteAll();
+  }
+
+  @DisplayName("[save] 다른 트랜잭션이 먼저 변경한 엔티티를 저장하면 MimicOptimisticLockException이 발생한다")
+  @Test
+  void stale_save() {
+    // given
+    Item item = new Item("black jean");
+    otherRepository.save(item);
+    Item staleItem = otherRepository.findById(item.getId());
+    otherRepository.update(item.getId(), foundItem -> foundItem.changeName("blue jean"));
+
+    // when
+    staleItem.changeName("white jean");
+
+    // then
+    assertAll(
+        () -> assertThatThrownBy(() -> otherRepository.save(staleItem))
+            .isInstanceOf(MimicOptimisticLockException.class),
+        () -> assertThat(otherRepository.findById(item.getId()).getName()).isEqualTo("blue jean")
+    );
+  }
+
+  @DisplayName("[update] 재시도하지 않으면 충돌한 변경은 MimicOptimisticLockException으로 실패한다")
+  @Test
+  void conflict_without_retry() {
+    // given
+    ItemRepository itemRepository = new ItemRepository();
+    Item item = new Item("jean");
+    itemRepository.save(item);
+
+    // when, then
+    assertAll(
+        () -> assertThatThrownBy(() -> itemRepository.update(item.getId(), foundItem -> {
+          interfere(item.getId());
+          foundItem.changeName(foundItem.getName() + "-mine");
+        })).isInstanceOf(MimicOptimisticLockException.class),
+        () -> assertThat(otherRepository.findById(item.getId()).getName()).isEqualTo("jean-other")
+    );
+  }
+
+  @DisplayName("[update] 충돌하면 최신 엔티티를 다시 읽어서 변경을 다시 적용한다")
+  @Test
+  void retry_on_conflict() {
+    // given
+    ItemRepository itemRepository = new ItemRepository(MimicJpaOptions.builder()
+        .optimisticLockMaxAttempts(3)
+        .optimisticLockBackoff(Duration.ofMillis(1))
+        .build());
+    Item item = new Item("jean");
+    itemRepository.save(item);
+    AtomicInteger attempts = new AtomicInteger();
+
+    // when
+    Item updatedItem = itemRepository.update(item.getId(), foundItem -> {
+      if (attempts.incrementAndGet() == 1) {
+        interfere(item.getId());
+      }
+      foundItem.changeName(foundItem.getName() + "-mine");
+    });
+
+    // then
+    assertAll(
+        () -> assertThat(attempts).hasValue(2),
+        () -> assertThat(updatedItem.getName()).isEqualTo("jean-other-mine"),
+        () -> assertThat(otherRepository.findById(item.getId()).getName()).isEqualTo("jean-other-mine")
+    );
+  }
+
+  @DisplayName("[update] 여러 쓰레드가 같은 엔티티를 변경해도 재시도로 모든 변경이 반영된다")
+  @Test
+  void concurrent_updates() throws Exception {
+    // given
+    ItemRepository itemRepository = new ItemRepository(MimicJpaOptions.builder()
+        .entityManagerScope(EntityManagerScope.PER_OPERATION)
+        .optimisticLockMaxAttempts(100)
+        .optimisticLockBackoff(Duration.ofMillis(2))
+        .build());
+    Item item = new Item("");
+    itemRepository.save(item);
+
+    ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+    List<Future<?>> futures = new ArrayList<>();
+
+    // when
+    for (int i = 0; i < THREAD_COUNT; i++) {
+      futures.add(executorService.submit(() -> {
+        for (int j = 0; j < UPDATE_COUNT_PER_THREAD; j++) {
+          itemRepository.update(item.getId(), foundItem -> foundItem.changeName(foundItem.getName() + "+"));
+        }
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executorService.shutdown();
+
+    // then
+    Item foundItem = itemRepository.findById(item.getId());
+
+    assertAll(
+        () -> assertThat(foundItem.getName()).hasSize(THREAD_COUNT * UPDATE_COUNT_PER_THREAD),
+        () -> assertThat(foundItem.getVersion()).isEqualTo(THREAD_COUNT * UPDATE_COUNT_PER_THREAD)
+    );
+  }
+
+  /**
+   * 진행 중인 update 트랜잭션과 별개로 다른 EntityManager에서 같은 엔티티를 먼저 변경합니다.
+   */
+  private static void interfere(Long id) {
+    otherRepository.update(id, foundItem -> foundItem.changeName(foundItem.getName() + "-other"));
+  }
+}
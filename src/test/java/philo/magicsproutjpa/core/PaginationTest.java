@@ -0,0 +1,79 @@
+package philo.magicsproutjpa.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import philo.magicsproutjpa.business.item.Item;
+import philo.magicsproutjpa.business.item.ItemRepository;
+import philo.magicsproutjpa.core.exception.MimicInnerException;
+
+class PaginationTest {
+
+  static ItemRepository itemRepository = new ItemRepository();
+
+  @BeforeEach
+  void setUp() {
+    itemRepository.saveAll(IntStream.range(0, 25)
+        .mapToObj(index -> new Item(String.format("item-%02d", index)))
+        .toList());
+  }
+
+  @AfterEach
+  void tearDown() {
+    itemRepository.deleteAll();
+  }
+
+  @DisplayName("[findAll(page, size, sort)] 정렬 조건에 맞춰 페이지 단위로 조회할 수 있다")
+  @Test
+  void offset_pagination() {
+    // when
+    List<Item> secondPage = itemRepository.findAll(1, 10, Sort.desc("name"));
+    List<Item> lastPage = itemRepository.findAll(2, 10, Sort.desc("name"));
+
+    // then
+    assertAll(
+        () -> assertThat(secondPage).hasSize(10),
+        () -> assertThat(secondPage.get(0).getName()).isEqualTo("item-14"),
+        () -> assertThat(lastPage).extracting(Item::getName)
+            .containsExactly("item-04", "item-03", "item-02", "item-01", "item-00")
+    );
+  }
+
+  @DisplayName("[findAllAfter] 이전 페이지의 마지막 id 다음부터 조회할 수 있다")
+  @Test
+  void keyset_pagination() {
+    // given
+    List<Item> allItems = new ArrayList<>();
+
+    // when
+    List<Item> page = itemRepository.findAllAfter(null, 10);
+    while (!page.isEmpty()) {
+      allItems.addAll(page);
+      Long lastId = page.get(page.size() - 1).getId();
+      page = itemRepository.findAllAfter(lastId, 10);
+    }
+
+    // then
+    assertThat(allItems).extracting(Item::getName)
+        .containsExactlyElementsOf(IntStream.range(0, 25)
+            .mapToObj(index -> String.format("item-%02d", index))
+            .toList());
+  }
+
+  @DisplayName("엔티티에 없는 필드로는 정렬할 수 없다")
+  @Test
+  void unknown_sort_property() {
+
+    assertThatThrownBy(() -> itemRepository.findAll(0, 10, Sort.asc("price")))
+        .isInstanceOf(MimicInnerException.class)
+        .hasMessage("Unknown sort property: price");
+  }
+}
@@ -0,0 +1,99 @@
+package philo.magicsproutjpa.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import philo.magicsproutjpa.business.item.Item;
+import philo.magicsproutjpa.business.item.ItemRepository;
+
+class PersistenceContextPolicyTest {
+
+  static ItemRepository cleanUpRepository = new ItemRepository();
+
+  @AfterEach
+  void tearDown() {
+    cleanUpRepository.deleteAll();
+  }
+
+  @DisplayName("[RETAIN] 저장하거나 조회한 엔티티는 계속 관리된다")
+  @Test
+  void retain() {
+    // given
+    ItemRepository itemRepository = repositoryWith(PersistenceContextPolicy.RETAIN);
+
+    // when
+    saveItems(itemRepository, 20);
+
+    // then
+    assertThat(itemRepository.managedEntityCount()).isEqualTo(20);
+  }
+
+  @DisplayName("[CLEAR_AFTER_OPERATION] 작업이 끝날 때마다 영속성 컨텍스트를 비운다")
+  @Test
+  void clear_after_operation() {
+    // given
+    ItemRepository itemRepository = repositoryWith(PersistenceContextPolicy.CLEAR_AFTER_OPERATION);
+
+    // when
+    saveItems(itemRepository, 20);
+    List<Item> all = itemRepository.findAll();
+
+    // then
+    assertAll(
+        () -> assertThat(all).hasSize(20),
+        () -> assertThat(itemRepository.managedEntityCount()).isZero()
+    );
+  }
+
+  @DisplayName("[CLEAR_AFTER_THRESHOLD] 관리되는 엔티티가 기준을 넘으면 영속성 컨텍스트를 비운다")
+  @Test
+  void clear_after_threshold() {
+    // given
+    ItemRepository itemRepository = new ItemRepository(MimicJpaOptions.builder()
+        .persistenceContextPolicy(PersistenceContextPolicy.CLEAR_AFTER_THRESHOLD)
+        .managedEntityThreshold(10)
+        .build());
+
+    // when
+    saveItems(itemRepository, 25);
+
+    // then
+    assertThat(itemRepository.managedEntityCount()).isLessThanOrEqualTo(10);
+  }
+
+  @DisplayName("[DETACH_RESULTS] 조회한 엔티티는 준영속 상태로 반환한다")
+  @Test
+  void detach_results() {
+    // given
+    saveItems(cleanUpRepository, 20);
+    ItemRepository itemRepository = repositoryWith(PersistenceContextPolicy.DETACH_RESULTS);
+
+    // when
+    List<Item> all = itemRepository.findAll();
+    Item foundItem = itemRepository.findById(all.get(0).getId());
+
+    // then
+    assertAll(
+        () -> assertThat(all).hasSize(20),
+        () -> assertThat(foundItem).isNotNull(),
+        () -> assertThat(itemRepository.managedEntityCount()).isZero()
+    );
+  }
+
+  private static ItemRepository repositoryWith(PersistenceContextPolicy policy) {
+    return new ItemRepository(MimicJpaOptions.builder()
+        .persistenceContextPolicy(policy)
+        .build());
+  }
+
+  private static void saveItems(ItemRepository itemRepository, int count) {
+    IntStream.range(0, count)
+        .mapToObj(index -> new Item("black jean" + index))
+        .forEach(itemRepository::save);
+  }
+}
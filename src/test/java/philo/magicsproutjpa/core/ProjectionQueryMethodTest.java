@@ -0,0 +1,66 @@
+package philo.magicsproutjpa.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import philo.magicsproutjpa.business.person.Person;
+import philo.magicsproutjpa.business.person.PersonNameView;
+import philo.magicsproutjpa.business.person.PersonRepository;
+import philo.magicsproutjpa.business.person.PersonSummary;
+
+class ProjectionQueryMethodTest {
+
+  static PersonRepository personRepository = new PersonRepository();
+
+  @BeforeEach
+  void setUp() {
+    personRepository.save(new Person("IU", 93));
+    personRepository.save(new Person("Jay Park", 87));
+  }
+
+  @AfterEach
+  void tearDown() {
+    personRepository.deleteAll();
+  }
+
+  @DisplayName("[Projection] record로 필요한 필드만 조회할 수 있다")
+  @Test
+  void recordProjection() {
+    // given
+    int managedEntityCount = personRepository.managedEntityCount();
+
+    // when
+    List<PersonSummary> summaries = personRepository.findSummaryByBirthYear(93);
+
+    // then
+    assertAll(
+        () -> assertThat(summaries).containsExactly(new PersonSummary("IU", 93)),
+        () -> assertThat(personRepository.managedEntityCount()).isEqualTo(managedEntityCount)
+    );
+  }
+
+  @DisplayName("[Projection] interface로 필요한 필드만 조회할 수 있다")
+  @Test
+  void interfaceProjection() {
+    // when
+    List<PersonNameView> views = personRepository.findViewByBirthYear(87);
+
+    // then
+    assertThat(views).extracting(PersonNameView::getName).containsExactly("Jay Park");
+  }
+
+  @DisplayName("[Projection] find{필드}By{조건}으로 필드 하나의 값만 조회할 수 있다")
+  @Test
+  void scalarProjection() {
+    // when
+    List<String> names = personRepository.findNameByBirthYear(93);
+
+    // then
+    assertThat(names).containsExactly("IU");
+  }
+}
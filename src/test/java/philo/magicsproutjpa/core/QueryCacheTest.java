@@ -0,0 +1,107 @@
+package philo.magicsproutjpa.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import philo.magicsproutjpa.business.person.Person;
+import philo.magicsproutjpa.business.person.PersonRepository;
+import philo.magicsproutjpa.core.cache.CacheStats;
+
+class QueryCacheTest {
+
+  static final MimicJpaOptions CACHE_OPTIONS = MimicJpaOptions.builder()
+      .queryCacheMaxSize(100)
+      .build();
+
+  static PersonRepository personRepository = new PersonRepository(CACHE_OPTIONS);
+
+  @AfterEach
+  void tearDown() {
+    personRepository.deleteAll();
+  }
+
+  @DisplayName("[invokeQueryMethod] 같은 조건의 두 번째 호출은 캐시된 id 목록으로 같은 순서의 결과를 찾는다")
+  @Test
+  void hit_with_same_arguments() {
+    // given
+    personRepository.save(new Person("IU", 93));
+    personRepository.save(new Person("Jenny", 93));
+    personRepository.save(new Person("Karina", 0));
+    List<Person> firstResult = personRepository.findBirthYear(93);
+    CacheStats before = personRepository.queryCacheStats();
+
+    // when
+    List<Person> secondResult = new PersonRepository(CACHE_OPTIONS).findBirthYear(93);
+
+    // then
+    CacheStats after = personRepository.queryCacheStats();
+
+    assertAll(
+        () -> assertThat(secondResult).extracting(Person::getId)
+            .containsExactlyElementsOf(firstResult.stream().map(Person::getId).toList()),
+        () -> assertThat(after.hitCount() - before.hitCount()).isEqualTo(1),
+        () -> assertThat(personRepository.findBirthYear(0)).extracting(Person::getName).containsExactly("Karina")
+    );
+  }
+
+  @DisplayName("[invokeQueryMethod] 캐시된 id 목록이 batchSize보다 많으면 나눠서 조회해도 같은 순서의 결과를 찾는다")
+  @Test
+  void hit_with_chunked_reload() {
+    // given
+    MimicJpaOptions smallBatchOptions = MimicJpaOptions.builder()
+        .queryCacheMaxSize(100)
+        .batchSize(2)
+        .build();
+    for (int i = 0; i < 5; i++) {
+      personRepository.save(new Person("IU" + i, 93));
+    }
+    List<Person> firstResult = new PersonRepository(smallBatchOptions).findBirthYear(93);
+    CacheStats before = personRepository.queryCacheStats();
+
+    // when
+    List<Person> secondResult = new PersonRepository(smallBatchOptions).findBirthYear(93);
+
+    // then
+    CacheStats after = personRepository.queryCacheStats();
+
+    assertAll(
+        () -> assertThat(secondResult).extracting(Person::getId)
+            .containsExactlyElementsOf(firstResult.stream().map(Person::getId).toList()),
+        () -> assertThat(secondResult).hasSize(5),
+        () -> assertThat(after.hitCount() - before.hitCount()).isEqualTo(1)
+    );
+  }
+
+  @DisplayName("[save] 저장하면 같은 엔티티 타입의 결과 캐시가 무효화된다")
+  @Test
+  void invalidate_on_save() {
+    // given
+    personRepository.save(new Person("IU", 93));
+    personRepository.findBirthYear(93);
+
+    // when
+    new PersonRepository().save(new Person("Jenny", 93));
+
+    // then
+    assertThat(personRepository.findBirthYear(93)).hasSize(2);
+  }
+
+  @DisplayName("[deleteById] 삭제하면 같은 엔티티 타입의 결과 캐시가 무효화된다")
+  @Test
+  void invalidate_on_delete() {
+    // given
+    Person person = new Person("IU", 93);
+    personRepository.save(person);
+    personRepository.findBirthYear(93);
+
+    // when
+    new PersonRepository().deleteById(person.getId());
+
+    // then
+    assertThat(personRepository.findBirthYear(93)).isEmpty();
+  }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -83,4 +84,147 @@ class QueryMethodRepositoryTest {
         () -> assertThat(foundFirstPerson.getId()).isEqualTo(person2.getId())
     );
   }
-}
\ No newline at end of file
+
+  @DisplayName("[Query Method:: Stream] birthYear를 기준으로 Stream으로 찾을 수 있다")
+  @Test
+  void streamQueryMethodByBirthYear() {
+    // given
+    Person person1 = new Person("Philo", 93);
+    Person person2 = new Person("IU", 93);
+    Person person3 = new Person("Jay Park", 87);
+    personRepository.save(person1);
+    personRepository.save(person2);
+    personRepository.save(person3);
+
+    // when
+    List<String> foundNames;
+    try (Stream<Person> foundPeople = personRepository.streamByBirthYear(93)) {
+      foundNames = foundPeople.map(Person::getName).toList();
+    }
+
+    // then
+    assertThat(foundNames).containsExactlyInAnyOrder("Philo", "IU");
+  }
+
+  @DisplayName("[Query Method:: Keyword] Or, Between, StartingWith, In 조건으로 찾을 수 있다")
+  @Test
+  void queryMethodKeywords() {
+    // given
+    personRepository.save(new Person("IU", 93));
+    personRepository.save(new Person("Jay Park", 87));
+    personRepository.save(new Person("Jennie", 96));
+    personRepository.save(new Person("Karina", 0));
+
+    // when & then
+    assertAll(
+        () -> assertThat(personRepository.findByNameOrBirthYear("IU", 87))
+            .extracting(Person::getName).containsExactlyInAnyOrder("IU", "Jay Park"),
+        () -> assertThat(personRepository.findByBirthYearBetweenOrderByBirthYearDesc(87, 96))
+            .extracting(Person::getName).containsExactly("Jennie", "IU", "Jay Park"),
+        () -> assertThat(personRepository.findByNameStartingWith("J"))
+            .extracting(Person::getName).containsExactlyInAnyOrder("Jay Park", "Jennie"),
+        () -> assertThat(personRepository.findByNameIn(List.of("IU", "Karina")))
+            .extracting(Person::getName).containsExactlyInAnyOrder("IU", "Karina")
+    );
+  }
+
+  @DisplayName("[Query Method:: Keyword] StartingWith는 값의 %, _, \\를 와일드카드가 아닌 문자로 찾는다")
+  @Test
+  void startingWithEscapesWildcards() {
+    // given
+    personRepository.save(new Person("50% off", 93));
+    personRepository.save(new Person("500 club", 93));
+    personRepository.save(new Person("a_b", 93));
+    personRepository.save(new Person("axb", 93));
+    personRepository.save(new Person("C:\\temp", 93));
+    personRepository.save(new Person("C:temp", 93));
+
+    // when & then
+    assertAll(
+        () -> assertThat(personRepository.findByNameStartingWith("50%"))
+            .extracting(Person::getName).containsExactly("50% off"),
+        () -> assertThat(personRepository.findByNameStartingWith("a_"))
+            .extracting(Person::getName).containsExactly("a_b"),
+        () -> assertThat(personRepository.findByNameStartingWith("C:\\"))
+            .extracting(Person::getName).containsExactly("C:\\temp")
+    );
+  }
+
+  @DisplayName("[Query Method:: Top] 정렬 후 N개만 찾는다")
+  @Test
+  void queryMethodTop() {
+    // given
+    personRepository.save(new Person("IU", 93));
+    personRepository.save(new Person("Jay Park", 87));
+    personRepository.save(new Person("Jennie", 96));
+    personRepository.save(new Person("Karina", 0));
+
+    // when
+    List<Person> foundPeople = personRepository.findTop2ByBirthYearGreaterThanOrderByBirthYearAsc(0);
+
+    // then
+    assertThat(foundPeople).extracting(Person::getName).containsExactly("Jay Park", "IU");
+  }
+
+  @DisplayName("[Query Method:: exists, count] 엔티티를 읽지 않고 존재 여부와 개수를 구한다")
+  @Test
+  void existsAndCountQueryMethod() {
+    // given
+    personRepository.save(new Person("IU", 93));
+    personRepository.save(new Person("Jay Park", 87));
+    personRepository.save(new Person("Jennie", 96));
+    PersonRepository otherRepository = new PersonRepository();
+
+    // when & then
+    assertAll(
+        () -> assertThat(otherRepository.existsByName("IU")).isTrue(),
+        () -> assertThat(otherRepository.existsByName("Karina")).isFalse(),
+        () -> assertThat(otherRepository.countByBirthYearGreaterThanEqual(93)).isEqualTo(2),
+        () -> assertThat(otherRepository.managedEntityCount()).isZero()
+    );
+  }
+
+  @DisplayName("[Query Method] 접두어만 같은 도우미 메서드가 있어도 리포지토리를 생성할 수 있다")
+  @Test
+  void helperMethodsAreNotQueryMethods() {
+    // given
+    HelperMethodRepository repository = new HelperMethodRepository();
+    repository.save(new Person("IU", 93));
+
+    // when
+    Person found = repository.findOrCreate("IU", 93);
+    Person created = repository.findOrCreate("Karina", 0);
+
+    // then
+    assertAll(
+        () -> assertThat(found.getBirthYear()).isEqualTo(93),
+        () -> assertThat(created.getId()).isNotNull(),
+        () -> assertThat(repository.countByName("Karina")).isEqualTo(1)
+    );
+  }
+
+  static class HelperMethodRepository extends MimicJpaRepository<Person, Long> {
+
+    public List<Person> findByName(String name) {
+      return invokeQueryMethod(name);
+    }
+
+    public long countByName(String name) {
+      return invokeCountQueryMethod(name);
+    }
+
+    public Person findOrCreate(String name, int birthYear) {
+      return findByName(name).stream()
+          .findFirst()
+          .orElseGet(() -> {
+            Person person = new Person(name, birthYear);
+            save(person);
+            return person;
+          });
+    }
+
+    public void updateCache() {
+      // 접두어만 update인 도우미 메서드
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package philo.magicsproutjpa.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import philo.magicsproutjpa.business.item.Item;
+import philo.magicsproutjpa.business.item.ItemRepository;
+import philo.magicsproutjpa.core.support.EntityManagerFactoryFacade;
+import philo.magicsproutjpa.core.support.FactoryProfile;
+
+/**
+ * 프라이머리와 레플리카를 서로 다른 H2 DB로 띄워서 확인합니다.
+ * <br>
+ * 복제는 일어나지 않으므로 레플리카에만 있는 데이터가 보이면 레플리카에서 읽은 것입니다.
+ */
+class ReadWriteSplittingTest {
+
+  static final String PRIMARY = "rw-primary";
+  static final String REPLICA = "rw-replica";
+
+  ItemRepository primaryRepository = repositoryOf(PRIMARY);
+  ItemRepository replicaRepository = repositoryOf(REPLICA);
+
+  @BeforeAll
+  static void setUp() {
+    register(PRIMARY);
+    register(REPLICA);
+  }
+
+  @AfterAll
+  static void tearDown() {
+    EntityManagerFactoryFacade.close(PRIMARY);
+    EntityManagerFactoryFacade.close(REPLICA);
+  }
+
+  @AfterEach
+  void clean() {
+    primaryRepository.deleteAll();
+    replicaRepository.deleteAll();
+  }
+
+  @DisplayName("[읽기] 조회는 레플리카에서, 쓰기는 프라이머리에서 수행한다")
+  @Test
+  void splitting() {
+    // given
+    ItemRepository routedRepository = routedRepository(Duration.ZERO);
+    replicaRepository.save(new Item("replica jean"));
+
+    // when
+    routedRepository.save(new Item("primary jean"));
+
+    // then
+    assertAll(
+        () -> assertThat(routedRepository.findAll()).extracting(Item::getName).containsExactly("replica jean"),
+        () -> assertThat(routedRepository.count()).isEqualTo(1),
+        () -> assertThat(primaryRepository.findAll()).extracting(Item::getName).containsExactly("primary jean")
+    );
+  }
+
+  @DisplayName("[read-your-writes] 쓰기 직후에는 같은 쓰레드의 조회가 프라이머리로 간다")
+  @Test
+  void stickyAfterWrite() {
+    // given
+    ItemRepository routedRepository = routedRepository(Duration.ofMinutes(1));
+    Item item = new Item("black jean");
+
+    // when
+    routedRepository.save(item);
+
+    // then
+    assertThat(routedRepository.findById(item.getId())).isNotNull();
+  }
+
+  @DisplayName("[read-your-writes] UnitOfWork에서는 쓰기 후 작업 단위가 끝날 때까지 프라이머리에서 읽는다")
+  @Test
+  void stickyInUnitOfWork() {
+    // given
+    ItemRepository routedRepository = routedRepository(Duration.ZERO);
+    replicaRepository.save(new Item("replica jean"));
+    Item item = new Item("primary jean");
+
+    try (UnitOfWork unitOfWork = UnitOfWork.open(PRIMARY)) {
+      List<Item> beforeWrite = routedRepository.findAll();
+
+      // when
+      routedRepository.save(item);
+
+      // then
+      assertAll(
+          () -> assertThat(beforeWrite).extracting(Item::getName).containsExactly("replica jean"),
+          () -> assertThat(routedRepository.findById(item.getId())).isSameAs(item)
+      );
+    }
+    assertThat(routedRepository.findAll()).extracting(Item::getName).containsExactly("replica jean");
+  }
+
+  @DisplayName("[캐시] 레플리카에서 읽은 결과는 findById, Query Method 캐시에 넣지 않는다")
+  @Test
+  void notCachedFromReplica() {
+    // given
+    CachedItemRepository routedRepository = new CachedItemRepository(MimicJpaOptions.builder()
+        .factoryName(PRIMARY)
+        .replicaFactoryNames(List.of(REPLICA))
+        .replicaStickyWindow(Duration.ZERO)
+        .entityCacheMaxSize(100)
+        .queryCacheMaxSize(100)
+        .build());
+    Item item = new Item("replica jean");
+    replicaRepository.save(item);
+
+    // when
+    routedRepository.findById(item.getId());
+    routedRepository.findByName("replica jean");
+
+    // then
+    assertAll(
+        () -> assertThat(routedRepository.findById(item.getId())).isNotNull(),
+        () -> assertThat(routedRepository.findByName("replica jean")).hasSize(1),
+        () -> assertThat(routedRepository.entityCacheStats().size()).isZero(),
+        () -> assertThat(routedRepository.entityCacheStats().hitCount()).isZero(),
+        () -> assertThat(routedRepository.queryCacheStats().size()).isZero()
+    );
+  }
+
+  static class CachedItemRepository extends MimicJpaRepository<Item, Long> {
+
+    CachedItemRepository(MimicJpaOptions options) {
+      super(options);
+    }
+
+    public List<Item> findByName(String name) {
+      return invokeQueryMethod(name);
+    }
+  }
+
+  private static ItemRepository routedRepository(Duration stickyWindow) {
+    return new ItemRepository(MimicJpaOptions.builder()
+        .factoryName(PRIMARY)
+        .replicaFactoryNames(List.of(REPLICA))
+        .replicaStickyWindow(stickyWindow)
+        .build());
+  }
+
+  private static ItemRepository repositoryOf(String factoryName) {
+    return new ItemRepository(MimicJpaOptions.builder()
+        .factoryName(factoryName)
+        .entityManagerScope(EntityManagerScope.PER_OPERATION)
+        .build());
+  }
+
+  private static void register(String factoryName) {
+    EntityManagerFactoryFacade.builder(factoryName)
+        .profile(FactoryProfile.builder()
+            .schemaGeneration("create")
+            .build())
+        .jdbcUrl("jdbc:h2:mem:" + factoryName + ";DB_CLOSE_DELAY=-1")
+        .register();
+  }
+}
@@ -0,0 +1,55 @@
+package philo.magicsproutjpa.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import philo.magicsproutjpa.business.item.Item;
+import philo.magicsproutjpa.business.item.ItemRepository;
+import philo.magicsproutjpa.business.person.Person;
+import philo.magicsproutjpa.business.person.PersonRepository;
+
+class RepositoryMetadataTest {
+
+  @DisplayName("[of] 같은 리포지토리 클래스는 메타데이터를 한 번만 계산해서 공유한다")
+  @Test
+  void shared_per_repository_class() {
+    // when
+    RepositoryMetadata<Item, Long> metadata = RepositoryMetadata.of(ItemRepository.class);
+
+    // then
+    assertAll(
+        () -> assertThat(RepositoryMetadata.<Item, Long>of(ItemRepository.class)).isSameAs(metadata),
+        () -> assertThat(RepositoryMetadata.of(PersonRepository.class)).isNotSameAs(metadata),
+        () -> assertThat(metadata.getEntityType()).isEqualTo(Item.class),
+        () -> assertThat(metadata.getEntityName()).isEqualTo("Item"),
+        () -> assertThat(metadata.getIdAttributeName()).isEqualTo("id"),
+        () -> assertThat(metadata.getSelectQuery()).isEqualTo("select e from Item e")
+    );
+  }
+
+  @DisplayName("[of] 등록된 메타데이터가 있다면 리플렉션으로 엔티티를 해석하지 않는다")
+  @Test
+  void registered_metadata() {
+    // when
+    RepositoryMetadata<Person, Long> metadata = RepositoryMetadata.of(RegisteredPersonRepository.class);
+
+    // then
+    assertAll(
+        () -> assertThat(metadata.getIdAccessor().apply(new Person("IU", 93))).isEqualTo(42L),
+        () -> assertThat(metadata.getEntityAttributes()).containsExactlyInAnyOrder("id", "name"),
+        () -> assertThat(metadata.getSelectByIdsQuery()).isEqualTo("select e from Person e where e.id in ?1")
+    );
+  }
+
+  static class RegisteredPersonRepository extends MimicJpaRepository<Person, Long> {
+
+    static {
+      GeneratedRepositoryMetadata.<Person, Long>of(Person.class)
+          .id("id", person -> 42L, true)
+          .attributes("id", "name")
+          .register(RegisteredPersonRepository.class);
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package philo.magicsproutjpa.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import philo.magicsproutjpa.business.item.Item;
+import philo.magicsproutjpa.core.metrics.OperationStats;
+
+class RepositoryMetricsTest {
+
+  MetricsItemRepository itemRepository = new MetricsItemRepository();
+
+  @AfterEach
+  void tearDown() {
+    itemRepository.deleteAll();
+  }
+
+  @DisplayName("[operationStats] 작업별 호출 수, 반환 행 수, SQL 수를 기록한다")
+  @Test
+  void operationStats() {
+    // given
+    itemRepository.saveAll(List.of(new Item("black jean"), new Item("blue jean")));
+
+    // when
+    itemRepository.findAll();
+    itemRepository.findAll();
+
+    // then
+    OperationStats findAll = findStats("findAll");
+    assertAll(
+        () -> assertThat(findAll.getInvocationCount()).isEqualTo(2),
+        () -> assertThat(findAll.getRowCount()).isEqualTo(4),
+        () -> assertThat(findAll.getSqlStatementCount()).isEqualTo(2),
+        () -> assertThat(findAll.getErrorCount()).isZero(),
+        () -> assertThat(findAll.getP50Nanos()).isPositive(),
+        () -> assertThat(findAll.getP999Nanos()).isLessThanOrEqualTo(findAll.getMaxNanos())
+    );
+  }
+
+  @DisplayName("[operationStats] 예외가 발생한 작업은 에러로 기록한다")
+  @Test
+  void errorCount() {
+    // when
+    assertThatThrownBy(() -> itemRepository.findAll(-1, 10, Sort.asc("name")));
+
+    // then
+    assertThat(findStats("findAll(page)").getErrorCount()).isEqualTo(1);
+  }
+
+  @DisplayName("[JMX] 리포지토리 클래스마다 MBean으로 노출한다")
+  @Test
+  void mbean() throws Exception {
+    // given
+    itemRepository.count();
+    ObjectName objectName = new ObjectName("philo.magicsproutjpa:type=RepositoryMetrics,name="
+        + ObjectName.quote(MetricsItemRepository.class.getName()));
+
+    // when
+    CompositeData[] operations = (CompositeData[]) ManagementFactory.getPlatformMBeanServer()
+        .getAttribute(objectName, "Operations");
+
+    // then
+    assertThat(operations)
+        .extracting(operation -> operation.get("operation"))
+        .contains("count");
+  }
+
+  @DisplayName("[operationStats] metricsEnabled가 아니라면 기록하지 않는다")
+  @Test
+  void disabled() {
+    // given
+    MimicJpaRepository<Item, Long> repository = new DisabledMetricsItemRepository();
+
+    // when
+    repository.count();
+
+    // then
+    assertThat(repository.operationStats()).isEmpty();
+  }
+
+  private OperationStats findStats(String operation) {
+    return itemRepository.operationStats().stream()
+        .filter(stats -> stats.getOperation().equals(operation))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  static class MetricsItemRepository extends MimicJpaRepository<Item, Long> {
+
+    MetricsItemRepository() {
+      super(MimicJpaOptions.builder()
+          .entityManagerScope(EntityManagerScope.PER_OPERATION)
+          .metricsEnabled(true)
+          .build());
+    }
+  }
+
+  static class DisabledMetricsItemRepository extends MimicJpaRepository<Item, Long> {
+
+  }
+}
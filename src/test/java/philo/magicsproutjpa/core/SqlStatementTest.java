@@ -0,0 +1,89 @@
+package philo.magicsproutjpa.core;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static philo.magicsproutjpa.testsupport.SqlAssertions.assertThatSql;
+import static philo.magicsproutjpa.testsupport.SqlAssertions.captureSql;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import philo.magicsproutjpa.business.item.Item;
+import philo.magicsproutjpa.business.item.ItemRepository;
+import philo.magicsproutjpa.core.exception.MimicInnerException;
+import philo.magicsproutjpa.core.metrics.SqlCapture;
+
+/**
+ * 리포지토리 작업이 실행하는 SQL 문의 수를 고정해서 숨은 조회가 다시 생기지 않도록 합니다.
+ */
+class SqlStatementTest {
+
+  ItemRepository itemRepository = new ItemRepository(MimicJpaOptions.builder()
+      .entityManagerScope(EntityManagerScope.PER_OPERATION)
+      .build());
+
+  @AfterEach
+  void tearDown() {
+    itemRepository.deleteAll();
+  }
+
+  @DisplayName("[deleteById] 엔티티를 조회하지 않고 delete 문 하나만 실행한다")
+  @Test
+  void deleteById() {
+    // given
+    Item item = new Item("black jean");
+    itemRepository.save(item);
+
+    // when
+    SqlCapture capture = captureSql(() -> itemRepository.deleteById(item.getId()));
+
+    // then
+    assertThatSql(capture)
+        .hasStatementCount(1)
+        .hasDeleteCount(1);
+  }
+
+  @DisplayName("[save] 새로운 엔티티는 조회 없이 insert 한다")
+  @Test
+  void saveNew() {
+    // given: 시퀀스 값을 미리 할당 받아둔다 (allocationSize)
+    itemRepository.save(new Item("blue jean"));
+
+    // when
+    SqlCapture capture = captureSql(() -> itemRepository.save(new Item("black jean")));
+
+    // then
+    assertThatSql(capture)
+        .hasSelectCount(0)
+        .hasInsertCount(1);
+  }
+
+  @DisplayName("[existsById] select 문 하나만 실행한다")
+  @Test
+  void existsById() {
+    // when
+    SqlCapture capture = captureSql(() -> itemRepository.existsById(1L));
+
+    // then
+    assertThatSql(capture)
+        .hasStatementCount(1)
+        .hasSelectCount(1);
+  }
+
+  @DisplayName("[RepeatedStatementPolicy.FAIL] 작업 하나에서 같은 select 문이 반복되면 예외가 발생한다")
+  @Test
+  void repeatedStatement() {
+    // given
+    List<Item> items = List.of(new Item("black jean"), new Item("blue jean"), new Item("white jean"));
+    itemRepository.saveAll(items);
+    ItemRepository detectingRepository = new ItemRepository(MimicJpaOptions.builder()
+        .entityManagerScope(EntityManagerScope.PER_OPERATION)
+        .repeatedStatementPolicy(RepeatedStatementPolicy.FAIL)
+        .build());
+
+    // when, then: 준영속 엔티티를 merge 하면서 엔티티마다 select 문을 실행한다
+    assertThatThrownBy(() -> detectingRepository.saveAll(items))
+        .isInstanceOf(MimicInnerException.class)
+        .hasMessageStartingWith("Repeated statement in 'saveAll' (3 times): select");
+  }
+}
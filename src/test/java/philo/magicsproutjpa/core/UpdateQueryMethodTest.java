@@ -0,0 +1,129 @@
+package philo.magicsproutjpa.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import philo.magicsproutjpa.business.item.Item;
+import philo.magicsproutjpa.business.item.ItemRepository;
+import philo.magicsproutjpa.business.person.Person;
+import philo.magicsproutjpa.business.person.PersonRepository;
+import philo.magicsproutjpa.core.exception.MimicOptimisticLockException;
+import philo.magicsproutjpa.core.metrics.SqlCapture;
+
+class UpdateQueryMethodTest {
+
+  static PersonRepository personRepository = new PersonRepository();
+  static ItemRepository itemRepository = new ItemRepository(MimicJpaOptions.builder()
+      .entityManagerScope(EntityManagerScope.PER_OPERATION)
+      .build());
+
+  @AfterEach
+  void tearDown() {
+    personRepository.deleteAll();
+    itemRepository.deleteAll();
+  }
+
+  @DisplayName("[Update Query Method] 엔티티를 읽지 않고 update 쿼리 한 번으로 바꾼다")
+  @Test
+  void updateById() {
+    // given
+    Person person = new Person("IU", 93);
+    personRepository.save(person);
+
+    // when
+    int updatedCount;
+    try (SqlCapture capture = SqlCapture.start()) {
+      updatedCount = personRepository.updateNameById("Lee Ji-eun", person.getId());
+
+      assertThat(capture.statements()).hasSize(1);
+    }
+
+    // then
+    assertAll(
+        () -> assertThat(updatedCount).isEqualTo(1),
+        () -> assertThat(personRepository.findById(person.getId()).getName()).isEqualTo("Lee Ji-eun")
+    );
+  }
+
+  @DisplayName("[Update Query Method] 조건에 맞는 레코드를 모두 바꾸고 바뀐 레코드 수를 반환한다")
+  @Test
+  void updateByCondition() {
+    // given
+    personRepository.saveAll(List.of(new Person("IU", 93), new Person("Jay Park", 87), new Person("Philo", 96)));
+
+    // when
+    int updatedCount = personRepository.updateBirthYearByBirthYearLessThan(0, 95);
+
+    // then
+    assertAll(
+        () -> assertThat(updatedCount).isEqualTo(2),
+        () -> assertThat(personRepository.countByBirthYearGreaterThanEqual(1)).isEqualTo(1)
+    );
+  }
+
+  @DisplayName("[Update Query Method] 영속성 컨텍스트에 남아있던 엔티티 대신 바뀐 값을 다시 읽는다")
+  @Test
+  void persistenceContextConsistency() {
+    // given
+    Person person = new Person("IU", 93);
+    personRepository.save(person);
+    Person managedPerson = personRepository.findById(person.getId());
+
+    // when
+    personRepository.updateNameById("Lee Ji-eun", person.getId());
+
+    // then
+    Person foundPerson = personRepository.findById(person.getId());
+
+    assertAll(
+        () -> assertThat(foundPerson).isNotSameAs(managedPerson),
+        () -> assertThat(foundPerson.getName()).isEqualTo("Lee Ji-eun")
+    );
+  }
+
+  @DisplayName("[Update Query Method] 캐시에 남아있던 엔티티도 무효화한다")
+  @Test
+  void cacheConsistency() {
+    // given
+    PersonRepository cachingRepository = new PersonRepository(MimicJpaOptions.builder()
+        .entityManagerScope(EntityManagerScope.PER_OPERATION)
+        .entityCacheMaxSize(100)
+        .build());
+    Person person = new Person("IU", 93);
+    cachingRepository.save(person);
+    cachingRepository.findById(person.getId());
+
+    // when
+    cachingRepository.updateNameById("Lee Ji-eun", person.getId());
+
+    // then
+    assertThat(cachingRepository.findById(person.getId()).getName()).isEqualTo("Lee Ji-eun");
+  }
+
+  @DisplayName("[Update Query Method] @Version이 있는 엔티티는 버전을 올려서 이미 읽어 둔 엔티티의 저장이 충돌한다")
+  @Test
+  void versioned() {
+    // given
+    Item item = new Item("black jean");
+    itemRepository.save(item);
+    Item staleItem = itemRepository.findById(item.getId());
+
+    // when
+    int updatedCount = itemRepository.updateNameByName("blue jean", "black jean");
+
+    // then
+    staleItem.changeName("white jean");
+
+    assertAll(
+        () -> assertThat(updatedCount).isEqualTo(1),
+        () -> assertThat(itemRepository.findById(item.getId()).getVersion()).isEqualTo(staleItem.getVersion() + 1),
+        () -> assertThatThrownBy(() -> itemRepository.save(staleItem))
+            .isInstanceOf(MimicOptimisticLockException.class)
+    );
+  }
+}
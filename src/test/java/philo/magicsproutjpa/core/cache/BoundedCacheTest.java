@@ -0,0 +1,67 @@
+package philo.magicsproutjpa.core.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedCacheTest {
+
+  @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목을 제거한다")
+  @Test
+  void lru_eviction() {
+    // given
+    BoundedCache<Long, String> cache = new BoundedCache<>(2, Duration.ofMinutes(1));
+    cache.put(1L, "one");
+    cache.put(2L, "two");
+    cache.get(1L);
+
+    // when
+    cache.put(3L, "three");
+
+    // then
+    assertAll(
+        () -> assertThat(cache.get(1L)).isEqualTo("one"),
+        () -> assertThat(cache.get(2L)).isNull(),
+        () -> assertThat(cache.get(3L)).isEqualTo("three"),
+        () -> assertThat(cache.stats().evictionCount()).isEqualTo(1)
+    );
+  }
+
+  @DisplayName("유효 시간이 지난 항목은 조회되지 않는다")
+  @Test
+  void ttl_expiration() throws InterruptedException {
+    // given
+    BoundedCache<Long, String> cache = new BoundedCache<>(10, Duration.ofMillis(10));
+    cache.put(1L, "one");
+
+    // when
+    Thread.sleep(30);
+
+    // then
+    assertAll(
+        () -> assertThat(cache.get(1L)).isNull(),
+        () -> assertThat(cache.stats().size()).isZero()
+    );
+  }
+
+  @DisplayName("조회를 시작한 뒤 무효화가 있었다면 오래된 값을 넣지 않는다")
+  @Test
+  void put_if_unchanged() {
+    // given
+    BoundedCache<Long, String> cache = new BoundedCache<>(10, Duration.ofMinutes(1));
+    long generation = cache.generation();
+
+    // when
+    cache.evict(1L);
+    boolean stalePut = cache.putIfUnchanged(1L, "stale", generation);
+
+    // then
+    assertAll(
+        () -> assertThat(stalePut).isFalse(),
+        () -> assertThat(cache.get(1L)).isNull()
+    );
+  }
+}
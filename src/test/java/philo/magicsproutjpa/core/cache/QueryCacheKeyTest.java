@@ -0,0 +1,47 @@
+package philo.magicsproutjpa.core.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryCacheKeyTest {
+
+  @DisplayName("[of] 호출 뒤에 컬렉션 인자를 바꿔도 키는 바뀌지 않는다")
+  @Test
+  void copy_collection_arguments() {
+    // given
+    List<String> names = new ArrayList<>(List.of("IU", "Jenny"));
+    QueryCacheKey key = QueryCacheKey.of("findByNameIn", new Object[]{names, null});
+    int hashCode = key.hashCode();
+
+    // when
+    names.add("Karina");
+
+    // then
+    assertAll(
+        () -> assertThat(key.hashCode()).isEqualTo(hashCode),
+        () -> assertThat(key).isEqualTo(QueryCacheKey.of("findByNameIn", new Object[]{List.of("IU", "Jenny"), null})),
+        () -> assertThat(key).isNotEqualTo(QueryCacheKey.of("findByNameIn", new Object[]{names, null}))
+    );
+  }
+
+  @DisplayName("[of] Set 인자는 순서와 관계없이 같은 원소라면 같은 키가 된다")
+  @Test
+  void set_arguments() {
+    // given
+    LinkedHashSet<String> names = new LinkedHashSet<>(List.of("IU", "Jenny"));
+    HashSet<String> reversedNames = new HashSet<>(List.of("Jenny", "IU"));
+
+    // when
+    QueryCacheKey key = QueryCacheKey.of("findByNameIn", new Object[]{names});
+
+    // then
+    assertThat(key).isEqualTo(QueryCacheKey.of("findByNameIn", new Object[]{reversedNames}));
+  }
+}
@@ -0,0 +1,135 @@
+package philo.magicsproutjpa.core.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MimicPooledDataSourceTest {
+
+  static final String URL = "jdbc:h2:mem:pool-test;DB_CLOSE_DELAY=-1";
+
+  MimicPooledDataSource dataSource;
+
+  @AfterEach
+  void tearDown() {
+    dataSource.close();
+  }
+
+  @DisplayName("[getConnection] 반납한 물리 커넥션을 다시 빌려준다")
+  @Test
+  void reuse() throws SQLException {
+    // given
+    dataSource = createDataSource(1, 2, Duration.ofSeconds(1));
+    Connection connection = dataSource.getConnection();
+    String physicalConnection = connection.toString(); // MimicPooledConnection[물리 커넥션]
+    connection.close();
+
+    // when
+    Connection reusedConnection = dataSource.getConnection();
+
+    // then
+    assertAll(
+        () -> assertThat(reusedConnection.toString()).isEqualTo(physicalConnection),
+        () -> assertThat(connection.isClosed()).isTrue(),
+        () -> assertThat(dataSource.getActiveCount()).isEqualTo(1)
+    );
+    reusedConnection.close();
+  }
+
+  @DisplayName("[getConnection] 최대 크기만큼 빌려준 상태에서는 acquisitionTimeout 후에 예외가 발생한다")
+  @Test
+  void acquisitionTimeout() throws SQLException {
+    // given
+    dataSource = createDataSource(1, 1, Duration.ofMillis(100));
+    Connection connection = dataSource.getConnection();
+
+    // when & then
+    assertThatThrownBy(() -> dataSource.getConnection())
+        .isInstanceOf(SQLTimeoutException.class);
+    connection.close();
+  }
+
+  @DisplayName("[getConnection] 끊어진 커넥션은 버리고 새로 연결한다")
+  @Test
+  void validation() throws SQLException {
+    // given
+    dataSource = createDataSource(1, 1, Duration.ofSeconds(1));
+    Connection connection = dataSource.getConnection();
+    String brokenConnection = connection.toString();
+    abortSession(connection); // 물리 커넥션을 끊는다
+    connection.close();
+
+    // when
+    Connection newConnection = dataSource.getConnection();
+
+    // then
+    assertAll(
+        () -> assertThat(newConnection.toString()).isNotEqualTo(brokenConnection),
+        () -> assertThat(newConnection.isValid(1)).isTrue()
+    );
+    newConnection.close();
+  }
+
+  @DisplayName("[unwrap] 빌려준 커넥션은 물리 커넥션으로 unwrap 할 수 없다")
+  @Test
+  void unwrap() throws SQLException, ClassNotFoundException {
+    // given
+    dataSource = createDataSource(1, 1, Duration.ofSeconds(1));
+    Connection connection = dataSource.getConnection();
+    Class<?> physicalType = Class.forName("org.h2.jdbc.JdbcConnection"); // H2는 런타임 의존성
+
+    // when & then
+    assertAll(
+        () -> assertThatThrownBy(() -> connection.unwrap(physicalType))
+            .isInstanceOf(SQLException.class),
+        () -> assertThat(connection.isWrapperFor(physicalType)).isFalse(),
+        () -> assertThat(connection.unwrap(Connection.class)).isSameAs(connection)
+    );
+    connection.close();
+  }
+
+  @DisplayName("[MimicPooledDataSource] 만들 때 initialSize 개의 커넥션을 미리 연결해 둔다")
+  @Test
+  void initialSize() {
+    // when
+    dataSource = createDataSource(2, 4, Duration.ofSeconds(1));
+
+    // then
+    assertAll(
+        () -> assertThat(dataSource.getIdleCount()).isEqualTo(2),
+        () -> assertThat(dataSource.getActiveCount()).isZero()
+    );
+  }
+
+  private static void abortSession(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet sessionId = statement.executeQuery("select session_id()");
+        Connection adminConnection = DriverManager.getConnection(URL, "sa", "");
+        Statement adminStatement = adminConnection.createStatement()) {
+      sessionId.next();
+      adminStatement.execute("call abort_session(" + sessionId.getInt(1) + ")");
+    }
+  }
+
+  private static MimicPooledDataSource createDataSource(int initialSize, int maxSize, Duration acquisitionTimeout) {
+    return MimicPooledDataSource.builder()
+        .url(URL)
+        .username("sa")
+        .initialSize(initialSize)
+        .maxSize(maxSize)
+        .acquisitionTimeout(acquisitionTimeout)
+        .leakDetectionThreshold(Duration.ofSeconds(10))
+        .build();
+  }
+}
@@ -0,0 +1,57 @@
+package philo.magicsproutjpa.core.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  @DisplayName("[percentile] 12.5% 오차 안에서 분위 값을 구한다")
+  @Test
+  void percentile() {
+    // given
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    // when
+    for (long nanos = 1; nanos <= 10_000; nanos++) {
+      histogram.record(nanos * 1_000);
+    }
+
+    // then
+    assertAll(
+        () -> assertThat(histogram.percentile(0.5)).isCloseTo(5_000_000L, within(625_000L)),
+        () -> assertThat(histogram.percentile(0.99)).isCloseTo(9_900_000L, within(1_237_500L)),
+        () -> assertThat(histogram.percentile(0.999)).isLessThanOrEqualTo(10_000_000L),
+        () -> assertThat(histogram.max()).isEqualTo(10_000_000L)
+    );
+  }
+
+  @DisplayName("[bucket] 값은 자신이 속한 버킷의 상한을 넘지 않는다")
+  @Test
+  void bucketUpperBound() {
+    for (long value : new long[]{0, 7, 8, 9, 15, 16, 1_000, 123_456_789, Long.MAX_VALUE}) {
+      int index = LatencyHistogram.bucketIndex(value);
+      assertThat(LatencyHistogram.bucketUpperBound(index)).isGreaterThanOrEqualTo(value);
+      if (index > 0) {
+        assertThat(LatencyHistogram.bucketUpperBound(index - 1)).isLessThan(value);
+      }
+    }
+  }
+
+  @DisplayName("[reset] 기록이 없다면 0을 반환한다")
+  @Test
+  void reset() {
+    // given
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(1_000);
+
+    // when
+    histogram.reset();
+
+    // then
+    assertThat(histogram.percentile(0.99)).isZero();
+  }
+}
@@ -0,0 +1,113 @@
+package philo.magicsproutjpa.core.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SlowOperationLogTest {
+
+  static final Object[] PARAMETERS = {"IU", 93, List.of("black jean", 1L), null};
+
+  @DisplayName("[record] threshold보다 오래 걸린 작업만 남긴다")
+  @Test
+  void threshold() {
+    // given
+    SlowOperationLog slowOperationLog = new SlowOperationLog("PersonRepository", Duration.ofMillis(100), 10, true);
+
+    // when, then
+    assertAll(
+        () -> assertThat(slowOperationLog.record("findByName", "select e from Person e where e.name = ?1",
+            PARAMETERS, 1, Duration.ofMillis(99).toNanos())).isFalse(),
+        () -> assertThat(slowOperationLog.record("findByName", "select e from Person e where e.name = ?1",
+            PARAMETERS, 1, Duration.ofMillis(100).toNanos())).isTrue()
+    );
+  }
+
+  @DisplayName("[record] 초당 maxLogsPerSecond 개까지만 남긴다")
+  @Test
+  void rateLimit() {
+    // given
+    SlowOperationLog slowOperationLog = new SlowOperationLog("ItemRepository", Duration.ofNanos(1), 2, true);
+    long elapsedNanos = Duration.ofSeconds(1).toNanos();
+
+    // when
+    long loggedCount = 0;
+    for (int i = 0; i < 5; i++) {
+      if (slowOperationLog.record("findAll", "select e from Item e", new Object[0], 0, elapsedNanos)) {
+        loggedCount++;
+      }
+    }
+
+    // then
+    assertThat(loggedCount).isEqualTo(2);
+  }
+
+  @DisplayName("[of] 같은 리포지토리 클래스는 초당 제한을 함께 쓴다")
+  @Test
+  void sharedPerRepositoryClass() {
+    // given
+    class SharedLogRepository {
+    }
+    SlowOperationLog first = SlowOperationLog.of(SharedLogRepository.class, Duration.ofNanos(1), 2, true);
+    SlowOperationLog second = SlowOperationLog.of(SharedLogRepository.class, Duration.ofNanos(1), 2, true);
+    long elapsedNanos = Duration.ofSeconds(1).toNanos();
+
+    // when
+    long loggedCount = 0;
+    for (SlowOperationLog slowOperationLog : List.of(first, second, first, second)) {
+      if (slowOperationLog.record("findAll", "select e from Item e", new Object[0], 0, elapsedNanos)) {
+        loggedCount++;
+      }
+    }
+
+    // then
+    long counted = loggedCount;
+    assertAll(
+        () -> assertThat(second).isSameAs(first),
+        () -> assertThat(counted).isEqualTo(2)
+    );
+  }
+
+  @DisplayName("[SlowOperationLog] 초당 로그 수가 0 이하라면 예외를 던진다")
+  @Test
+  void nonPositiveRate() {
+    // when, then
+    assertAll(
+        () -> assertThatThrownBy(() -> new SlowOperationLog("ItemRepository", Duration.ofMillis(1), 0, true))
+            .isInstanceOf(IllegalArgumentException.class),
+        () -> assertThatThrownBy(() -> new SlowOperationLog("ItemRepository", Duration.ofMillis(1), -1, true))
+            .isInstanceOf(IllegalArgumentException.class)
+    );
+  }
+
+  @DisplayName("[renderParameters] 문자열 파라미터는 길이만 남긴다")
+  @Test
+  void masked() {
+    // given
+    SlowOperationLog slowOperationLog = new SlowOperationLog("PersonRepository", Duration.ofMillis(1), 10, true);
+
+    // when
+    String rendered = slowOperationLog.renderParameters(PARAMETERS);
+
+    // then
+    assertThat(rendered).isEqualTo("[String(2), 93, [String(10), 1], null]");
+  }
+
+  @DisplayName("[renderParameters] 가리지 않도록 설정하면 값을 그대로 남긴다")
+  @Test
+  void unmasked() {
+    // given
+    SlowOperationLog slowOperationLog = new SlowOperationLog("PersonRepository", Duration.ofMillis(1), 10, false);
+
+    // when
+    String rendered = slowOperationLog.renderParameters(PARAMETERS);
+
+    // then
+    assertThat(rendered).isEqualTo("[IU, 93, [black jean, 1], null]");
+  }
+}
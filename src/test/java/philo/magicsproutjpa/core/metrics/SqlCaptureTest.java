@@ -0,0 +1,32 @@
+package philo.magicsproutjpa.core.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SqlCaptureTest {
+
+  @DisplayName("[shapeOf] 리터럴과 in 조건의 파라미터 수가 달라도 같은 모양이다")
+  @Test
+  void shapeOf() {
+    assertAll(
+        () -> assertThat(SqlCapture.shapeOf("select * from item where id in (?, ?, ?)"))
+            .isEqualTo(SqlCapture.shapeOf("select * from item where id in (?)")),
+        () -> assertThat(SqlCapture.shapeOf("select * from item where name = 'a' and id = 1"))
+            .isEqualTo("select * from item where name = ? and id = ?")
+    );
+  }
+
+  @DisplayName("[SqlStatementType] SQL 문의 첫 단어로 종류를 구한다")
+  @Test
+  void statementType() {
+    assertAll(
+        () -> assertThat(SqlStatementType.of("  select 1")).isEqualTo(SqlStatementType.SELECT),
+        () -> assertThat(SqlStatementType.of("insert into item values (?)")).isEqualTo(SqlStatementType.INSERT),
+        () -> assertThat(SqlStatementType.of("delete from item")).isEqualTo(SqlStatementType.DELETE),
+        () -> assertThat(SqlStatementType.of("call next value for item_seq")).isEqualTo(SqlStatementType.OTHER)
+    );
+  }
+}
@@ -0,0 +1,145 @@
+package philo.magicsproutjpa.core.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import philo.magicsproutjpa.business.person.Person;
+import philo.magicsproutjpa.core.exception.MimicJpaInitException;
+
+class QueryMethodParserTest {
+
+  static final Set<String> ATTRIBUTES = Set.of("id", "name", "birthYear");
+
+  @DisplayName("[parse] 조건 키워드를 JPQL 조건으로 바꾼다")
+  @Test
+  void parseCondition() {
+    assertAll(
+        () -> assertThat(whereClauseOf("findByName")).isEqualTo("e.name = ?1"),
+        () -> assertThat(whereClauseOf("findBirthYear")).isEqualTo("e.birthYear = ?1"),
+        () -> assertThat(whereClauseOf("findByNameOrBirthYear")).isEqualTo("e.name = ?1 or e.birthYear = ?2"),
+        () -> assertThat(whereClauseOf("findByNameAndBirthYearOrId"))
+            .isEqualTo("(e.name = ?1 and e.birthYear = ?2) or e.id = ?3"),
+        () -> assertThat(whereClauseOf("findByBirthYearBetween")).isEqualTo("e.birthYear between ?1 and ?2"),
+        () -> assertThat(whereClauseOf("findByBirthYearGreaterThanEqual")).isEqualTo("e.birthYear >= ?1"),
+        () -> assertThat(whereClauseOf("findByBirthYearLessThan")).isEqualTo("e.birthYear < ?1"),
+        () -> assertThat(whereClauseOf("findByNameIn")).isEqualTo("e.name in ?1"),
+        () -> assertThat(whereClauseOf("findByNameNotIn")).isEqualTo("e.name not in ?1"),
+        () -> assertThat(whereClauseOf("findByNameLike")).isEqualTo("e.name like ?1"),
+        () -> assertThat(whereClauseOf("findByNameStartingWith"))
+            .isEqualTo("e.name like concat(?1, '%') escape '\\'"),
+        () -> assertThat(whereClauseOf("findByNameEndingWith"))
+            .isEqualTo("e.name like concat('%', ?1) escape '\\'"),
+        () -> assertThat(whereClauseOf("findByNameContaining"))
+            .isEqualTo("e.name like concat('%', ?1, '%') escape '\\'"),
+        () -> assertThat(whereClauseOf("findByNameIsNullAndBirthYear"))
+            .isEqualTo("e.name is null and e.birthYear = ?1"),
+        () -> assertThat(whereClauseOf("findByNameNot")).isEqualTo("e.name <> ?1")
+    );
+  }
+
+  @DisplayName("[parse] StartingWith, EndingWith, Containing의 값만 like 패턴으로 이스케이프한다")
+  @Test
+  void escapeLikeValue() {
+    // when
+    QueryMethodPlan plan = QueryMethodParser.parse("findByNameContainingOrNameLike", Person.class, ATTRIBUTES);
+
+    // then
+    assertAll(
+        () -> assertThat(plan.getEscapedParameters()).containsExactly(1),
+        () -> assertThat(plan.toParameterValue(1, "50%_\\")).isEqualTo("50\\%\\_\\\\"),
+        () -> assertThat(plan.toParameterValue(2, "50%")).isEqualTo("50%")
+    );
+  }
+
+  @DisplayName("[isQueryMethodName] 접두어 뒤에 By{조건}이 있어야 Query Method로 본다")
+  @Test
+  void queryMethodName() {
+    assertAll(
+        () -> assertThat(QueryMethodParser.isQueryMethodName("findByName")).isTrue(),
+        () -> assertThat(QueryMethodParser.isQueryMethodName("findTop3ByBirthYear")).isTrue(),
+        () -> assertThat(QueryMethodParser.isQueryMethodName("findFirstByOrderByBirthYearDesc")).isTrue(),
+        () -> assertThat(QueryMethodParser.isQueryMethodName("updateNameById")).isTrue(),
+        () -> assertThat(QueryMethodParser.isQueryMethodName("findOrCreate")).isFalse(),
+        () -> assertThat(QueryMethodParser.isQueryMethodName("updateCache")).isFalse(),
+        () -> assertThat(QueryMethodParser.isQueryMethodName("existsInCache")).isFalse(),
+        () -> assertThat(QueryMethodParser.isQueryMethodName("findBy")).isFalse(),
+        () -> assertThat(QueryMethodParser.isFindWithoutBy("findBirthYear")).isTrue(),
+        () -> assertThat(QueryMethodParser.isFindWithoutBy("findByBirthYear")).isFalse()
+    );
+  }
+
+  @DisplayName("[parse] OrderBy와 Top N을 정렬과 최대 결과 수로 바꾼다")
+  @Test
+  void parseOrderByAndLimit() {
+    // when
+    QueryMethodPlan plan = QueryMethodParser.parse(
+        "findTop3ByBirthYearGreaterThanOrderByBirthYearDescName", Person.class, ATTRIBUTES);
+
+    // then
+    assertAll(
+        () -> assertThat(plan.getJpql()).isEqualTo(
+            "select e from Person e where e.birthYear > ?1 order by e.birthYear desc, e.name asc"),
+        () -> assertThat(plan.getParameterCount()).isEqualTo(1),
+        () -> assertThat(plan.getMaxResults()).isEqualTo(3)
+    );
+  }
+
+  @DisplayName("[parse] 조건 없이 정렬만 하거나 개수만 제한할 수 있다")
+  @Test
+  void parseWithoutCondition() {
+    // when
+    QueryMethodPlan plan = QueryMethodParser.parse("findFirstByOrderByBirthYearDesc", Person.class, ATTRIBUTES);
+
+    // then
+    assertAll(
+        () -> assertThat(plan.getJpql()).isEqualTo("select e from Person e order by e.birthYear desc"),
+        () -> assertThat(plan.getMaxResults()).isEqualTo(1)
+    );
+  }
+
+  @DisplayName("[parse] 알 수 없는 필드나 키워드는 예외가 발생한다")
+  @Test
+  void parseUnknownProperty() {
+    assertThatThrownBy(() -> QueryMethodParser.parse("findByNameAndAgeGreaterThan", Person.class, ATTRIBUTES))
+        .isInstanceOf(MimicJpaInitException.class)
+        .hasMessage("Unknown property 'ageGreaterThan' in query method 'findByNameAndAgeGreaterThan'");
+  }
+
+  @DisplayName("[parseUpdate] 바꿀 필드를 set 절로, 조건은 그 뒤의 파라미터로 바꾼다")
+  @Test
+  void parseUpdate() {
+    // when
+    QueryMethodPlan plan = QueryMethodParser.parseUpdate(
+        "updateNameAndBirthYearByIdOrNameIn", Person.class, ATTRIBUTES);
+
+    // then
+    assertAll(
+        () -> assertThat(plan.getJpql()).isEqualTo(
+            "update Person e set e.name = ?1, e.birthYear = ?2 where e.id = ?3 or e.name in ?4"),
+        () -> assertThat(plan.getParameterCount()).isEqualTo(4),
+        () -> assertThat(plan.getResultKind()).isEqualTo(QueryResultKind.UPDATE)
+    );
+  }
+
+  @DisplayName("[parseUpdate] 조건이나 바꿀 필드가 없으면 예외가 발생한다")
+  @Test
+  void parseUpdateWithoutCondition() {
+    assertAll(
+        () -> assertThatThrownBy(() -> QueryMethodParser.parseUpdate("updateName", Person.class, ATTRIBUTES))
+            .isInstanceOf(MimicJpaInitException.class)
+            .hasMessage("No condition in query method 'updateName'"),
+        () -> assertThatThrownBy(() -> QueryMethodParser.parseUpdate("updateById", Person.class, ATTRIBUTES))
+            .isInstanceOf(MimicJpaInitException.class)
+            .hasMessage("No attribute to update in query method 'updateById'")
+    );
+  }
+
+  private static String whereClauseOf(String methodName) {
+    String jpql = QueryMethodParser.parse(methodName, Person.class, ATTRIBUTES).getJpql();
+    return jpql.substring("select e from Person e where ".length());
+  }
+}
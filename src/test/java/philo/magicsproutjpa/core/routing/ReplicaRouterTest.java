@@ -0,0 +1,74 @@
+package philo.magicsproutjpa.core.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import philo.magicsproutjpa.core.exception.MimicJpaInitException;
+
+class ReplicaRouterTest {
+
+  @DisplayName("[ROUND_ROBIN] 레플리카를 차례대로 고른다")
+  @Test
+  void roundRobin() {
+    // given
+    ReplicaRouter router = new ReplicaRouter("rr-primary", List.of("rr-1", "rr-2"),
+        ReplicaRouting.ROUND_ROBIN, Duration.ZERO);
+
+    // when
+    List<String> routed = List.of(
+        router.route(name -> name),
+        router.route(name -> name),
+        router.route(name -> name)
+    );
+
+    // then
+    assertThat(routed).containsExactly("rr-1", "rr-2", "rr-1");
+  }
+
+  @DisplayName("[LEAST_BUSY] 진행 중인 작업이 가장 적은 레플리카를 고른다")
+  @Test
+  void leastBusy() {
+    // given
+    ReplicaRouter router = new ReplicaRouter("lb-primary", List.of("lb-1", "lb-2"),
+        ReplicaRouting.LEAST_BUSY, Duration.ZERO);
+    String busyReplica = router.acquire();
+
+    // when
+    String routed = router.route(name -> name);
+
+    // then
+    assertThat(busyReplica).isEqualTo("lb-1");
+    assertThat(routed).isEqualTo("lb-2");
+    router.release(busyReplica);
+    assertThat(ReplicaRouter.inFlightCount("lb-1")).isZero();
+  }
+
+  @DisplayName("[markWritten] stickyWindow 동안만 프라이머리에서 읽는다")
+  @Test
+  void sticky() throws InterruptedException {
+    // given
+    ReplicaRouter router = new ReplicaRouter("sticky-primary", List.of("sticky-1"),
+        ReplicaRouting.ROUND_ROBIN, Duration.ofMillis(50));
+
+    // when
+    router.markWritten();
+
+    // then
+    assertThat(router.isSticky()).isTrue();
+    Thread.sleep(100);
+    assertThat(router.isSticky()).isFalse();
+  }
+
+  @DisplayName("[생성] 프라이머리를 레플리카로 지정하면 예외가 발생한다")
+  @Test
+  void primaryAsReplica() {
+    assertThatThrownBy(() -> new ReplicaRouter("primary", List.of("primary"),
+        ReplicaRouting.ROUND_ROBIN, Duration.ZERO))
+        .isInstanceOf(MimicJpaInitException.class)
+        .hasMessage("Primary factory cannot be a replica: primary");
+  }
+}
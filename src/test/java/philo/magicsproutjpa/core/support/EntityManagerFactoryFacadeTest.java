@@ -0,0 +1,107 @@
+package philo.magicsproutjpa.core.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import philo.magicsproutjpa.business.item.Item;
+import philo.magicsproutjpa.business.item.ItemRepository;
+import philo.magicsproutjpa.core.MimicJpaOptions;
+import philo.magicsproutjpa.core.exception.MimicJpaInnerException;
+
+class EntityManagerFactoryFacadeTest {
+
+  static final String FACTORY_NAME = "facade-test";
+
+  @BeforeAll
+  static void setUp() {
+    EntityManagerFactoryFacade.builder(FACTORY_NAME)
+        .profile(FactoryProfile.throughput().toBuilder()
+            .schemaGeneration("create")
+            .build())
+        .jdbcUrl("jdbc:h2:mem:facade-test;DB_CLOSE_DELAY=-1")
+        .register();
+  }
+
+  @AfterAll
+  static void tearDown() {
+    EntityManagerFactoryFacade.close(FACTORY_NAME);
+  }
+
+  @DisplayName("[builder] factoryName으로 지정한 EntityManagerFactory의 DB를 사용한다")
+  @Test
+  void namedFactory() {
+    // given
+    ItemRepository defaultRepository = new ItemRepository();
+    ItemRepository namedRepository = new ItemRepository(MimicJpaOptions.builder()
+        .factoryName(FACTORY_NAME)
+        .build());
+    long defaultCount = defaultRepository.count();
+
+    // when
+    namedRepository.save(new Item("black jean"));
+
+    // then
+    assertAll(
+        () -> assertThat(namedRepository.count()).isEqualTo(1),
+        () -> assertThat(defaultRepository.count()).isEqualTo(defaultCount)
+    );
+    namedRepository.deleteAll();
+  }
+
+  @DisplayName("[builder] 같은 이름으로 다시 등록하면 예외가 발생한다")
+  @Test
+  void duplicatedName() {
+    assertThatThrownBy(() -> EntityManagerFactoryFacade.builder(FACTORY_NAME).register())
+        .isInstanceOf(MimicJpaInnerException.class)
+        .hasMessage("EntityManagerFactory is already registered: " + FACTORY_NAME);
+  }
+
+  @DisplayName("[createEntityManager] 등록하지 않은 이름이면 예외가 발생한다")
+  @Test
+  void notRegistered() {
+    assertThatThrownBy(() -> EntityManagerFactoryFacade.createEntityManager("unknown"))
+        .isInstanceOf(MimicJpaInnerException.class)
+        .hasMessage("EntityManagerFactory is not registered: unknown");
+  }
+
+  @DisplayName("[FactoryProfile] 지정한 항목만 Hibernate 설정으로 바꾼다")
+  @Test
+  void profileProperties() {
+    // when
+    Map<String, Object> properties = FactoryProfile.builder()
+        .batchSize(30)
+        .showSql(false)
+        .build()
+        .toProperties();
+
+    // then
+    assertThat(properties).containsOnly(
+        entry(FactoryProfile.BATCH_SIZE, "30"),
+        entry(FactoryProfile.SHOW_SQL, "false")
+    );
+  }
+
+  @DisplayName("[FactoryProfile] showSql과 formatSql은 따로 지정한다")
+  @Test
+  void profileShowSqlWithoutFormat() {
+    // when
+    Map<String, Object> properties = FactoryProfile.builder()
+        .showSql(true)
+        .formatSql(false)
+        .build()
+        .toProperties();
+
+    // then
+    assertThat(properties).containsOnly(
+        entry(FactoryProfile.SHOW_SQL, "true"),
+        entry(FactoryProfile.FORMAT_SQL, "false")
+    );
+  }
+}
@@ -0,0 +1,56 @@
+package philo.magicsproutjpa.core.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import philo.magicsproutjpa.business.person.Person;
+
+class GetterAccessorsTest {
+
+  @DisplayName("[create] getter를 호출하는 Function을 만든다")
+  @Test
+  void create() throws NoSuchMethodException {
+    // given
+    Person person = new Person("IU", 93);
+
+    // when
+    Function<Person, String> nameAccessor = GetterAccessors.create(Person.class.getDeclaredMethod("getName"));
+
+    // then
+    assertThat(nameAccessor.apply(person)).isEqualTo("IU");
+  }
+
+  @DisplayName("[create] 원시 타입을 반환하는 getter는 박싱된 값을 반환한다")
+  @Test
+  void create_primitive() throws NoSuchMethodException {
+    // given
+    Person person = new Person("IU", 93);
+
+    // when
+    Function<Person, Integer> birthYearAccessor =
+        GetterAccessors.create(Person.class.getDeclaredMethod("getBirthYear"));
+
+    // then
+    assertThat(birthYearAccessor.apply(person)).isEqualTo(93);
+  }
+
+  @DisplayName("[create] 람다로 바꿀 수 없는 메서드는 리플렉션으로 호출하는 Function을 만든다")
+  @Test
+  void create_fallback() throws NoSuchMethodException {
+    // given
+    Person person = new Person("IU", 93);
+
+    // when
+    Function<Person, String> accessor =
+        GetterAccessors.create(GetterAccessorsTest.class.getDeclaredMethod("defaultName")); // 인자 수가 맞지 않는다
+
+    // then
+    assertThat(accessor.apply(person)).isEqualTo("unknown");
+  }
+
+  static String defaultName() {
+    return "unknown";
+  }
+}
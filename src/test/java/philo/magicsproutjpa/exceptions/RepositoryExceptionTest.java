@@ -1,13 +1,21 @@
 package philo.magicsproutjpa.exceptions;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.time.Duration;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import philo.magicsproutjpa.business.item.ItemRepository;
+import philo.magicsproutjpa.core.MimicJpaOptions;
 import philo.magicsproutjpa.core.exception.MimicJpaInitException;
 import philo.magicsproutjpa.exceptions.sample.NotIdEntityRepository;
 import philo.magicsproutjpa.exceptions.sample.NotIdGetterRepository;
+import philo.magicsproutjpa.exceptions.sample.NotPersistableEntityRepository;
+import philo.magicsproutjpa.exceptions.sample.NotVersionEntityRepository;
 import philo.magicsproutjpa.exceptions.sample.OneMoreEntityRepository;
+import philo.magicsproutjpa.exceptions.sample.RawTypeRepository;
+import philo.magicsproutjpa.exceptions.sample.UnknownPropertyQueryMethodRepository;
 
 class RepositoryExceptionTest {
 
@@ -40,4 +48,119 @@ class RepositoryExceptionTest {
         .isInstanceOf(MimicJpaInitException.class)
         .hasMessage("Id getter method should exist");
   }
+
+
+  @DisplayName("리포지토리는 엔티티 타입과 ID 타입을 지정해야 한다")
+  @Test
+  void type_arguments_not_exist() {
+
+    assertThatThrownBy(RawTypeRepository::new)
+        .isInstanceOf(MimicJpaInitException.class)
+        .hasMessage("Type arguments not found: " + RawTypeRepository.class.getName());
+  }
+
+
+  @DisplayName("batchSize는 0보다 커야 한다 (saveAll의 flush 주기, deleteAllById의 in 조건 크기)")
+  @Test
+  void batch_size_not_positive() {
+
+    assertAll(
+        () -> assertThatThrownBy(() -> new ItemRepository(MimicJpaOptions.builder().batchSize(0).build()))
+            .isInstanceOf(MimicJpaInitException.class)
+            .hasMessage("batchSize should be positive: 0"),
+        () -> assertThatThrownBy(() -> new ItemRepository(MimicJpaOptions.builder().batchSize(-1).build()))
+            .isInstanceOf(MimicJpaInitException.class)
+            .hasMessage("batchSize should be positive: -1")
+    );
+  }
+
+
+  @DisplayName("Stream 조회의 fetchSize, streamDetachInterval은 0보다 커야 한다")
+  @Test
+  void stream_options_not_positive() {
+
+    assertAll(
+        () -> assertThatThrownBy(() -> new ItemRepository(MimicJpaOptions.builder().streamDetachInterval(0).build()))
+            .isInstanceOf(MimicJpaInitException.class)
+            .hasMessage("streamDetachInterval should be positive: 0"),
+        () -> assertThatThrownBy(() -> new ItemRepository(MimicJpaOptions.builder().fetchSize(-10).build()))
+            .isInstanceOf(MimicJpaInitException.class)
+            .hasMessage("fetchSize should be positive: -10")
+    );
+  }
+
+
+  @DisplayName("반복 횟수, 임계값, 초당 로그 수 설정은 0보다 커야 한다")
+  @Test
+  void count_options_not_positive() {
+
+    assertAll(
+        () -> assertThatThrownBy(() -> new ItemRepository(MimicJpaOptions.builder().optimisticLockMaxAttempts(0).build()))
+            .isInstanceOf(MimicJpaInitException.class)
+            .hasMessage("optimisticLockMaxAttempts should be positive: 0"),
+        () -> assertThatThrownBy(() -> new ItemRepository(MimicJpaOptions.builder().managedEntityThreshold(-1).build()))
+            .isInstanceOf(MimicJpaInitException.class)
+            .hasMessage("managedEntityThreshold should be positive: -1"),
+        () -> assertThatThrownBy(() -> new ItemRepository(MimicJpaOptions.builder().repeatedStatementThreshold(0).build()))
+            .isInstanceOf(MimicJpaInitException.class)
+            .hasMessage("repeatedStatementThreshold should be positive: 0"),
+        () -> assertThatThrownBy(() -> new ItemRepository(MimicJpaOptions.builder().slowOperationLogsPerSecond(0).build()))
+            .isInstanceOf(MimicJpaInitException.class)
+            .hasMessage("slowOperationLogsPerSecond should be positive: 0")
+    );
+  }
+
+
+  @DisplayName("캐시 크기와 시간 설정은 음수일 수 없다")
+  @Test
+  void size_and_duration_options_negative() {
+
+    assertAll(
+        () -> assertThatThrownBy(() -> new ItemRepository(MimicJpaOptions.builder().entityCacheMaxSize(-1).build()))
+            .isInstanceOf(MimicJpaInitException.class)
+            .hasMessage("entityCacheMaxSize should not be negative: -1"),
+        () -> assertThatThrownBy(() -> new ItemRepository(MimicJpaOptions.builder()
+            .queryCacheTtl(Duration.ofSeconds(-1)).build()))
+            .isInstanceOf(MimicJpaInitException.class)
+            .hasMessage("queryCacheTtl should not be negative: PT-1S"),
+        () -> assertThatThrownBy(() -> new ItemRepository(MimicJpaOptions.builder()
+            .replicaStickyWindow(Duration.ofMillis(-1)).build()))
+            .isInstanceOf(MimicJpaInitException.class)
+            .hasMessage("replicaStickyWindow should not be negative: PT-0.001S"),
+        () -> assertThatThrownBy(() -> new ItemRepository(MimicJpaOptions.builder()
+            .slowOperationThreshold(Duration.ofMillis(-100)).build()))
+            .isInstanceOf(MimicJpaInitException.class)
+            .hasMessage("slowOperationThreshold should not be negative: PT-0.1S")
+    );
+  }
+
+
+  @DisplayName("Query Method의 조건 필드는 엔티티에 존재해야 한다")
+  @Test
+  void query_method_property_not_exist() {
+
+    assertThatThrownBy(UnknownPropertyQueryMethodRepository::new)
+        .isInstanceOf(MimicJpaInitException.class)
+        .hasMessage("Unknown property 'age' in query method 'findByAge'");
+  }
+
+
+  @DisplayName("VERSION_NULL 전략을 사용하려면 wrapper 타입의 @Version 필드가 존재해야 한다")
+  @Test
+  void version_strategy_without_version() {
+
+    assertThatThrownBy(NotVersionEntityRepository::new)
+        .isInstanceOf(MimicJpaInitException.class)
+        .hasMessage("Wrapper type version field should exist");
+  }
+
+
+  @DisplayName("PERSISTABLE 전략을 사용하려면 엔티티가 Persistable을 구현해야 한다")
+  @Test
+  void persistable_strategy_without_persistable() {
+
+    assertThatThrownBy(NotPersistableEntityRepository::new)
+        .isInstanceOf(MimicJpaInitException.class)
+        .hasMessage("Entity should implement Persistable");
+  }
 }
@@ -0,0 +1,15 @@
+package philo.magicsproutjpa.exceptions.sample;
+
+import philo.magicsproutjpa.business.person.Person;
+import philo.magicsproutjpa.core.MimicJpaOptions;
+import philo.magicsproutjpa.core.MimicJpaRepository;
+import philo.magicsproutjpa.core.NewEntityStrategy;
+
+public class NotVersionEntityRepository extends MimicJpaRepository<Person, Long> {
+
+  public NotVersionEntityRepository() {
+    super(MimicJpaOptions.builder()
+        .newEntityStrategy(NewEntityStrategy.VERSION_NULL)
+        .build());
+  }
+}
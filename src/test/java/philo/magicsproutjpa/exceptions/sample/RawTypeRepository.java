@@ -0,0 +1,7 @@
+package philo.magicsproutjpa.exceptions.sample;
+
+import philo.magicsproutjpa.core.MimicJpaRepository;
+
+@SuppressWarnings("rawtypes")
+public class RawTypeRepository extends MimicJpaRepository {
+}
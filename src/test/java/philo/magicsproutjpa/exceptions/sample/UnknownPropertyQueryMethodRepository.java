@@ -0,0 +1,12 @@
+package philo.magicsproutjpa.exceptions.sample;
+
+import java.util.List;
+import philo.magicsproutjpa.business.person.Person;
+import philo.magicsproutjpa.core.MimicJpaRepository;
+
+public class UnknownPropertyQueryMethodRepository extends MimicJpaRepository<Person, Long> {
+
+  public List<Person> findByAge(int age) {
+    return invokeQueryMethod(age);
+  }
+}
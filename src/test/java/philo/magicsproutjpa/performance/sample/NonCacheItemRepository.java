@@ -1,6 +1,15 @@
 package philo.magicsproutjpa.performance.sample;
 
+import java.util.Map;
 import philo.magicsproutjpa.business.item.Item;
 
 public class NonCacheItemRepository extends NonCacheMimicJpaRepository<Item, Long> {
+
+  public NonCacheItemRepository() {
+    super();
+  }
+
+  public NonCacheItemRepository(Map<String, Object> properties) {
+    super(properties);
+  }
 }
@@ -12,6 +12,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Map;
 import philo.magicsproutjpa.core.exception.MimicInnerException;
 import philo.magicsproutjpa.core.exception.MimicJpaInnerException;
 import philo.magicsproutjpa.core.support.VoidFunction;
@@ -23,7 +24,18 @@ public abstract class NonCacheMimicJpaRepository<E, K> {
 
   private static final int ENTITY_TYPE_INDEX = 0;
 
-  private final EntityManager entityManager = createEntityManager();
+  private final EntityManager entityManager;
+
+  protected NonCacheMimicJpaRepository() {
+    this(Map.of());
+  }
+
+  /**
+   * @param properties persistence.xml의 설정을 덮어쓸 Hibernate 설정 (예: 벤치마크의 show_sql=false)
+   */
+  protected NonCacheMimicJpaRepository(Map<String, Object> properties) {
+    this.entityManager = createEntityManager(properties);
+  }
 
   public E save(E entity) {
     K id = getIdValue(entity);
@@ -56,9 +68,9 @@ public abstract class NonCacheMimicJpaRepository<E, K> {
     }
   }
 
-  private EntityManager createEntityManager() {
+  private EntityManager createEntityManager(Map<String, Object> properties) {
     EntityManagerFactory entityManagerFactory =
-        Persistence.createEntityManagerFactory("magic-sprout-jpa");
+        Persistence.createEntityManagerFactory("magic-sprout-jpa", properties);
 
     return entityManagerFactory.createEntityManager();
   }
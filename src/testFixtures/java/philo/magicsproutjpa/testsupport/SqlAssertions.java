@@ -0,0 +1,36 @@
+package philo.magicsproutjpa.testsupport;
+
+import philo.magicsproutjpa.core.metrics.SqlCapture;
+
+/**
+ * 리포지토리 작업이 실행한 SQL 문을 검증하는 테스트 도구입니다.
+ *
+ * <pre>{@code
+ * SqlCapture capture = SqlAssertions.captureSql(() -> itemRepository.deleteById(1L));
+ *
+ * assertThatSql(capture)
+ *     .hasStatementCount(1)
+ *     .hasDeleteCount(1)
+ *     .hasNoRepeatedSelects();
+ * }</pre>
+ */
+public final class SqlAssertions {
+
+  private SqlAssertions() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * 작업을 수행하면서 현재 쓰레드에서 실행된 SQL 문을 모읍니다.
+   */
+  public static SqlCapture captureSql(Runnable work) {
+    try (SqlCapture capture = SqlCapture.start()) {
+      work.run();
+      return capture;
+    }
+  }
+
+  public static SqlCaptureAssert assertThatSql(SqlCapture capture) {
+    return new SqlCaptureAssert(capture);
+  }
+}
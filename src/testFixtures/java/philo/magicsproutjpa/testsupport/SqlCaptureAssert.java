@@ -0,0 +1,69 @@
+package philo.magicsproutjpa.testsupport;
+
+import java.util.Map;
+import org.assertj.core.api.AbstractAssert;
+import philo.magicsproutjpa.core.metrics.SqlCapture;
+import philo.magicsproutjpa.core.metrics.SqlStatementType;
+
+/**
+ * {@link SqlCapture}에 모인 SQL 문의 수와 종류를 검증합니다.
+ * <br>
+ * 실패 메시지에는 실행된 SQL 문이 모두 출력됩니다.
+ */
+public class SqlCaptureAssert extends AbstractAssert<SqlCaptureAssert, SqlCapture> {
+
+  SqlCaptureAssert(SqlCapture actual) {
+    super(actual, SqlCaptureAssert.class);
+  }
+
+  public SqlCaptureAssert hasStatementCount(int expected) {
+    isNotNull();
+    int count = actual.statements().size();
+    if (count != expected) {
+      failWithMessage("Expected %d statements but was %d:%n%s", expected, count, statementsText());
+    }
+    return this;
+  }
+
+  public SqlCaptureAssert hasSelectCount(int expected) {
+    return hasCount(SqlStatementType.SELECT, expected);
+  }
+
+  public SqlCaptureAssert hasInsertCount(int expected) {
+    return hasCount(SqlStatementType.INSERT, expected);
+  }
+
+  public SqlCaptureAssert hasUpdateCount(int expected) {
+    return hasCount(SqlStatementType.UPDATE, expected);
+  }
+
+  public SqlCaptureAssert hasDeleteCount(int expected) {
+    return hasCount(SqlStatementType.DELETE, expected);
+  }
+
+  /**
+   * 같은 모양의 SELECT 문이 두 번 이상 실행되지 않았는지 검증합니다. (N+1)
+   */
+  public SqlCaptureAssert hasNoRepeatedSelects() {
+    isNotNull();
+    Map<String, Integer> repeated = actual.shapeCounts(SqlStatementType.SELECT);
+    repeated.values().removeIf(count -> count < 2);
+    if (!repeated.isEmpty()) {
+      failWithMessage("Expected no repeated select statements but was %s:%n%s", repeated, statementsText());
+    }
+    return this;
+  }
+
+  private SqlCaptureAssert hasCount(SqlStatementType type, int expected) {
+    isNotNull();
+    long count = actual.count(type);
+    if (count != expected) {
+      failWithMessage("Expected %d %s statements but was %d:%n%s", expected, type, count, statementsText());
+    }
+    return this;
+  }
+
+  private String statementsText() {
+    return String.join(System.lineSeparator(), actual.statements());
+  }
+}